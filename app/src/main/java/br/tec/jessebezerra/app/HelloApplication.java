@@ -2,18 +2,69 @@ package br.tec.jessebezerra.app;
 
 import br.tec.jessebezerra.app.config.DatabaseConfig;
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.image.Image;
+import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import javafx.stage.StageStyle;
 
-import java.io.IOException;
+import java.util.concurrent.CompletionException;
 
 public class HelloApplication extends Application {
     @Override
-    public void start(Stage stage) throws IOException {
-        FXMLLoader fxmlLoader = new FXMLLoader(HelloApplication.class.getResource("sprint-view.fxml"));
-        Scene scene = new Scene(fxmlLoader.load(), 1200, 800);
+    public void start(Stage stage) {
+        Label faseLabel = new Label("Iniciando...");
+        Stage splash = createSplash(faseLabel);
+        splash.show();
+        
+        new StartupPipeline(fase -> Platform.runLater(() -> faseLabel.setText(fase + "...")))
+                .start()
+                .whenComplete((raiz, erro) -> Platform.runLater(() -> {
+                    splash.close();
+                    if (erro != null) {
+                        showStartupError(erro);
+                        return;
+                    }
+                    showMainStage(stage, raiz);
+                }));
+    }
+
+    private Stage createSplash(Label faseLabel) {
+        Label titulo = new Label("Sistema de Gerenciamento de Sprints");
+        titulo.setStyle("-fx-font-size: 16px; -fx-font-weight: bold;");
+        
+        VBox conteudo = new VBox(12, titulo, new ProgressIndicator(), faseLabel);
+        conteudo.setAlignment(Pos.CENTER);
+        conteudo.setPadding(new Insets(24));
+        
+        Stage splash = new Stage(StageStyle.UNDECORATED);
+        splash.setScene(new Scene(conteudo, 360, 180));
+        return splash;
+    }
+
+    private void showStartupError(Throwable erro) {
+        Throwable causa = erro instanceof CompletionException && erro.getCause() != null ? erro.getCause() : erro;
+        causa.printStackTrace();
+        
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Erro");
+        alert.setHeaderText("Erro ao iniciar a aplicação");
+        alert.setContentText(causa.getMessage());
+        alert.showAndWait();
+        
+        DatabaseConfig.closeConnection();
+        Platform.exit();
+    }
+
+    private void showMainStage(Stage stage, Parent raiz) {
+        Scene scene = new Scene(raiz, 1200, 800);
         
         stage.setTitle("Sistema de Gerenciamento de Sprints");
         
@@ -0,0 +1,128 @@
+package br.tec.jessebezerra.app;
+
+import br.tec.jessebezerra.app.cache.ReferenceDataCache;
+import br.tec.jessebezerra.app.config.DatabaseConfig;
+import br.tec.jessebezerra.app.repository.RepositoryFactory;
+import br.tec.jessebezerra.app.util.WorkingDayCalendar;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Inicialização da aplicação fora da thread do JavaFX.
+ * Banco de dados e dados de referência rodam em sequência, em paralelo com o carregamento
+ * da tela principal e das classes das demais telas. Cada fase informa o tempo gasto.
+ */
+final class StartupPipeline {
+
+    private static final String MAIN_VIEW = "sprint-view.fxml";
+
+    /** Controllers das telas acessadas a partir da tela principal. */
+    private static final List<String> SECONDARY_CONTROLLERS = List.of(
+            "br.tec.jessebezerra.app.controller.FeatureController",
+            "br.tec.jessebezerra.app.controller.HistoriaController",
+            "br.tec.jessebezerra.app.controller.TarefaController",
+            "br.tec.jessebezerra.app.controller.ItemSprintController",
+            "br.tec.jessebezerra.app.controller.TimelineController",
+            "br.tec.jessebezerra.app.controller.MembroController"
+    );
+
+    private final Consumer<String> progresso;
+
+    /**
+     * @param progresso recebe a descrição de cada fase ao ser iniciada (chamado fora da thread do JavaFX)
+     */
+    StartupPipeline(Consumer<String> progresso) {
+        this.progresso = progresso;
+    }
+
+    /**
+     * Inicia as fases e devolve a raiz da tela principal, pronta para ser colocada em uma Scene.
+     */
+    CompletableFuture<Parent> start() {
+        long inicio = System.nanoTime();
+        AtomicInteger contador = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "startup-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        // Registrada antes das fases: a tela principal pode consultar o calendário em paralelo à carga dos dados
+        RepositoryFactory.registerHolidaySource();
+        CompletableFuture<Void> dados = CompletableFuture
+                .runAsync(() -> phase("Banco de dados", DatabaseConfig::initialize), executor)
+                .thenRunAsync(() -> phase("Dados de referência", StartupPipeline::loadReferenceData), executor);
+        
+        // O controller da tela principal consulta o banco; DatabaseConfig.initialize é sincronizado,
+        // então o carregamento aguarda a abertura das conexões sem depender da fase anterior
+        CompletableFuture<Parent> telas = CompletableFuture.supplyAsync(() -> {
+            phase("Classes das telas", StartupPipeline::loadControllerClasses);
+            return phase("Tela principal", StartupPipeline::loadMainView);
+        }, executor);
+        
+        return dados.thenCombine(telas, (ignorado, raiz) -> raiz)
+                .whenComplete((raiz, erro) -> {
+                    executor.shutdown();
+                    if (erro == null) {
+                        System.out.println("Inicialização concluída (" + elapsedMillis(inicio) + " ms)");
+                    }
+                });
+    }
+
+    private void phase(String nome, Runnable fase) {
+        phase(nome, () -> {
+            fase.run();
+            return null;
+        });
+    }
+
+    private <T> T phase(String nome, Supplier<T> fase) {
+        progresso.accept(nome);
+        long inicio = System.nanoTime();
+        T resultado = fase.get();
+        System.out.println("Inicialização - " + nome + ": " + elapsedMillis(inicio) + " ms");
+        return resultado;
+    }
+
+    /**
+     * Carrega os dados de referência e os feriados do calendário, para que as primeiras telas não acessem
+     * o banco na thread do JavaFX.
+     */
+    private static void loadReferenceData() {
+        ReferenceDataCache.preloadAll();
+        WorkingDayCalendar.preload();
+    }
+
+    private static void loadControllerClasses() {
+        ClassLoader loader = StartupPipeline.class.getClassLoader();
+        for (String nome : SECONDARY_CONTROLLERS) {
+            try {
+                Class.forName(nome, true, loader);
+            } catch (ClassNotFoundException e) {
+                System.err.println("Controller não encontrado: " + nome);
+            }
+        }
+    }
+
+    private static Parent loadMainView() {
+        try {
+            return new FXMLLoader(StartupPipeline.class.getResource(MAIN_VIEW)).load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao carregar a tela principal", e);
+        }
+    }
+
+    private static long elapsedMillis(long inicioNanos) {
+        return (System.nanoTime() - inicioNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,51 @@
+package br.tec.jessebezerra.app.cache;
+
+/**
+ * Retrato das estatísticas de um cache de entidades.
+ */
+public class CacheStats {
+    private final String nome;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+
+    public CacheStats(String nome, long hits, long misses, long evictions, int size) {
+        this.nome = nome;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public double getHitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[hits=%d, misses=%d, evictions=%d, size=%d, hitRatio=%.2f]",
+                nome, hits, misses, evictions, size, getHitRatio());
+    }
+}
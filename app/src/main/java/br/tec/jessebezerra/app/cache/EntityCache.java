@@ -0,0 +1,141 @@
+package br.tec.jessebezerra.app.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cache em memória de entidades indexadas por id, com limite de tamanho (LRU),
+ * retrato da listagem completa e invalidação explícita a cada escrita.
+ * As entidades são copiadas na entrada e na saída para que alterações feitas
+ * pelos chamadores não contaminem o cache.
+ */
+public class EntityCache<T> {
+
+    private final String nome;
+    private final int capacidade;
+    private final Function<T, Long> idExtractor;
+    private final UnaryOperator<T> copier;
+    private final LinkedHashMap<Long, T> porId = new LinkedHashMap<>(16, 0.75f, true);
+    private List<T> todos;
+    private long versao;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public EntityCache(String nome, int capacidade, Function<T, Long> idExtractor, UnaryOperator<T> copier) {
+        this.nome = nome;
+        this.capacidade = capacidade;
+        this.idExtractor = idExtractor;
+        this.copier = copier;
+    }
+
+    /**
+     * Retorna a entidade em cache ou carrega pelo loader em caso de falta.
+     */
+    public Optional<T> get(Long id, Function<Long, Optional<T>> loader) {
+        long versaoCarga;
+        synchronized (this) {
+            T cached = porId.get(id);
+            if (cached != null) {
+                hits++;
+                return Optional.of(copier.apply(cached));
+            }
+            misses++;
+            versaoCarga = versao;
+        }
+        
+        Optional<T> carregado = loader.apply(id);
+        carregado.ifPresent(entidade -> {
+            synchronized (this) {
+                if (versao == versaoCarga) {
+                    put(entidade);
+                }
+            }
+        });
+        return carregado;
+    }
+
+    /**
+     * Retorna a listagem completa em cache ou carrega pelo loader em caso de falta.
+     * A listagem só é mantida em cache quando cabe inteira na capacidade.
+     */
+    public List<T> getAll(Supplier<List<T>> loader) {
+        long versaoCarga;
+        synchronized (this) {
+            if (todos != null) {
+                hits++;
+                return copyAll(todos);
+            }
+            misses++;
+            versaoCarga = versao;
+        }
+        
+        List<T> carregados = loader.get();
+        synchronized (this) {
+            if (versao == versaoCarga) {
+                storeAll(carregados);
+            }
+        }
+        return carregados;
+    }
+
+    /**
+     * Descarta a entidade e o retrato da listagem completa. Deve ser chamado após cada escrita.
+     */
+    public synchronized void invalidate(Long id) {
+        versao++;
+        if (id != null) {
+            porId.remove(id);
+        }
+        todos = null;
+    }
+
+    public synchronized void invalidateAll() {
+        versao++;
+        porId.clear();
+        todos = null;
+    }
+
+    public synchronized CacheStats getStats() {
+        return new CacheStats(nome, hits, misses, evictions, porId.size());
+    }
+
+    private void storeAll(List<T> entidades) {
+        List<T> copias = copyAll(entidades);
+        for (T entidade : copias) {
+            porId.put(idExtractor.apply(entidade), entidade);
+        }
+        todos = copias.size() <= capacidade ? copias : null;
+        evictExcess();
+    }
+
+    private void put(T entidade) {
+        porId.put(idExtractor.apply(entidade), copier.apply(entidade));
+        evictExcess();
+    }
+
+    private void evictExcess() {
+        Iterator<Map.Entry<Long, T>> iterator = porId.entrySet().iterator();
+        while (porId.size() > capacidade && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions++;
+            todos = null;
+        }
+    }
+
+    private List<T> copyAll(List<T> entidades) {
+        List<T> copias = new ArrayList<>(entidades.size());
+        for (T entidade : entidades) {
+            copias.add(copier.apply(entidade));
+        }
+        return copias;
+    }
+}
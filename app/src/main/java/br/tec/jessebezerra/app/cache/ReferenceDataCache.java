@@ -0,0 +1,59 @@
+package br.tec.jessebezerra.app.cache;
+
+import br.tec.jessebezerra.app.entity.Aplicacao;
+import br.tec.jessebezerra.app.entity.Membro;
+import br.tec.jessebezerra.app.entity.Projeto;
+import br.tec.jessebezerra.app.entity.Sprint;
+import br.tec.jessebezerra.app.repository.RepositoryFactory;
+import br.tec.jessebezerra.app.util.WorkingDayCalendar;
+
+import java.util.List;
+
+/**
+ * Caches dos dados de referência (sprints, membros, projetos e aplicações),
+ * que mudam pouco e são consultados por id o tempo todo.
+ * Os repositórios consultam estes caches e os invalidam a cada escrita.
+ */
+public final class ReferenceDataCache {
+
+    private static final int CAPACIDADE = 1000;
+
+    public static final EntityCache<Sprint> SPRINTS = new EntityCache<>("sprints", CAPACIDADE, Sprint::getId,
+            s -> new Sprint(s.getId(), s.getNome(), s.getDataInicio(), s.getDuracaoSemanas(), s.getDataFim()));
+
+    public static final EntityCache<Membro> MEMBROS = new EntityCache<>("membros", CAPACIDADE, Membro::getId,
+            m -> new Membro(m.getId(), m.getNome(), m.getFuncao(), m.getAtivo(), m.getEspecialidades()));
+
+    public static final EntityCache<Projeto> PROJETOS = new EntityCache<>("projetos", CAPACIDADE, Projeto::getId,
+            p -> new Projeto(p.getId(), p.getNome(), p.getDescricao()));
+
+    public static final EntityCache<Aplicacao> APLICACOES = new EntityCache<>("aplicacoes", CAPACIDADE, Aplicacao::getId,
+            a -> new Aplicacao(a.getId(), a.getNome(), a.getDescricao()));
+
+    private ReferenceDataCache() {
+    }
+
+    /**
+     * Carrega todos os dados de referência de uma vez, evitando faltas nas primeiras telas.
+     */
+    public static void preloadAll() {
+        invalidateAll();
+        
+        RepositoryFactory.sprints().findAll();
+        RepositoryFactory.membros().findAll();
+        RepositoryFactory.projetos().findAll();
+        RepositoryFactory.aplicacoes().findAll();
+    }
+
+    public static void invalidateAll() {
+        SPRINTS.invalidateAll();
+        MEMBROS.invalidateAll();
+        PROJETOS.invalidateAll();
+        APLICACOES.invalidateAll();
+        WorkingDayCalendar.invalidate();
+    }
+
+    public static List<CacheStats> getStats() {
+        return List.of(SPRINTS.getStats(), MEMBROS.getStats(), PROJETOS.getStats(), APLICACOES.getStats());
+    }
+}
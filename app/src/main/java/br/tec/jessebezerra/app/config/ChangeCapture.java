@@ -0,0 +1,120 @@
+package br.tec.jessebezerra.app.config;
+
+import br.tec.jessebezerra.app.event.AplicacaoChanged;
+import br.tec.jessebezerra.app.event.ChangeBus;
+import br.tec.jessebezerra.app.event.ChangeEvent;
+import br.tec.jessebezerra.app.event.ChangeKind;
+import br.tec.jessebezerra.app.event.FeriadoChanged;
+import br.tec.jessebezerra.app.event.ItemChanged;
+import br.tec.jessebezerra.app.event.MembroChanged;
+import br.tec.jessebezerra.app.event.ProjetoChanged;
+import br.tec.jessebezerra.app.event.SprintChanged;
+import org.sqlite.SQLiteCommitListener;
+import org.sqlite.SQLiteUpdateListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Captura as alterações de linha feitas na conexão de escrita pelos hooks do SQLite.
+ * As alterações ficam pendentes até o commit (e são descartadas no rollback); as confirmadas
+ * são publicadas no {@link ChangeBus} quando a conexão de escrita é devolvida, já com os
+ * dados visíveis às conexões de leitura. Várias alterações da mesma linha são consolidadas.
+ * Só é usada na thread de escrita, com a conexão emprestada.
+ */
+class ChangeCapture implements SQLiteUpdateListener, SQLiteCommitListener {
+
+    private static final Map<String, BiFunction<Long, ChangeKind, ChangeEvent>> EVENTOS_POR_TABELA = Map.of(
+            "item_sprint", ItemChanged::new,
+            "sprint", SprintChanged::new,
+            "membro", MembroChanged::new,
+            "projeto", ProjetoChanged::new,
+            "aplicacao", AplicacaoChanged::new,
+            "feriado", FeriadoChanged::new);
+
+    private final Map<String, Change> pendentes = new LinkedHashMap<>();
+    private final Map<String, Change> confirmadas = new LinkedHashMap<>();
+
+    @Override
+    public void onUpdate(Type type, String database, String table, long rowId) {
+        if (!EVENTOS_POR_TABELA.containsKey(table)) {
+            return;
+        }
+        merge(pendentes, new Change(table, rowId, toKind(type)));
+    }
+
+    @Override
+    public void onCommit() {
+        for (Change change : pendentes.values()) {
+            merge(confirmadas, change);
+        }
+        pendentes.clear();
+    }
+
+    @Override
+    public void onRollback() {
+        pendentes.clear();
+    }
+
+    /**
+     * Publica as alterações confirmadas desde a última publicação.
+     */
+    void flush() {
+        if (confirmadas.isEmpty()) {
+            return;
+        }
+        
+        List<ChangeEvent> eventos = new ArrayList<>(confirmadas.size());
+        for (Change change : confirmadas.values()) {
+            eventos.add(EVENTOS_POR_TABELA.get(change.tabela).apply(change.id, change.kind));
+        }
+        confirmadas.clear();
+        ChangeBus.publish(eventos);
+    }
+
+    /**
+     * Consolida a alteração com a já registrada para a mesma linha:
+     * inclusão seguida de alteração continua inclusão; inclusão seguida de exclusão se anula.
+     */
+    private static void merge(Map<String, Change> changes, Change change) {
+        String chave = change.tabela + ":" + change.id;
+        Change anterior = changes.get(chave);
+        if (anterior == null) {
+            changes.put(chave, change);
+        } else if (anterior.kind == ChangeKind.INSERT && change.kind == ChangeKind.DELETE) {
+            changes.remove(chave);
+        } else if (anterior.kind == ChangeKind.INSERT) {
+            // Permanece como inclusão
+        } else if (anterior.kind == ChangeKind.DELETE && change.kind == ChangeKind.INSERT) {
+            changes.put(chave, new Change(change.tabela, change.id, ChangeKind.UPDATE));
+        } else {
+            changes.put(chave, change);
+        }
+    }
+
+    private static ChangeKind toKind(Type type) {
+        switch (type) {
+            case INSERT:
+                return ChangeKind.INSERT;
+            case DELETE:
+                return ChangeKind.DELETE;
+            default:
+                return ChangeKind.UPDATE;
+        }
+    }
+
+    private static class Change {
+        private final String tabela;
+        private final long id;
+        private final ChangeKind kind;
+        
+        Change(String tabela, long id, ChangeKind kind) {
+            this.tabela = tabela;
+            this.id = id;
+            this.kind = kind;
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package br.tec.jessebezerra.app.config;
+
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteConnection;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Gerencia as conexões físicas com o SQLite: uma conexão de escrita de longa duração
+ * e um pequeno pool de conexões somente leitura.
+ * As conexões entregues aos repositórios são empréstimos: chamar close() devolve a
+ * conexão ao gerenciador em vez de fechar a conexão física.
+ * Todas as escritas são serializadas em uma única thread dedicada; em modo WAL as
+ * leituras seguem em paralelo nas conexões do pool sem bloquear as escritas.
+ * Cada conexão física mantém seu próprio cache de PreparedStatements.
+ * Cursores de longa duração (leituras em streaming) usam conexões próprias, fora do pool.
+ * As alterações feitas pela conexão de escrita são publicadas no ChangeBus após o commit.
+ */
+public class ConnectionManager {
+
+    private static final long READ_TIMEOUT_SECONDS = 30;
+    private static final int BUSY_TIMEOUT_MILLIS = 5000;
+    private static final int STATEMENT_CACHE_SIZE = 64;
+
+    private final Connection writer;
+    private final ChangeCapture changeCapture = new ChangeCapture();
+    private final ReentrantLock writerLock = new ReentrantLock();
+    private final ExecutorService writerExecutor;
+    private volatile Thread writerThread;
+    private final List<Connection> readers = new ArrayList<>();
+    private final BlockingQueue<Connection> availableReaders;
+    private final Map<Connection, StatementCache> statementCaches = new IdentityHashMap<>();
+    private final String url;
+    private final SQLiteConfig readConfig = new SQLiteConfig();
+    private final Set<Connection> cursorConnections = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    public ConnectionManager(String url, int readPoolSize, DatabaseConfig.JournalMode journalMode) throws SQLException {
+        this(url, readPoolSize, journalMode, false);
+    }
+
+    /**
+     * @param sharedCache indica um banco em memória compartilhado; nesse modo o SQLite usa bloqueios
+     *                    por tabela que não respeitam o busy timeout, então as leituras usam read_uncommitted
+     *                    para não falhar enquanto uma transação de escrita está aberta
+     */
+    public ConnectionManager(String url, int readPoolSize, DatabaseConfig.JournalMode journalMode,
+                             boolean sharedCache) throws SQLException {
+        this.url = url;
+        SQLiteConfig writeConfig = new SQLiteConfig();
+        writeConfig.setBusyTimeout(BUSY_TIMEOUT_MILLIS);
+        writeConfig.setJournalMode(journalMode.getPragmaValue());
+        if (journalMode == DatabaseConfig.JournalMode.WAL) {
+            writeConfig.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        }
+        
+        this.writer = DriverManager.getConnection(url, writeConfig.toProperties());
+        SQLiteConnection sqliteWriter = writer.unwrap(SQLiteConnection.class);
+        sqliteWriter.addUpdateListener(changeCapture);
+        sqliteWriter.addCommitListener(changeCapture);
+        statementCaches.put(writer, new StatementCache(writer, STATEMENT_CACHE_SIZE));
+        this.availableReaders = new ArrayBlockingQueue<>(readPoolSize);
+        this.writerExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sqlite-writer");
+            thread.setDaemon(true);
+            writerThread = thread;
+            return thread;
+        });
+        
+        try {
+            readConfig.setReadOnly(true);
+            readConfig.setBusyTimeout(BUSY_TIMEOUT_MILLIS);
+            readConfig.setReadUncommitted(sharedCache);
+            for (int i = 0; i < readPoolSize; i++) {
+                Connection reader = DriverManager.getConnection(url, readConfig.toProperties());
+                readers.add(reader);
+                statementCaches.put(reader, new StatementCache(reader, STATEMENT_CACHE_SIZE));
+                availableReaders.add(reader);
+            }
+        } catch (SQLException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Enfileira o trabalho na thread de escrita e aguarda o resultado.
+     * Chamadas feitas a partir da própria thread de escrita executam diretamente,
+     * permitindo compor várias escritas em uma mesma transação.
+     */
+    public <T> T executeWrite(SqlWork<T> work) throws SQLException {
+        ensureOpen();
+        if (Thread.currentThread() == writerThread) {
+            return runWithWriter(work);
+        }
+        
+        Future<T> future = writerExecutor.submit(() -> runWithWriter(work));
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrompido aguardando escrita no banco de dados", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new SQLException("Erro na escrita do banco de dados", cause);
+        }
+    }
+
+    private <T> T runWithWriter(SqlWork<T> work) throws SQLException {
+        try (Connection conn = acquireWriter()) {
+            return work.execute(conn);
+        }
+    }
+
+    /**
+     * Empresta a conexão de escrita à thread de escrita. Empréstimos aninhados são permitidos;
+     * o estado da conexão só é restaurado, e as alterações confirmadas publicadas,
+     * quando o mais externo é devolvido.
+     */
+    private Connection acquireWriter() throws SQLException {
+        ensureOpen();
+        writerLock.lock();
+        return lease(writer, () -> {
+            if (writerLock.getHoldCount() == 1) {
+                resetState(writer);
+                changeCapture.flush();
+            }
+            writerLock.unlock();
+        });
+    }
+
+    /**
+     * Empresta uma conexão de leitura do pool, aguardando caso todas estejam em uso.
+     */
+    public Connection acquireReader() throws SQLException {
+        ensureOpen();
+        Connection reader;
+        try {
+            reader = availableReaders.poll(READ_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrompido aguardando conexão de leitura", e);
+        }
+        if (reader == null) {
+            throw new SQLException("Tempo esgotado aguardando conexão de leitura");
+        }
+        return lease(reader, () -> {
+            resetState(reader);
+            availableReaders.offer(reader);
+        });
+    }
+
+    /**
+     * Abre uma conexão somente leitura exclusiva para um cursor de longa duração, para que uma leitura
+     * em streaming não ocupe uma conexão do pool enquanto estiver aberta. Fechar a conexão encerra a
+     * conexão física; as que ainda estiverem abertas são fechadas em {@link #close()}.
+     */
+    public Connection openCursorConnection() throws SQLException {
+        ensureOpen();
+        Connection physical = DriverManager.getConnection(url, readConfig.toProperties());
+        cursorConnections.add(physical);
+        return lease(physical, () -> {
+            cursorConnections.remove(physical);
+            closeQuietly(physical);
+        });
+    }
+
+    /**
+     * Fecha todas as conexões físicas.
+     */
+    public void close() {
+        closed = true;
+        writerExecutor.shutdown();
+        try {
+            writerExecutor.awaitTermination(READ_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (StatementCache cache : statementCaches.values()) {
+            cache.clear();
+        }
+        closeQuietly(writer);
+        for (Connection reader : readers) {
+            closeQuietly(reader);
+        }
+        readers.clear();
+        availableReaders.clear();
+        for (Connection cursor : cursorConnections) {
+            closeQuietly(cursor);
+        }
+        cursorConnections.clear();
+    }
+
+    private void ensureOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("Gerenciador de conexões já foi encerrado");
+        }
+    }
+
+    /**
+     * Soma as estatísticas dos caches de statements de todas as conexões.
+     */
+    public StatementCacheStats getStatementCacheStats() {
+        long hits = 0;
+        long misses = 0;
+        long evictions = 0;
+        int size = 0;
+        for (StatementCache cache : statementCaches.values()) {
+            hits += cache.getHits();
+            misses += cache.getMisses();
+            evictions += cache.getEvictions();
+            size += cache.size();
+        }
+        return new StatementCacheStats(hits, misses, evictions, size);
+    }
+
+    private Connection lease(Connection physical, Runnable release) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new LeaseHandler(physical, statementCaches.get(physical), release));
+    }
+
+    /**
+     * Desfaz transações abandonadas para que o próximo empréstimo receba a conexão limpa.
+     */
+    private static void resetState(Connection connection) {
+        try {
+            if (!connection.isClosed() && !connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            if (connection != null && !connection.isClosed()) {
+                connection.close();
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Encaminha as chamadas para a conexão física, exceto close(), que apenas devolve o empréstimo,
+     * e prepareStatement(String), que passa pelo cache de statements da conexão.
+     */
+    private static class LeaseHandler implements InvocationHandler {
+        private final Connection physical;
+        private final StatementCache statementCache;
+        private final Runnable release;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+        
+        LeaseHandler(Connection physical, StatementCache statementCache, Runnable release) {
+            this.physical = physical;
+            this.statementCache = statementCache;
+            this.release = release;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (released.compareAndSet(false, true)) {
+                        release.run();
+                    }
+                    return null;
+                case "isClosed":
+                    return released.get() || physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Lease[" + physical + "]";
+                default:
+                    if (released.get()) {
+                        throw new SQLException("Conexão já devolvida ao gerenciador");
+                    }
+                    if (isCacheablePrepare(method, args)) {
+                        return statementCache.prepare((String) args[0]);
+                    }
+                    try {
+                        return method.invoke(physical, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+        
+        private boolean isCacheablePrepare(Method method, Object[] args) {
+            return statementCache != null
+                    && method.getName().equals("prepareStatement")
+                    && args != null && args.length == 1;
+        }
+    }
+}
@@ -1,35 +1,251 @@
 package br.tec.jessebezerra.app.config;
 
+import br.tec.jessebezerra.app.cache.ReferenceDataCache;
+import br.tec.jessebezerra.app.repository.RepositoryFactory;
 import org.flywaydb.core.Flyway;
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteConnection;
+import org.sqlite.SQLiteDataSource;
+import org.sqlite.SQLiteErrorCode;
 
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 public class DatabaseConfig {
-    private static final String URL = "jdbc:sqlite:agenda.db";
-    private static Connection connection;
-    private static boolean initialized = false;
+    private static final String DEFAULT_FILE = "agenda.db";
+    private static final String MEMORY_URL_FORMAT = "jdbc:sqlite:file:%s?mode=memory&cache=shared";
+    private static final int READ_POOL_SIZE = 4;
+    private static final String MIGRATIONS = "db/migration";
+    // PRAGMA user_version guarda um inteiro, então as migrations usam versões inteiras
+    private static final Pattern MIGRATION_VERSIONADA = Pattern.compile("V(\\d+)__.+\\.sql");
+    private static volatile ConnectionManager connectionManager;
+    private static JournalMode journalMode = JournalMode.WAL;
+    private static String url = "jdbc:sqlite:" + DEFAULT_FILE;
+    private static boolean inMemory;
+    private static String snapshotToLoad;
+    /** Mantém o banco em memória vivo entre a migração e a abertura do pool, e até o fechamento. */
+    private static Connection memoryAnchor;
 
-    public static Connection getConnection() throws SQLException {
-        if (!initialized) {
-            initializeFlyway();
-            initialized = true;
+    static {
+        // -Dagenda.database=:memory: usa um banco em memória; qualquer outro valor é o caminho do arquivo
+        String configurado = System.getProperty("agenda.database");
+        if (":memory:".equals(configurado)) {
+            useInMemoryDatabase("agenda", System.getProperty("agenda.snapshot"));
+        } else if (configurado != null && !configurado.isBlank()) {
+            useFileDatabase(configurado);
         }
+    }
+
+    /**
+     * Modo de persistência do SQLite.
+     * WAL permite leituras concorrentes com a escrita; ROLLBACK mantém o journal tradicional.
+     */
+    public enum JournalMode {
+        ROLLBACK(SQLiteConfig.JournalMode.DELETE),
+        WAL(SQLiteConfig.JournalMode.WAL);
+        
+        private final SQLiteConfig.JournalMode pragmaValue;
         
-        if (connection == null || connection.isClosed()) {
-            System.out.println("Criando nova conexão com banco de dados: " + URL);
-            connection = DriverManager.getConnection(URL);
+        JournalMode(SQLiteConfig.JournalMode pragmaValue) {
+            this.pragmaValue = pragmaValue;
+        }
+        
+        public SQLiteConfig.JournalMode getPragmaValue() {
+            return pragmaValue;
+        }
+    }
+
+    /**
+     * Define o modo de persistência. Deve ser chamado antes de {@link #initialize()}.
+     */
+    public static synchronized void setJournalMode(JournalMode mode) {
+        if (connectionManager != null) {
+            throw new IllegalStateException("O modo de persistência deve ser definido antes da inicialização");
+        }
+        journalMode = mode;
+    }
+
+    /**
+     * Usa o arquivo informado como banco de dados. Deve ser chamado antes de {@link #initialize()}.
+     */
+    public static synchronized void useFileDatabase(String caminho) {
+        ensureNotInitialized();
+        url = "jdbc:sqlite:" + caminho;
+        inMemory = false;
+        snapshotToLoad = null;
+    }
+
+    /**
+     * Usa um banco SQLite em memória com cache compartilhado, isolado pelo nome informado.
+     * Se {@code snapshot} não for nulo, o conteúdo desse arquivo é carregado via API de backup
+     * antes das migrations. O banco deixa de existir em {@link #closeConnection()}.
+     * Deve ser chamado antes de {@link #initialize()}.
+     */
+    public static synchronized void useInMemoryDatabase(String nome, String snapshot) {
+        ensureNotInitialized();
+        url = String.format(MEMORY_URL_FORMAT, nome);
+        inMemory = true;
+        snapshotToLoad = snapshot;
+    }
+
+    public static synchronized boolean isInMemory() {
+        return inMemory;
+    }
+
+    /**
+     * Grava uma cópia consistente do banco atual no arquivo informado usando a API de backup do SQLite.
+     * A cópia é feita na fila de escrita, portanto não inclui transações em andamento.
+     */
+    public static void saveSnapshot(String arquivo) {
+        try {
+            executeWrite(conn -> {
+                int resultado = conn.unwrap(SQLiteConnection.class).getDatabase().backup("main", arquivo, null);
+                if (resultado != SQLiteErrorCode.SQLITE_OK.code) {
+                    throw new SQLException("Backup do SQLite retornou o código " + resultado);
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao salvar cópia do banco de dados em " + arquivo, e);
+        }
+    }
+
+    private static void ensureNotInitialized() {
+        if (connectionManager != null) {
+            throw new IllegalStateException("O banco de dados deve ser configurado antes da inicialização");
+        }
+    }
+
+    /**
+     * Executa as migrations pendentes e abre as conexões de longa duração.
+     * O Flyway só é executado quando PRAGMA user_version difere da maior versão entre as migrations do classpath.
+     * Também registra os feriados do banco no calendário de dias úteis, inclusive fora da interface gráfica.
+     * Deve ser chamado uma vez na inicialização da aplicação; chamadas repetidas são ignoradas.
+     */
+    public static synchronized void initialize() {
+        if (connectionManager != null) {
+            return;
+        }
+        
+        if (inMemory) {
+            openMemoryAnchor();
+        }
+        migrateIfOutdated();
+        
+        try {
+            connectionManager = new ConnectionManager(url, READ_POOL_SIZE, journalMode, inMemory);
+        } catch (SQLException e) {
+            closeMemoryAnchor();
+            throw new RuntimeException("Erro ao abrir conexões com o banco de dados", e);
+        }
+        RepositoryFactory.registerHolidaySource();
+    }
+
+    /**
+     * Executa o trabalho na fila única de escrita e aguarda o resultado.
+     */
+    public static <T> T executeWrite(SqlWork<T> work) throws SQLException {
+        return getConnectionManager().executeWrite(work);
+    }
+
+    /**
+     * Executa o trabalho na fila de escrita dentro de uma transação explícita,
+     * desfazendo tudo em caso de erro. Dentro de uma transação já aberta, apenas participa dela.
+     */
+    public static <T> T executeInTransaction(SqlWork<T> work) throws SQLException {
+        return executeWrite(conn -> {
+            if (!conn.getAutoCommit()) {
+                return work.execute(conn);
+            }
+            
+            conn.setAutoCommit(false);
+            try {
+                T result = work.execute(conn);
+                conn.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        });
+    }
+
+    /**
+     * Empresta uma conexão somente leitura do pool. Fechar a conexão devolve o empréstimo.
+     */
+    public static Connection getReadConnection() throws SQLException {
+        return getConnectionManager().acquireReader();
+    }
+
+    /**
+     * Abre uma conexão somente leitura fora do pool, para cursores que ficam abertos enquanto são consumidos.
+     * Fechar a conexão encerra a conexão física.
+     */
+    public static Connection openCursorConnection() throws SQLException {
+        return getConnectionManager().openCursorConnection();
+    }
+
+    /**
+     * Estatísticas dos caches de PreparedStatements das conexões abertas.
+     */
+    public static StatementCacheStats getStatementCacheStats() {
+        return getConnectionManager().getStatementCacheStats();
+    }
+
+    private static ConnectionManager getConnectionManager() {
+        ConnectionManager manager = connectionManager;
+        if (manager == null) {
+            initialize();
+            manager = connectionManager;
         }
-        return connection;
+        return manager;
     }
 
-    private static void initializeFlyway() {
+    /**
+     * Executa o Flyway se a versão gravada no banco não for a da última migration e, só depois que as migrations
+     * terminam sem erro, grava a nova versão na mesma conexão em que o Flyway as executou.
+     */
+    private static void migrateIfOutdated() {
+        int versaoEsperada = latestMigrationVersion();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            if (readUserVersion(conn) == versaoEsperada) {
+                return;
+            }
+            
+            initializeFlyway(singleConnectionSource(conn));
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("PRAGMA user_version = " + versaoEsperada);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao atualizar versão do schema", e);
+        }
+    }
+
+    private static void initializeFlyway(SQLiteDataSource fonte) {
         System.out.println("=== Inicializando Flyway ===");
         try {
             Flyway flyway = Flyway.configure()
-                    .dataSource(URL, null, null)
-                    .locations("classpath:db/migration")
+                    .dataSource(fonte)
+                    .locations("classpath:" + MIGRATIONS)
                     .baselineOnMigrate(true)
                     .load();
             
@@ -44,13 +260,111 @@ public class DatabaseConfig {
         }
     }
 
-    public static void closeConnection() {
+    /**
+     * Fonte de dados que entrega sempre a conexão informada, ignorando o close do Flyway.
+     * Com o SQLite o Flyway executa tudo em uma única conexão, que continua aberta para gravar a versão.
+     */
+    private static SQLiteDataSource singleConnectionSource(Connection conn) {
+        Connection semFechar = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, metodo, argumentos) -> {
+                    if (metodo.getName().equals("close")) {
+                        return null;
+                    }
+                    try {
+                        return metodo.invoke(conn, argumentos);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        return new SQLiteDataSource() {
+            @Override
+            public Connection getConnection() {
+                return semFechar;
+            }
+        };
+    }
+
+    private static int readUserVersion(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA user_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    /**
+     * Maior versão entre as migrations de db/migration no classpath, seja em diretório ou dentro do jar.
+     */
+    private static int latestMigrationVersion() {
+        URL pasta = DatabaseConfig.class.getClassLoader().getResource(MIGRATIONS);
+        if (pasta == null) {
+            throw new IllegalStateException("Migrations não encontradas no classpath: " + MIGRATIONS);
+        }
+        
         try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
+            URI uri = pasta.toURI();
+            if (!"jar".equals(uri.getScheme())) {
+                return latestMigrationVersion(Path.of(uri));
+            }
+            try (FileSystem jar = FileSystems.newFileSystem(uri, Map.of())) {
+                return latestMigrationVersion(jar.getPath("/" + MIGRATIONS));
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new RuntimeException("Erro ao listar as migrations em " + MIGRATIONS, e);
+        }
+    }
+
+    private static int latestMigrationVersion(Path pasta) throws IOException {
+        try (Stream<Path> arquivos = Files.list(pasta)) {
+            return arquivos.map(arquivo -> arquivo.getFileName().toString())
+                    .filter(nome -> nome.endsWith(".sql"))
+                    .mapToInt(DatabaseConfig::migrationVersion)
+                    .max()
+                    .orElseThrow(() -> new IllegalStateException("Nenhuma migration em " + MIGRATIONS));
+        }
+    }
+
+    private static int migrationVersion(String nome) {
+        Matcher matcher = MIGRATION_VERSIONADA.matcher(nome);
+        if (!matcher.matches()) {
+            throw new IllegalStateException("Migration sem versão inteira (V<n>__descricao.sql): " + nome);
+        }
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    private static void openMemoryAnchor() {
+        try {
+            memoryAnchor = DriverManager.getConnection(url);
+            if (snapshotToLoad != null) {
+                int resultado = memoryAnchor.unwrap(SQLiteConnection.class).getDatabase()
+                        .restore("main", snapshotToLoad, null);
+                if (resultado != SQLiteErrorCode.SQLITE_OK.code) {
+                    throw new SQLException("Restauração do SQLite retornou o código " + resultado);
+                }
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            closeMemoryAnchor();
+            throw new RuntimeException("Erro ao criar banco de dados em memória", e);
+        }
+    }
+
+    private static void closeMemoryAnchor() {
+        if (memoryAnchor != null) {
+            try {
+                memoryAnchor.close();
+            } catch (SQLException e) {
+                System.err.println("Erro ao fechar banco de dados em memória: " + e.getMessage());
+            }
+            memoryAnchor = null;
+        }
+    }
+
+    public static synchronized void closeConnection() {
+        if (connectionManager != null) {
+            connectionManager.close();
+            connectionManager = null;
         }
+        closeMemoryAnchor();
+        // Um novo banco pode ser configurado em seguida; entradas em cache pertencem ao anterior
+        ReferenceDataCache.invalidateAll();
     }
 }
@@ -0,0 +1,12 @@
+package br.tec.jessebezerra.app.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Unidade de trabalho executada sobre uma conexão emprestada pelo {@link ConnectionManager}.
+ */
+@FunctionalInterface
+public interface SqlWork<T> {
+    T execute(Connection connection) throws SQLException;
+}
@@ -0,0 +1,196 @@
+package br.tec.jessebezerra.app.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache de PreparedStatements de uma conexão física, indexado pelo texto do SQL.
+ * Os statements entregues são empréstimos: close() limpa os parâmetros e devolve o
+ * statement ao cache, evitando que o SQLite refaça o parse e o plano da consulta.
+ * Os menos usados recentemente são fechados quando a capacidade é excedida.
+ */
+class StatementCache {
+
+    private final Connection connection;
+    private final int capacity;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    StatementCache(Connection connection, int capacity) {
+        this.connection = connection;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Retorna o statement em cache para o SQL ou prepara um novo.
+     * Se o statement já estiver emprestado (uso aninhado), prepara um avulso fora do cache.
+     */
+    synchronized PreparedStatement prepare(String sql) throws SQLException {
+        Entry entry = entries.get(sql);
+        if (entry != null && entry.statement.isClosed()) {
+            entries.remove(sql);
+            entry = null;
+        }
+        
+        if (entry != null && !entry.inUse) {
+            hits.incrementAndGet();
+            return checkout(entry);
+        }
+        
+        misses.incrementAndGet();
+        PreparedStatement statement = connection.prepareStatement(sql);
+        if (entry != null) {
+            return statement;
+        }
+        
+        entry = new Entry(sql, statement);
+        entries.put(sql, entry);
+        PreparedStatement lease = checkout(entry);
+        evictExcess();
+        return lease;
+    }
+
+    /**
+     * Fecha todos os statements em cache.
+     */
+    synchronized void clear() {
+        for (Entry entry : entries.values()) {
+            closeQuietly(entry.statement);
+        }
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    long getEvictions() {
+        return evictions.get();
+    }
+
+    private PreparedStatement checkout(Entry entry) {
+        entry.inUse = true;
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                new StatementLeaseHandler(entry));
+    }
+
+    private synchronized void release(Entry entry, ResultSet lastResult) {
+        try {
+            if (lastResult != null && !lastResult.isClosed()) {
+                lastResult.close();
+            }
+            if (!entry.statement.isClosed()) {
+                entry.statement.clearParameters();
+                entry.statement.clearBatch();
+            }
+        } catch (SQLException e) {
+            entries.remove(entry.sql, entry);
+            closeQuietly(entry.statement);
+        }
+        entry.inUse = false;
+        
+        if (entries.get(entry.sql) != entry) {
+            closeQuietly(entry.statement);
+        }
+    }
+
+    private void evictExcess() {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > capacity && iterator.hasNext()) {
+            Entry eldest = iterator.next().getValue();
+            if (eldest.inUse) {
+                continue;
+            }
+            iterator.remove();
+            closeQuietly(eldest.statement);
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static class Entry {
+        private final String sql;
+        private final PreparedStatement statement;
+        private boolean inUse;
+        
+        Entry(String sql, PreparedStatement statement) {
+            this.sql = sql;
+            this.statement = statement;
+        }
+    }
+
+    /**
+     * Encaminha as chamadas ao statement físico; close() devolve o statement ao cache.
+     */
+    private class StatementLeaseHandler implements InvocationHandler {
+        private final Entry entry;
+        private ResultSet lastResult;
+        private boolean released;
+        
+        StatementLeaseHandler(Entry entry) {
+            this.entry = entry;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!released) {
+                        released = true;
+                        release(entry, lastResult);
+                    }
+                    return null;
+                case "isClosed":
+                    return released || entry.statement.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "CachedStatement[" + entry.sql + "]";
+                default:
+                    if (released) {
+                        throw new SQLException("Statement já devolvido ao cache");
+                    }
+                    try {
+                        Object result = method.invoke(entry.statement, args);
+                        if (result instanceof ResultSet) {
+                            lastResult = (ResultSet) result;
+                        }
+                        return result;
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package br.tec.jessebezerra.app.config;
+
+/**
+ * Retrato das estatísticas dos caches de PreparedStatements.
+ */
+public class StatementCacheStats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+
+    public StatementCacheStats(long hits, long misses, long evictions, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public double getHitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StatementCache[hits=%d, misses=%d, evictions=%d, size=%d, hitRatio=%.2f]",
+                hits, misses, evictions, size, getHitRatio());
+    }
+}
@@ -1,11 +1,23 @@
 package br.tec.jessebezerra.app.controller;
 
+import br.tec.jessebezerra.app.event.ChangeBus;
+import br.tec.jessebezerra.app.event.ChangeEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
 /**
  * Classe base para controllers, compartilhando comportamentos comuns.
  */
@@ -16,6 +28,12 @@ public abstract class BaseController {
     
     protected boolean menuExpanded = true;
     
+    // Consultas assíncronas em andamento desta tela; acessado apenas na thread do JavaFX
+    private final Set<CompletableFuture<?>> pendingTasks = new LinkedHashSet<>();
+    
+    // Inscrições da tela no barramento de alterações, canceladas ao sair da tela
+    private final List<ChangeBus.Subscription> subscriptions = new ArrayList<>();
+    
     /**
      * Alterna expansão/colapso do menu lateral
      */
@@ -37,6 +55,7 @@ public abstract class BaseController {
      * Navega para outra tela mantendo o tamanho da janela
      */
     protected void navigateTo(String fxmlPath, String title) {
+        releaseScreen();
         try {
             Stage stage = getCurrentStage();
             double currentWidth = stage.getWidth();
@@ -58,6 +77,90 @@ public abstract class BaseController {
         }
     }
     
+    /**
+     * Registra uma consulta assíncrona da tela para que seja cancelada ao navegar para outra tela.
+     * Escritas não devem ser registradas: uma vez enviadas, precisam ser concluídas.
+     */
+    protected <T> CompletableFuture<T> track(CompletableFuture<T> tarefa) {
+        pendingTasks.add(tarefa);
+        tarefa.whenComplete((resultado, erro) -> pendingTasks.remove(tarefa));
+        return tarefa;
+    }
+    
+    /**
+     * Executa uma consulta assíncrona da tela e entrega o resultado na thread do JavaFX.
+     * Falhas são exibidas em um alerta; cancelamentos são ignorados.
+     */
+    protected <T> void loadAsync(CompletableFuture<T> consulta, Consumer<T> aoConcluir, String mensagemErro) {
+        loadAsync(consulta, aoConcluir, () -> { }, mensagemErro);
+    }
+    
+    /**
+     * Como {@link #loadAsync(CompletableFuture, Consumer, String)}, executando também {@code aoFalhar}
+     * na thread do JavaFX quando a consulta falha
+     */
+    protected <T> void loadAsync(CompletableFuture<T> consulta, Consumer<T> aoConcluir, Runnable aoFalhar,
+                                 String mensagemErro) {
+        track(consulta).whenComplete((resultado, erro) -> {
+            if (erro == null) {
+                aoConcluir.accept(resultado);
+            } else if (!isCancellation(erro)) {
+                Throwable causa = unwrap(erro);
+                causa.printStackTrace();
+                aoFalhar.run();
+                showErrorAlert("Erro", mensagemErro + ": " + causa.getMessage());
+            }
+        });
+    }
+    
+    /**
+     * Cancela as consultas assíncronas ainda pendentes da tela
+     */
+    protected void cancelPendingTasks() {
+        for (CompletableFuture<?> tarefa : new ArrayList<>(pendingTasks)) {
+            tarefa.cancel(false);
+        }
+        pendingTasks.clear();
+    }
+    
+    /**
+     * Inscreve a tela para receber alterações do banco de dados na thread do JavaFX,
+     * enquanto ela estiver aberta.
+     */
+    protected <E extends ChangeEvent> void onChange(Class<E> tipo, Consumer<? super E> consumidor) {
+        subscriptions.add(ChangeBus.subscribe(tipo, consumidor));
+    }
+    
+    /**
+     * Libera os recursos da tela ao sair dela: consultas pendentes e inscrições de alterações
+     */
+    protected void releaseScreen() {
+        cancelPendingTasks();
+        for (ChangeBus.Subscription subscription : subscriptions) {
+            subscription.cancel();
+        }
+        subscriptions.clear();
+    }
+    
+    /**
+     * Indica se a falha de uma operação assíncrona corresponde a um cancelamento
+     */
+    protected static boolean isCancellation(Throwable erro) {
+        return unwrap(erro) instanceof CancellationException;
+    }
+    
+    /**
+     * Remove os invólucros de CompletableFuture para obter a exceção original
+     */
+    protected static Throwable unwrap(Throwable erro) {
+        Throwable atual = erro;
+        while ((atual instanceof CompletionException || atual instanceof ExecutionException)
+                && atual.getCause() != null) {
+            atual = atual.getCause();
+        }
+        return atual;
+    }
+    
     /**
      * Obtém o Stage atual
      */
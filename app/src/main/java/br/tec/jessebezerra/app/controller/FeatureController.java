@@ -2,21 +2,26 @@ package br.tec.jessebezerra.app.controller;
 
 import br.tec.jessebezerra.app.dto.ItemSprintDTO;
 import br.tec.jessebezerra.app.dto.MembroDTO;
+import br.tec.jessebezerra.app.dto.PaginaItemDTO;
 import br.tec.jessebezerra.app.dto.SprintDTO;
 import br.tec.jessebezerra.app.entity.StatusItem;
 import br.tec.jessebezerra.app.entity.TipoItem;
+import br.tec.jessebezerra.app.event.ItemChanged;
+import br.tec.jessebezerra.app.event.MembroChanged;
+import br.tec.jessebezerra.app.event.SprintChanged;
 import br.tec.jessebezerra.app.service.ItemSprintService;
 import br.tec.jessebezerra.app.service.MembroService;
 import br.tec.jessebezerra.app.service.SprintService;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.layout.VBox;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class FeatureController extends BaseController {
     
@@ -46,14 +51,13 @@ public class FeatureController extends BaseController {
     private final SprintService sprintService;
     private final MembroService membroService;
     private boolean menuExpanded = true;
-    private final ObservableList<FeatureTableModel> featureList;
+    private KeysetPager<FeatureTableModel> pager;
     private Long editingId;
 
     public FeatureController() {
         this.service = new ItemSprintService();
         this.sprintService = new SprintService();
         this.membroService = new MembroService();
-        this.featureList = FXCollections.observableArrayList();
     }
 
     @FXML
@@ -75,7 +79,23 @@ public class FeatureController extends BaseController {
         sprintColumn.setCellValueFactory(cellData -> cellData.getValue().sprintNomeProperty());
         membroColumn.setCellValueFactory(cellData -> cellData.getValue().membroNomeProperty());
         
-        featureTable.setItems(featureList);
+        // Ordenação por coluna feita na consulta, sobre todos os itens (veja KeysetPager)
+        pager = new KeysetPager<>(featureTable,
+            Map.of(
+                idColumn, PaginaItemDTO.Coluna.ID,
+                tituloColumn, PaginaItemDTO.Coluna.TITULO,
+                duracaoColumn, PaginaItemDTO.Coluna.DURACAO_SEMANAS,
+                statusColumn, PaginaItemDTO.Coluna.STATUS,
+                sprintColumn, PaginaItemDTO.Coluna.SPRINT,
+                membroColumn, PaginaItemDTO.Coluna.MEMBRO),
+            pagina -> toTableModels(service.findPageAfter(TipoItem.FEATURE, pagina)),
+            pagina -> toTableModels(service.findPageBefore(TipoItem.FEATURE, pagina)),
+            FeatureTableModel::getId);
+        
+        // Inclusões, alterações e exclusões (desta ou de outras janelas) atualizam só as linhas afetadas
+        onChange(ItemChanged.class, evento -> pager.applyChange(evento.getId(), evento.getKind(), this::loadRow));
+        onChange(SprintChanged.class, evento -> loadSprints());
+        onChange(MembroChanged.class, evento -> loadMembros());
         
         featureTable.getSelectionModel().selectedItemProperty().addListener(
             (obs, oldSelection, newSelection) -> {
@@ -100,7 +120,8 @@ public class FeatureController extends BaseController {
         dto.setId(editingId);
         dto.setTipo(TipoItem.FEATURE);
         dto.setTitulo(tituloField.getText());
-        dto.setDescricao(descricaoTextArea.getText());
+        // Área desabilitada: a descrição não pôde ser carregada e a gravada é mantida (descrição nula)
+        dto.setDescricao(descricaoTextArea.isDisabled() ? null : descricaoTextArea.getText());
         dto.setDuracaoSemanas(duracaoSpinner.getValue());
         dto.setStatus(statusComboBox.getValue());
         dto.setSprintId(sprintComboBox.getValue().getId());
@@ -109,21 +130,20 @@ public class FeatureController extends BaseController {
             dto.setMembroId(membroComboBox.getValue().getId());
         }
         
-        try {
-            if (editingId == null) {
-                service.create(dto);
-                showAlert("Sucesso", "Feature criada com sucesso!");
+        boolean criando = editingId == null;
+        CompletableFuture<ItemSprintDTO> operacao = criando ? service.createAsync(dto) : service.updateAsync(dto);
+        salvarButton.setDisable(true);
+        operacao.whenComplete((salvo, erro) -> {
+            salvarButton.setDisable(false);
+            if (erro == null) {
+                showAlert("Sucesso", criando ? "Feature criada com sucesso!" : "Feature atualizada com sucesso!");
+                clearForm();
+            } else if (unwrap(erro) instanceof IllegalArgumentException) {
+                showErrorAlert("Validação", unwrap(erro).getMessage());
             } else {
-                service.update(dto);
-                showAlert("Sucesso", "Feature atualizada com sucesso!");
+                showErrorAlert("Erro", "Erro ao salvar feature: " + unwrap(erro).getMessage());
             }
-            clearForm();
-            loadFeatures();
-        } catch (IllegalArgumentException e) {
-            showErrorAlert("Validação", e.getMessage());
-        } catch (Exception e) {
-            showErrorAlert("Erro", "Erro ao salvar feature: " + e.getMessage());
-        }
+        });
     }
 
     @FXML
@@ -137,7 +157,23 @@ public class FeatureController extends BaseController {
         if (selected != null) {
             editingId = selected.getId();
             tituloField.setText(selected.getTitulo());
-            descricaoTextArea.setText(selected.getDescricao());
+            // A listagem não traz a descrição; ela é buscada só para o item em edição.
+            // Salvar fica bloqueado até ela chegar; se a busca falhar, o item é salvo mantendo a descrição gravada
+            Long itemId = selected.getId();
+            descricaoTextArea.clear();
+            descricaoTextArea.setDisable(true);
+            salvarButton.setDisable(true);
+            loadAsync(service.findDescricaoAsync(itemId), descricao -> {
+                if (itemId.equals(editingId)) {
+                    descricaoTextArea.setText(descricao.orElse(""));
+                    descricaoTextArea.setDisable(false);
+                    salvarButton.setDisable(false);
+                }
+            }, () -> {
+                if (itemId.equals(editingId)) {
+                    salvarButton.setDisable(false);
+                }
+            }, "Erro ao carregar descrição");
             duracaoSpinner.getValueFactory().setValue(selected.getDuracaoSemanas());
             statusComboBox.setValue(selected.getStatus());
             
@@ -168,13 +204,13 @@ public class FeatureController extends BaseController {
             
             Optional<ButtonType> result = confirmAlert.showAndWait();
             if (result.isPresent() && result.get() == ButtonType.OK) {
-                try {
-                    service.delete(selected.getId());
-                    showAlert("Sucesso", "Feature excluída com sucesso!");
-                    loadFeatures();
-                } catch (Exception e) {
-                    showErrorAlert("Erro", "Erro ao excluir feature: " + e.getMessage());
-                }
+                service.deleteAsync(selected.getId()).whenComplete((ignorado, erro) -> {
+                    if (erro == null) {
+                        showAlert("Sucesso", "Feature excluída com sucesso!");
+                    } else {
+                        showErrorAlert("Erro", "Erro ao excluir feature: " + unwrap(erro).getMessage());
+                    }
+                });
             }
         }
     }
@@ -219,43 +255,56 @@ public class FeatureController extends BaseController {
     }
 
     private void loadSprints() {
-        List<SprintDTO> sprints = sprintService.findAll();
-        sprintComboBox.setItems(FXCollections.observableArrayList(sprints));
+        loadAsync(sprintService.findAllAsync(),
+            sprints -> sprintComboBox.setItems(FXCollections.observableArrayList(sprints)),
+            "Erro ao carregar sprints");
     }
 
     private void loadMembros() {
-        List<MembroDTO> membros = membroService.findAll();
-        membroComboBox.setItems(FXCollections.observableArrayList(membros));
+        loadAsync(membroService.findAllAsync(),
+            membros -> membroComboBox.setItems(FXCollections.observableArrayList(membros)),
+            "Erro ao carregar membros");
     }
 
     private void loadFeatures() {
-        List<ItemSprintDTO> features = service.findAll().stream()
-            .filter(item -> item.getTipo() == TipoItem.FEATURE)
+        loadAsync(pager.reload(), pagina -> { }, "Erro ao carregar features");
+    }
+
+    private List<FeatureTableModel> toTableModels(List<ItemSprintDTO> dtos) {
+        return dtos.stream()
+            .map(this::toTableModel)
             .toList();
-        
-        featureList.clear();
-        features.forEach(dto -> {
-            FeatureTableModel model = new FeatureTableModel(
-                dto.getId(),
-                dto.getTitulo(),
-                dto.getDescricao(),
-                dto.getDuracaoSemanas(),
-                dto.getStatus(),
-                dto.getSprintId(),
-                dto.getSprintNome(),
-                dto.getMembroId(),
-                dto.getMembroNome()
-            );
-            featureList.add(model);
-        });
-        
-        featureTable.refresh();
+    }
+
+    private FeatureTableModel toTableModel(ItemSprintDTO dto) {
+        return new FeatureTableModel(
+            dto.getId(),
+            dto.getTitulo(),
+            dto.getDescricao(),
+            dto.getDuracaoSemanas(),
+            dto.getStatus(),
+            dto.getSprintId(),
+            dto.getSprintNome(),
+            dto.getMembroId(),
+            dto.getMembroNome()
+        );
+    }
+
+    /**
+     * Busca a linha atualizada de um item para a tabela; vazio se o item não pertence a esta tela.
+     */
+    private Optional<FeatureTableModel> loadRow(Long id) {
+        return service.findById(id)
+            .filter(dto -> dto.getTipo() == TipoItem.FEATURE)
+            .map(this::toTableModel);
     }
 
     private void clearForm() {
         editingId = null;
         tituloField.clear();
         descricaoTextArea.clear();
+        descricaoTextArea.setDisable(false);
+        salvarButton.setDisable(false);
         duracaoSpinner.getValueFactory().setValue(2);
         statusComboBox.setValue(StatusItem.CRIADO);
         sprintComboBox.setValue(null);
@@ -3,10 +3,14 @@ package br.tec.jessebezerra.app.controller;
 import br.tec.jessebezerra.app.dto.AplicacaoDTO;
 import br.tec.jessebezerra.app.dto.ItemSprintDTO;
 import br.tec.jessebezerra.app.dto.MembroDTO;
+import br.tec.jessebezerra.app.dto.PaginaItemDTO;
 import br.tec.jessebezerra.app.dto.ProjetoDTO;
 import br.tec.jessebezerra.app.dto.SprintDTO;
 import br.tec.jessebezerra.app.entity.StatusItem;
 import br.tec.jessebezerra.app.entity.TipoItem;
+import br.tec.jessebezerra.app.event.ItemChanged;
+import br.tec.jessebezerra.app.event.MembroChanged;
+import br.tec.jessebezerra.app.event.SprintChanged;
 import br.tec.jessebezerra.app.service.AplicacaoService;
 import br.tec.jessebezerra.app.service.ItemSprintService;
 import br.tec.jessebezerra.app.service.MembroService;
@@ -14,13 +18,14 @@ import br.tec.jessebezerra.app.service.ProjetoService;
 import br.tec.jessebezerra.app.service.SprintService;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.layout.VBox;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class HistoriaController extends BaseController {
     
@@ -56,7 +61,7 @@ public class HistoriaController extends BaseController {
     private final ProjetoService projetoService;
     private final AplicacaoService aplicacaoService;
     private boolean menuExpanded = true;
-    private final ObservableList<HistoriaTableModel> historiaList;
+    private KeysetPager<HistoriaTableModel> pager;
     private Long editingId;
 
     public HistoriaController() {
@@ -65,7 +70,6 @@ public class HistoriaController extends BaseController {
         this.membroService = new MembroService();
         this.projetoService = new ProjetoService();
         this.aplicacaoService = new AplicacaoService();
-        this.historiaList = FXCollections.observableArrayList();
     }
 
     @FXML
@@ -97,7 +101,24 @@ public class HistoriaController extends BaseController {
         featureColumn.setCellValueFactory(cellData -> cellData.getValue().featureTituloProperty());
         membroColumn.setCellValueFactory(cellData -> cellData.getValue().membroNomeProperty());
         
-        historiaTable.setItems(historiaList);
+        // Ordenação por coluna feita na consulta, sobre todos os itens (veja KeysetPager)
+        pager = new KeysetPager<>(historiaTable,
+            Map.of(
+                idColumn, PaginaItemDTO.Coluna.ID,
+                tituloColumn, PaginaItemDTO.Coluna.TITULO,
+                duracaoColumn, PaginaItemDTO.Coluna.DURACAO_SEMANAS,
+                statusColumn, PaginaItemDTO.Coluna.STATUS,
+                sprintColumn, PaginaItemDTO.Coluna.SPRINT,
+                featureColumn, PaginaItemDTO.Coluna.ITEM_PAI,
+                membroColumn, PaginaItemDTO.Coluna.MEMBRO),
+            pagina -> toTableModels(service.findPageAfter(TipoItem.HISTORIA, pagina)),
+            pagina -> toTableModels(service.findPageBefore(TipoItem.HISTORIA, pagina)),
+            HistoriaTableModel::getId);
+        
+        // Inclusões, alterações e exclusões (desta ou de outras janelas) atualizam só as linhas afetadas
+        onChange(ItemChanged.class, evento -> pager.applyChange(evento.getId(), evento.getKind(), this::loadRow));
+        onChange(SprintChanged.class, evento -> loadSprints());
+        onChange(MembroChanged.class, evento -> loadMembros());
         
         historiaTable.getSelectionModel().selectedItemProperty().addListener(
             (obs, oldSelection, newSelection) -> {
@@ -122,7 +143,8 @@ public class HistoriaController extends BaseController {
         dto.setId(editingId);
         dto.setTipo(TipoItem.HISTORIA);
         dto.setTitulo(tituloField.getText());
-        dto.setDescricao(descricaoTextArea.getText());
+        // Área desabilitada: a descrição não pôde ser carregada e a gravada é mantida (descrição nula)
+        dto.setDescricao(descricaoTextArea.isDisabled() ? null : descricaoTextArea.getText());
         dto.setDuracaoSemanas(duracaoSpinner.getValue());
         dto.setStatus(statusComboBox.getValue());
         dto.setSprintId(sprintComboBox.getValue().getId());
@@ -143,21 +165,20 @@ public class HistoriaController extends BaseController {
             dto.setAplicacaoId(aplicacaoComboBox.getValue().getId());
         }
         
-        try {
-            if (editingId == null) {
-                service.create(dto);
-                showAlert("Sucesso", "História criada com sucesso!");
+        boolean criando = editingId == null;
+        CompletableFuture<ItemSprintDTO> operacao = criando ? service.createAsync(dto) : service.updateAsync(dto);
+        salvarButton.setDisable(true);
+        operacao.whenComplete((salvo, erro) -> {
+            salvarButton.setDisable(false);
+            if (erro == null) {
+                showAlert("Sucesso", criando ? "História criada com sucesso!" : "História atualizada com sucesso!");
+                clearForm();
+            } else if (unwrap(erro) instanceof IllegalArgumentException) {
+                showErrorAlert("Validação", unwrap(erro).getMessage());
             } else {
-                service.update(dto);
-                showAlert("Sucesso", "História atualizada com sucesso!");
+                showErrorAlert("Erro", "Erro ao salvar história: " + unwrap(erro).getMessage());
             }
-            clearForm();
-            loadHistorias();
-        } catch (IllegalArgumentException e) {
-            showErrorAlert("Validação", e.getMessage());
-        } catch (Exception e) {
-            showErrorAlert("Erro", "Erro ao salvar história: " + e.getMessage());
-        }
+        });
     }
 
     @FXML
@@ -171,7 +192,23 @@ public class HistoriaController extends BaseController {
         if (selected != null) {
             editingId = selected.getId();
             tituloField.setText(selected.getTitulo());
-            descricaoTextArea.setText(selected.getDescricao());
+            // A listagem não traz a descrição; ela é buscada só para o item em edição.
+            // Salvar fica bloqueado até ela chegar; se a busca falhar, o item é salvo mantendo a descrição gravada
+            Long itemId = selected.getId();
+            descricaoTextArea.clear();
+            descricaoTextArea.setDisable(true);
+            salvarButton.setDisable(true);
+            loadAsync(service.findDescricaoAsync(itemId), descricao -> {
+                if (itemId.equals(editingId)) {
+                    descricaoTextArea.setText(descricao.orElse(""));
+                    descricaoTextArea.setDisable(false);
+                    salvarButton.setDisable(false);
+                }
+            }, () -> {
+                if (itemId.equals(editingId)) {
+                    salvarButton.setDisable(false);
+                }
+            }, "Erro ao carregar descrição");
             duracaoSpinner.getValueFactory().setValue(selected.getDuracaoSemanas());
             statusComboBox.setValue(selected.getStatus());
             
@@ -223,13 +260,13 @@ public class HistoriaController extends BaseController {
             
             Optional<ButtonType> result = confirmAlert.showAndWait();
             if (result.isPresent() && result.get() == ButtonType.OK) {
-                try {
-                    service.delete(selected.getId());
-                    showAlert("Sucesso", "História excluída com sucesso!");
-                    loadHistorias();
-                } catch (Exception e) {
-                    showErrorAlert("Erro", "Erro ao excluir história: " + e.getMessage());
-                }
+                service.deleteAsync(selected.getId()).whenComplete((ignorado, erro) -> {
+                    if (erro == null) {
+                        showAlert("Sucesso", "História excluída com sucesso!");
+                    } else {
+                        showErrorAlert("Erro", "Erro ao excluir história: " + unwrap(erro).getMessage());
+                    }
+                });
             }
         }
     }
@@ -274,73 +311,86 @@ public class HistoriaController extends BaseController {
     }
 
     private void loadSprints() {
-        List<SprintDTO> sprints = sprintService.findAll();
-        sprintComboBox.setItems(FXCollections.observableArrayList(sprints));
+        loadAsync(sprintService.findAllAsync(),
+            sprints -> sprintComboBox.setItems(FXCollections.observableArrayList(sprints)),
+            "Erro ao carregar sprints");
     }
 
     private void loadMembros() {
-        List<MembroDTO> membros = membroService.findAll();
-        membroComboBox.setItems(FXCollections.observableArrayList(membros));
+        loadAsync(membroService.findAllAsync(),
+            membros -> membroComboBox.setItems(FXCollections.observableArrayList(membros)),
+            "Erro ao carregar membros");
     }
 
     private void loadFeatures() {
-        List<ItemSprintDTO> features = service.findAll().stream()
-            .filter(item -> item.getTipo() == TipoItem.FEATURE)
-            .toList();
-        featureComboBox.setItems(FXCollections.observableArrayList(features));
+        loadAsync(service.findByTipoAsync(TipoItem.FEATURE),
+            features -> featureComboBox.setItems(FXCollections.observableArrayList(features)),
+            "Erro ao carregar features");
     }
     
     private void loadFeaturesBySprint(Long sprintId) {
-        List<ItemSprintDTO> features = service.findBySprintId(sprintId).stream()
-            .filter(item -> item.getTipo() == TipoItem.FEATURE)
-            .toList();
-        featureComboBox.setItems(FXCollections.observableArrayList(features));
+        loadAsync(service.findBySprintIdAndTipoAsync(sprintId, TipoItem.FEATURE),
+            features -> featureComboBox.setItems(FXCollections.observableArrayList(features)),
+            "Erro ao carregar features");
     }
     
     private void loadProjetos() {
-        List<ProjetoDTO> projetos = projetoService.findAll();
-        projetoComboBox.setItems(FXCollections.observableArrayList(projetos));
+        loadAsync(projetoService.findAllAsync(),
+            projetos -> projetoComboBox.setItems(FXCollections.observableArrayList(projetos)),
+            "Erro ao carregar projetos");
     }
     
     private void loadAplicacoes() {
-        List<AplicacaoDTO> aplicacoes = aplicacaoService.findAll();
-        aplicacaoComboBox.setItems(FXCollections.observableArrayList(aplicacoes));
+        loadAsync(aplicacaoService.findAllAsync(),
+            aplicacoes -> aplicacaoComboBox.setItems(FXCollections.observableArrayList(aplicacoes)),
+            "Erro ao carregar aplicações");
     }
 
     private void loadHistorias() {
-        List<ItemSprintDTO> historias = service.findAll().stream()
-            .filter(item -> item.getTipo() == TipoItem.HISTORIA)
+        loadAsync(pager.reload(), pagina -> { }, "Erro ao carregar histórias");
+    }
+
+    private List<HistoriaTableModel> toTableModels(List<ItemSprintDTO> dtos) {
+        return dtos.stream()
+            .map(this::toTableModel)
             .toList();
-        
-        historiaList.clear();
-        historias.forEach(dto -> {
-            HistoriaTableModel model = new HistoriaTableModel(
-                dto.getId(),
-                dto.getTitulo(),
-                dto.getDescricao(),
-                dto.getDuracaoSemanas(),
-                dto.getStatus(),
-                dto.getSprintId(),
-                dto.getSprintNome(),
-                dto.getItemPaiId(),
-                dto.getItemPaiTitulo(),
-                dto.getMembroId(),
-                dto.getMembroNome(),
-                dto.getProjetoId(),
-                dto.getProjetoNome(),
-                dto.getAplicacaoId(),
-                dto.getAplicacaoNome()
-            );
-            historiaList.add(model);
-        });
-        
-        historiaTable.refresh();
+    }
+
+    private HistoriaTableModel toTableModel(ItemSprintDTO dto) {
+        return new HistoriaTableModel(
+            dto.getId(),
+            dto.getTitulo(),
+            dto.getDescricao(),
+            dto.getDuracaoSemanas(),
+            dto.getStatus(),
+            dto.getSprintId(),
+            dto.getSprintNome(),
+            dto.getItemPaiId(),
+            dto.getItemPaiTitulo(),
+            dto.getMembroId(),
+            dto.getMembroNome(),
+            dto.getProjetoId(),
+            dto.getProjetoNome(),
+            dto.getAplicacaoId(),
+            dto.getAplicacaoNome()
+        );
+    }
+
+    /**
+     * Busca a linha atualizada de um item para a tabela; vazio se o item não pertence a esta tela.
+     */
+    private Optional<HistoriaTableModel> loadRow(Long id) {
+        return service.findById(id)
+            .filter(dto -> dto.getTipo() == TipoItem.HISTORIA)
+            .map(this::toTableModel);
     }
 
     private void clearForm() {
         editingId = null;
         tituloField.clear();
         descricaoTextArea.clear();
+        descricaoTextArea.setDisable(false);
+        salvarButton.setDisable(false);
         duracaoSpinner.getValueFactory().setValue(1);
         statusComboBox.setValue(StatusItem.CRIADO);
         sprintComboBox.setValue(null);
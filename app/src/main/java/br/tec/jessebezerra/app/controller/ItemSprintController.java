@@ -2,21 +2,26 @@ package br.tec.jessebezerra.app.controller;
 
 import br.tec.jessebezerra.app.dto.ItemSprintDTO;
 import br.tec.jessebezerra.app.dto.MembroDTO;
+import br.tec.jessebezerra.app.dto.PaginaItemDTO;
 import br.tec.jessebezerra.app.dto.SprintDTO;
 import br.tec.jessebezerra.app.entity.StatusItem;
 import br.tec.jessebezerra.app.entity.TipoItem;
+import br.tec.jessebezerra.app.event.ItemChanged;
+import br.tec.jessebezerra.app.event.MembroChanged;
+import br.tec.jessebezerra.app.event.SprintChanged;
 import br.tec.jessebezerra.app.service.ItemSprintService;
 import br.tec.jessebezerra.app.service.MembroService;
 import br.tec.jessebezerra.app.service.SprintService;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.layout.VBox;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class ItemSprintController extends BaseController {
     
@@ -49,14 +54,13 @@ public class ItemSprintController extends BaseController {
     private final SprintService sprintService;
     private final MembroService membroService;
     private boolean menuExpanded = true;
-    private final ObservableList<ItemSprintTableModel> itemList;
+    private KeysetPager<ItemSprintTableModel> pager;
     private Long editingId;
 
     public ItemSprintController() {
         this.service = new ItemSprintService();
         this.sprintService = new SprintService();
         this.membroService = new MembroService();
-        this.itemList = FXCollections.observableArrayList();
     }
 
     @FXML
@@ -84,7 +88,24 @@ public class ItemSprintController extends BaseController {
         sprintColumn.setCellValueFactory(cellData -> cellData.getValue().sprintNomeProperty());
         membroColumn.setCellValueFactory(cellData -> cellData.getValue().membroNomeProperty());
         
-        itemTable.setItems(itemList);
+        // Ordenação por coluna feita na consulta, sobre todos os itens (veja KeysetPager)
+        pager = new KeysetPager<>(itemTable,
+            Map.of(
+                idColumn, PaginaItemDTO.Coluna.ID,
+                tipoColumn, PaginaItemDTO.Coluna.TIPO,
+                tituloColumn, PaginaItemDTO.Coluna.TITULO,
+                duracaoColumn, PaginaItemDTO.Coluna.DURACAO_DIAS,
+                statusColumn, PaginaItemDTO.Coluna.STATUS,
+                sprintColumn, PaginaItemDTO.Coluna.SPRINT,
+                membroColumn, PaginaItemDTO.Coluna.MEMBRO),
+            pagina -> toTableModels(service.findPageAfter(null, pagina)),
+            pagina -> toTableModels(service.findPageBefore(null, pagina)),
+            ItemSprintTableModel::getId);
+        
+        // Inclusões, alterações e exclusões (desta ou de outras janelas) atualizam só as linhas afetadas
+        onChange(ItemChanged.class, evento -> pager.applyChange(evento.getId(), evento.getKind(), this::loadRow));
+        onChange(SprintChanged.class, evento -> loadSprints());
+        onChange(MembroChanged.class, evento -> loadMembros());
         
         itemTable.getSelectionModel().selectedItemProperty().addListener(
             (obs, oldSelection, newSelection) -> {
@@ -111,7 +132,8 @@ public class ItemSprintController extends BaseController {
         dto.setId(editingId);
         dto.setTipo(tipoComboBox.getValue());
         dto.setTitulo(tituloField.getText());
-        dto.setDescricao(descricaoTextArea.getText());
+        // Área desabilitada: a descrição não pôde ser carregada e a gravada é mantida (descrição nula)
+        dto.setDescricao(descricaoTextArea.isDisabled() ? null : descricaoTextArea.getText());
         dto.setDuracaoDias(duracaoSpinner.getValue());
         dto.setStatus(statusComboBox.getValue());
         dto.setSprintId(sprintComboBox.getValue().getId());
@@ -124,21 +146,20 @@ public class ItemSprintController extends BaseController {
             dto.setItemPaiId(itemPaiComboBox.getValue().getId());
         }
         
-        try {
-            if (editingId == null) {
-                service.create(dto);
-                showAlert("Sucesso", "Item criado com sucesso!");
+        boolean criando = editingId == null;
+        CompletableFuture<ItemSprintDTO> operacao = criando ? service.createAsync(dto) : service.updateAsync(dto);
+        salvarButton.setDisable(true);
+        operacao.whenComplete((salvo, erro) -> {
+            salvarButton.setDisable(false);
+            if (erro == null) {
+                showAlert("Sucesso", criando ? "Item criado com sucesso!" : "Item atualizado com sucesso!");
+                clearForm();
+            } else if (unwrap(erro) instanceof IllegalArgumentException) {
+                showErrorAlert("Validação", unwrap(erro).getMessage());
             } else {
-                service.update(dto);
-                showAlert("Sucesso", "Item atualizado com sucesso!");
+                showErrorAlert("Erro", "Erro ao salvar item: " + unwrap(erro).getMessage());
             }
-            clearForm();
-            loadItens();
-        } catch (IllegalArgumentException e) {
-            showErrorAlert("Validação", e.getMessage());
-        } catch (Exception e) {
-            showErrorAlert("Erro", "Erro ao salvar item: " + e.getMessage());
-        }
+        });
     }
 
     @FXML
@@ -153,7 +174,23 @@ public class ItemSprintController extends BaseController {
             editingId = selected.getId();
             tipoComboBox.setValue(selected.getTipo());
             tituloField.setText(selected.getTitulo());
-            descricaoTextArea.setText(selected.getDescricao());
+            // A listagem não traz a descrição; ela é buscada só para o item em edição.
+            // Salvar fica bloqueado até ela chegar; se a busca falhar, o item é salvo mantendo a descrição gravada
+            Long itemId = selected.getId();
+            descricaoTextArea.clear();
+            descricaoTextArea.setDisable(true);
+            salvarButton.setDisable(true);
+            loadAsync(service.findDescricaoAsync(itemId), descricao -> {
+                if (itemId.equals(editingId)) {
+                    descricaoTextArea.setText(descricao.orElse(""));
+                    descricaoTextArea.setDisable(false);
+                    salvarButton.setDisable(false);
+                }
+            }, () -> {
+                if (itemId.equals(editingId)) {
+                    salvarButton.setDisable(false);
+                }
+            }, "Erro ao carregar descrição");
             duracaoSpinner.getValueFactory().setValue(selected.getDuracaoDias());
             statusComboBox.setValue(selected.getStatus());
             
@@ -186,13 +223,13 @@ public class ItemSprintController extends BaseController {
             
             Optional<ButtonType> result = confirmAlert.showAndWait();
             if (result.isPresent() && result.get() == ButtonType.OK) {
-                try {
-                    service.delete(selected.getId());
-                    showAlert("Sucesso", "Item excluído com sucesso!");
-                    loadItens();
-                } catch (Exception e) {
-                    showErrorAlert("Erro", "Erro ao excluir item: " + e.getMessage());
-                }
+                service.deleteAsync(selected.getId()).whenComplete((ignorado, erro) -> {
+                    if (erro == null) {
+                        showAlert("Sucesso", "Item excluído com sucesso!");
+                    } else {
+                        showErrorAlert("Erro", "Erro ao excluir item: " + unwrap(erro).getMessage());
+                    }
+                });
             }
         }
     }
@@ -213,6 +250,7 @@ public class ItemSprintController extends BaseController {
     
     @FXML
     protected void onNavigateToSprints() {
+        releaseScreen();
         try {
             javafx.stage.Stage stage = (javafx.stage.Stage) tituloField.getScene().getWindow();
             double currentWidth = stage.getWidth();
@@ -231,6 +269,7 @@ public class ItemSprintController extends BaseController {
     
     @FXML
     protected void onNavigateToEquipe() {
+        releaseScreen();
         try {
             javafx.stage.Stage stage = (javafx.stage.Stage) tituloField.getScene().getWindow();
             double currentWidth = stage.getWidth();
@@ -248,47 +287,61 @@ public class ItemSprintController extends BaseController {
     }
 
     private void loadSprints() {
-        List<SprintDTO> sprints = sprintService.findAll();
-        sprintComboBox.setItems(FXCollections.observableArrayList(sprints));
+        loadAsync(sprintService.findAllAsync(),
+            sprints -> sprintComboBox.setItems(FXCollections.observableArrayList(sprints)),
+            "Erro ao carregar sprints");
     }
 
     private void loadMembros() {
-        List<MembroDTO> membros = membroService.findAll();
-        membroComboBox.setItems(FXCollections.observableArrayList(membros));
+        loadAsync(membroService.findAllAsync(),
+            membros -> membroComboBox.setItems(FXCollections.observableArrayList(membros)),
+            "Erro ao carregar membros");
     }
 
     private void loadItensPai() {
         if (tipoComboBox.getValue() != null && sprintComboBox.getValue() != null) {
-            List<ItemSprintDTO> itensPossiveis = service.findBySprintId(sprintComboBox.getValue().getId())
-                .stream()
-                .filter(item -> tipoComboBox.getValue().podeSerFilhoDe(item.getTipo()))
-                .toList();
-            
-            itemPaiComboBox.setItems(FXCollections.observableArrayList(itensPossiveis));
+            TipoItem tipo = tipoComboBox.getValue();
+            loadAsync(service.findBySprintIdAsync(sprintComboBox.getValue().getId()), itens -> {
+                List<ItemSprintDTO> itensPossiveis = itens.stream()
+                    .filter(item -> tipo.podeSerFilhoDe(item.getTipo()))
+                    .toList();
+                
+                itemPaiComboBox.setItems(FXCollections.observableArrayList(itensPossiveis));
+            }, "Erro ao carregar itens pai");
         }
     }
 
     private void loadItens() {
-        List<ItemSprintDTO> itens = service.findAll();
-        
-        itemList.clear();
-        itens.forEach(dto -> {
-            ItemSprintTableModel model = new ItemSprintTableModel(
-                dto.getId(),
-                dto.getTipo(),
-                dto.getTitulo(),
-                dto.getDescricao(),
-                dto.getDuracaoDias(),
-                dto.getStatus(),
-                dto.getSprintId(),
-                dto.getSprintNome(),
-                dto.getMembroId(),
-                dto.getMembroNome()
-            );
-            itemList.add(model);
-        });
-        
-        itemTable.refresh();
+        loadAsync(pager.reload(), pagina -> { }, "Erro ao carregar itens");
+    }
+
+    private List<ItemSprintTableModel> toTableModels(List<ItemSprintDTO> dtos) {
+        return dtos.stream()
+            .map(this::toTableModel)
+            .toList();
+    }
+
+    private ItemSprintTableModel toTableModel(ItemSprintDTO dto) {
+        return new ItemSprintTableModel(
+            dto.getId(),
+            dto.getTipo(),
+            dto.getTitulo(),
+            dto.getDescricao(),
+            dto.getDuracaoDias(),
+            dto.getStatus(),
+            dto.getSprintId(),
+            dto.getSprintNome(),
+            dto.getMembroId(),
+            dto.getMembroNome()
+        );
+    }
+
+    /**
+     * Busca a linha atualizada de um item para a tabela; vazio se o item não pertence a esta tela.
+     */
+    private Optional<ItemSprintTableModel> loadRow(Long id) {
+        return service.findById(id)
+            .map(this::toTableModel);
     }
 
     private void clearForm() {
@@ -296,6 +349,8 @@ public class ItemSprintController extends BaseController {
         tipoComboBox.setValue(null);
         tituloField.clear();
         descricaoTextArea.clear();
+        descricaoTextArea.setDisable(false);
+        salvarButton.setDisable(false);
         duracaoSpinner.getValueFactory().setValue(1);
         statusComboBox.setValue(StatusItem.CRIADO);
         sprintComboBox.setValue(null);
@@ -0,0 +1,375 @@
+package br.tec.jessebezerra.app.controller;
+
+import br.tec.jessebezerra.app.dto.PaginaItemDTO;
+import br.tec.jessebezerra.app.event.ChangeKind;
+import br.tec.jessebezerra.app.service.DatabaseExecutor;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Carrega as linhas de uma TableView em páginas, por chave, conforme a rolagem.
+ * Mantém em memória apenas uma janela limitada de linhas: ao chegar ao fim da tabela
+ * busca a próxima página e descarta as linhas mais antigas do início, e vice-versa.
+ * A ordenação é feita na consulta: a chave é (coluna ordenada, id) e clicar no cabeçalho
+ * de uma coluna recarrega a tabela desde a primeira página nessa ordem. Apenas a primeira
+ * coluna da ordenação é considerada; colunas sem correspondência não são ordenáveis.
+ * As páginas são buscadas no {@link DatabaseExecutor} e aplicadas na thread do JavaFX;
+ * o carregador de páginas é chamado fora da thread da interface.
+ */
+public class KeysetPager<T> {
+
+    /**
+     * Busca uma página de linhas na ordenação e a partir do cursor do pedido; cursor nulo indica a extremidade.
+     */
+    @FunctionalInterface
+    public interface PageLoader<T> {
+        List<T> load(PaginaItemDTO pagina);
+    }
+
+    /**
+     * Busca uma única linha pela chave; vazio indica que a linha não pertence (mais) à tabela.
+     */
+    @FunctionalInterface
+    public interface RowLoader<T> {
+        Optional<T> load(Long chave);
+    }
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int DEFAULT_MAX_ROWS = 300;
+
+    private final TableView<T> table;
+    private final PageLoader<T> nextLoader;
+    private final PageLoader<T> previousLoader;
+    private final Function<T, Long> idExtractor;
+    private final Map<TableColumn<T, ?>, PaginaItemDTO.Coluna> colunas;
+    private final int pageSize;
+    private final int maxRows;
+    private final ObservableList<T> window = FXCollections.observableArrayList();
+    private boolean hasMoreBefore;
+    private boolean hasMoreAfter;
+    private boolean loading;
+    private CompletableFuture<?> pending;
+    // Ordenação atual; sem coluna ordenada, a tabela segue a ordem dos ids
+    private TableColumn<T, ?> sortColumn;
+    private PaginaItemDTO.Coluna coluna = PaginaItemDTO.Coluna.ID;
+    private boolean decrescente;
+
+    public KeysetPager(TableView<T> table, Map<TableColumn<T, ?>, PaginaItemDTO.Coluna> colunas,
+                       PageLoader<T> nextLoader, PageLoader<T> previousLoader, Function<T, Long> idExtractor) {
+        this(table, colunas, nextLoader, previousLoader, idExtractor, DEFAULT_PAGE_SIZE, DEFAULT_MAX_ROWS);
+    }
+
+    public KeysetPager(TableView<T> table, Map<TableColumn<T, ?>, PaginaItemDTO.Coluna> colunas,
+                       PageLoader<T> nextLoader, PageLoader<T> previousLoader, Function<T, Long> idExtractor,
+                       int pageSize, int maxRows) {
+        this.table = table;
+        this.colunas = colunas;
+        this.nextLoader = nextLoader;
+        this.previousLoader = previousLoader;
+        this.idExtractor = idExtractor;
+        this.pageSize = pageSize;
+        this.maxRows = Math.max(maxRows, pageSize * 2);
+        
+        table.setItems(window);
+        for (TableColumn<T, ?> column : table.getColumns()) {
+            column.setSortable(colunas.containsKey(column));
+        }
+        // A tabela não reordena as linhas carregadas: cada mudança de ordenação vira uma nova consulta
+        table.setSortPolicy(t -> {
+            onSortChanged();
+            return true;
+        });
+        
+        if (table.getSkin() != null) {
+            installScrollListener();
+        } else {
+            table.skinProperty().addListener((obs, oldSkin, newSkin) -> {
+                if (newSkin != null) {
+                    installScrollListener();
+                }
+            });
+        }
+    }
+
+    /**
+     * Descarta a janela atual e carrega a primeira página.
+     */
+    public CompletableFuture<List<T>> loadFirstPage() {
+        return fetch(nextLoader, pagina(null, false, pageSize)).thenApply(pagina -> {
+            window.setAll(pagina);
+            hasMoreBefore = false;
+            hasMoreAfter = pagina.size() == pageSize;
+            table.scrollTo(0);
+            return pagina;
+        });
+    }
+
+    /**
+     * Recarrega a janela atual a partir da sua primeira linha, refletindo inclusões, alterações e exclusões.
+     */
+    public CompletableFuture<List<T>> reload() {
+        if (window.isEmpty()) {
+            return loadFirstPage();
+        }
+        
+        // No início da tabela recarrega desde a extremidade, para incluir linhas novas antes da primeira
+        T primeiro = hasMoreBefore ? window.get(0) : null;
+        int limite = Math.max(window.size(), pageSize);
+        return fetch(nextLoader, pagina(primeiro, true, limite)).thenApply(pagina -> {
+            window.setAll(pagina);
+            hasMoreAfter = pagina.size() == limite;
+            table.refresh();
+            return pagina;
+        });
+    }
+
+    /**
+     * Aplica à janela carregada a alteração de uma única linha, sem recarregar as demais.
+     * Exclusões removem a linha; inclusões e alterações buscam só a linha afetada, que entra
+     * na janela apenas se a sua posição na ordenação cair dentro dela (ou no seu fim, se não
+     * houver mais páginas).
+     */
+    public void applyChange(Long id, ChangeKind kind, RowLoader<T> rowLoader) {
+        if (kind == ChangeKind.DELETE) {
+            removeRow(id);
+            return;
+        }
+        
+        DatabaseExecutor.supply(() -> rowLoader.load(id)).whenComplete((linha, erro) -> {
+            if (erro != null) {
+                if (!(erro instanceof CancellationException)) {
+                    erro.printStackTrace();
+                }
+            } else if (linha.isPresent()) {
+                upsertRow(id, linha.get());
+            } else {
+                removeRow(id);
+            }
+        });
+    }
+
+    /**
+     * Cancela a busca de página em andamento, se houver.
+     */
+    public void cancel() {
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+        loading = false;
+    }
+
+    /**
+     * Linhas atualmente carregadas, na ordem da tabela.
+     */
+    public List<T> getLoadedRows() {
+        return window;
+    }
+
+    private void removeRow(Long id) {
+        int index = indexOf(id);
+        if (index >= 0) {
+            window.remove(index);
+        }
+    }
+
+    private void upsertRow(Long id, T linha) {
+        int anterior = indexOf(id);
+        if (anterior >= 0) {
+            window.remove(anterior);
+        }
+        
+        int posicao = insertionPoint(linha);
+        if (posicao == anterior || fitsWindow(posicao)) {
+            window.add(posicao, linha);
+        }
+    }
+
+    /**
+     * Indica se uma linha na posição de inserção informada pertence à janela carregada.
+     */
+    private boolean fitsWindow(int posicao) {
+        if (window.isEmpty()) {
+            return !hasMoreBefore && !hasMoreAfter;
+        }
+        if (posicao == 0) {
+            return !hasMoreBefore;
+        }
+        if (posicao == window.size()) {
+            return !hasMoreAfter;
+        }
+        return true;
+    }
+
+    private int indexOf(Long id) {
+        for (int i = 0; i < window.size(); i++) {
+            if (idExtractor.apply(window.get(i)).equals(id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Busca binária da posição da linha na janela, que está na ordem (coluna, id) da consulta.
+     */
+    private int insertionPoint(T linha) {
+        int inicio = 0;
+        int fim = window.size() - 1;
+        while (inicio <= fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (compare(window.get(meio), linha) < 0) {
+                inicio = meio + 1;
+            } else {
+                fim = meio - 1;
+            }
+        }
+        return inicio;
+    }
+
+    private int compare(T linha, T outra) {
+        int comparacao = coluna.comparar(sortValue(linha), sortValue(outra));
+        if (comparacao == 0) {
+            comparacao = idExtractor.apply(linha).compareTo(idExtractor.apply(outra));
+        }
+        return decrescente ? -comparacao : comparacao;
+    }
+
+    private Object sortValue(T linha) {
+        return sortColumn != null ? sortColumn.getCellData(linha) : idExtractor.apply(linha);
+    }
+
+    /**
+     * Pedido de página na ordenação atual, a partir da linha informada (nula para a extremidade).
+     */
+    private PaginaItemDTO pagina(T cursor, boolean incluirCursor, int limite) {
+        if (cursor == null) {
+            return new PaginaItemDTO(coluna, decrescente, null, null, false, limite);
+        }
+        return new PaginaItemDTO(coluna, decrescente, sortValue(cursor), idExtractor.apply(cursor), incluirCursor, limite);
+    }
+
+    private void onSortChanged() {
+        TableColumn<T, ?> primeira = table.getSortOrder().isEmpty() ? null : table.getSortOrder().get(0);
+        PaginaItemDTO.Coluna novaColuna = primeira != null ? colunas.get(primeira) : null;
+        if (novaColuna == null) {
+            primeira = null;
+            novaColuna = PaginaItemDTO.Coluna.ID;
+        }
+        boolean novoDecrescente = primeira != null && primeira.getSortType() == TableColumn.SortType.DESCENDING;
+        if (novaColuna == coluna && novoDecrescente == decrescente && primeira == sortColumn) {
+            return;
+        }
+        
+        sortColumn = primeira;
+        coluna = novaColuna;
+        decrescente = novoDecrescente;
+        loadFirstPage();
+    }
+
+    private void loadNextPage() {
+        if (!hasMoreAfter || window.isEmpty()) {
+            return;
+        }
+        
+        T ultimo = window.get(window.size() - 1);
+        loading = true;
+        fetch(nextLoader, pagina(ultimo, false, pageSize)).thenAccept(pagina -> {
+            hasMoreAfter = pagina.size() == pageSize;
+            if (pagina.isEmpty()) {
+                return;
+            }
+            
+            window.addAll(pagina);
+            int excedente = window.size() - maxRows;
+            if (excedente > 0) {
+                window.remove(0, excedente);
+                hasMoreBefore = true;
+            }
+            table.scrollTo(ultimo);
+        });
+    }
+
+    private void loadPreviousPage() {
+        if (!hasMoreBefore || window.isEmpty()) {
+            return;
+        }
+        
+        T primeiro = window.get(0);
+        loading = true;
+        fetch(previousLoader, pagina(primeiro, false, pageSize)).thenAccept(pagina -> {
+            hasMoreBefore = pagina.size() == pageSize;
+            if (pagina.isEmpty()) {
+                return;
+            }
+            
+            window.addAll(0, pagina);
+            int excedente = window.size() - maxRows;
+            if (excedente > 0) {
+                window.remove(window.size() - excedente, window.size());
+                hasMoreAfter = true;
+            }
+            table.scrollTo(primeiro);
+        });
+    }
+
+    /**
+     * Busca uma página em segundo plano. Uma nova busca substitui a anterior, cujo resultado é descartado.
+     */
+    private CompletableFuture<List<T>> fetch(PageLoader<T> loader, PaginaItemDTO pedido) {
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        
+        CompletableFuture<List<T>> busca = DatabaseExecutor.supply(() -> loader.load(pedido));
+        pending = busca;
+        busca.whenComplete((pagina, erro) -> {
+            if (erro != null && !(erro instanceof CancellationException)) {
+                erro.printStackTrace();
+            }
+            if (pending == busca) {
+                pending = null;
+                loading = false;
+            }
+        });
+        return busca;
+    }
+
+    private void installScrollListener() {
+        // A barra de rolagem só existe depois que a skin é criada e a tabela é diagramada
+        Platform.runLater(() -> {
+            for (Node node : table.lookupAll(".scroll-bar")) {
+                if (node instanceof ScrollBar && ((ScrollBar) node).getOrientation() == Orientation.VERTICAL) {
+                    ScrollBar bar = (ScrollBar) node;
+                    bar.valueProperty().addListener((obs, oldValue, newValue) -> onScroll(bar, newValue.doubleValue()));
+                    return;
+                }
+            }
+        });
+    }
+
+    private void onScroll(ScrollBar bar, double value) {
+        if (loading) {
+            return;
+        }
+        
+        if (value >= bar.getMax()) {
+            loadNextPage();
+        } else if (value <= bar.getMin()) {
+            loadPreviousPage();
+        }
+    }
+}
@@ -180,6 +180,7 @@ public class MembroController extends BaseController {
     
     @FXML
     protected void onNavigateToSprints() {
+        releaseScreen();
         try {
             javafx.stage.Stage stage = (javafx.stage.Stage) nomeField.getScene().getWindow();
             double currentWidth = stage.getWidth();
@@ -198,6 +199,7 @@ public class MembroController extends BaseController {
     
     @FXML
     protected void onNavigateToFeatures() {
+        releaseScreen();
         try {
             javafx.stage.Stage stage = (javafx.stage.Stage) nomeField.getScene().getWindow();
             double currentWidth = stage.getWidth();
@@ -216,6 +218,7 @@ public class MembroController extends BaseController {
     
     @FXML
     protected void onNavigateToHistorias() {
+        releaseScreen();
         try {
             javafx.stage.Stage stage = (javafx.stage.Stage) nomeField.getScene().getWindow();
             double currentWidth = stage.getWidth();
@@ -1,6 +1,8 @@
 package br.tec.jessebezerra.app.controller;
 
 import br.tec.jessebezerra.app.dto.SprintDTO;
+import br.tec.jessebezerra.app.event.ChangeKind;
+import br.tec.jessebezerra.app.event.SprintChanged;
 import br.tec.jessebezerra.app.service.SprintService;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleLongProperty;
@@ -105,6 +107,9 @@ public class SprintController extends BaseController {
             }
         );
         
+        // Alterações de sprints (desta ou de outras janelas) atualizam só a linha afetada
+        onChange(SprintChanged.class, this::applySprintChange);
+        
         System.out.println("Carregando sprints...");
         loadSprints();
         System.out.println("sprintList size após load: " + sprintList.size());
@@ -151,7 +156,6 @@ public class SprintController extends BaseController {
                 showAlert("Sucesso", "Sprint atualizada com sucesso!");
             }
             clearForm();
-            loadSprints();
             System.out.println("=== SALVAMENTO CONCLUÍDO ===");
         } catch (IllegalArgumentException e) {
             System.err.println("ERRO de validação: " + e.getMessage());
@@ -198,6 +202,7 @@ public class SprintController extends BaseController {
     
     @FXML
     protected void onNavigateToEquipe() {
+        releaseScreen();
         try {
             javafx.stage.Stage stage = (javafx.stage.Stage) nomeField.getScene().getWindow();
             double currentWidth = stage.getWidth();
@@ -216,6 +221,7 @@ public class SprintController extends BaseController {
     
     @FXML
     protected void onNavigateToFeatures() {
+        releaseScreen();
         try {
             javafx.stage.Stage stage = (javafx.stage.Stage) nomeField.getScene().getWindow();
             double currentWidth = stage.getWidth();
@@ -234,6 +240,7 @@ public class SprintController extends BaseController {
     
     @FXML
     protected void onNavigateToHistorias() {
+        releaseScreen();
         try {
             javafx.stage.Stage stage = (javafx.stage.Stage) nomeField.getScene().getWindow();
             double currentWidth = stage.getWidth();
@@ -270,7 +277,6 @@ public class SprintController extends BaseController {
                     service.delete(selected.getId());
                     showAlert("Sucesso", "Sprint excluída com sucesso!");
                     clearForm();
-                    loadSprints();
                 } catch (Exception e) {
                     showAlert("Erro", "Erro ao excluir sprint: " + e.getMessage());
                 }
@@ -322,6 +328,32 @@ public class SprintController extends BaseController {
         System.out.println("=== FIM CARREGAMENTO ===");
     }
 
+    /**
+     * Atualiza, insere ou remove a linha da sprint alterada, mantendo a ordem por data de início decrescente.
+     */
+    private void applySprintChange(SprintChanged evento) {
+        sprintList.removeIf(model -> model.getId() == evento.getId());
+        if (evento.getKind() == ChangeKind.DELETE) {
+            return;
+        }
+        
+        service.findById(evento.getId()).ifPresent(dto -> {
+            SprintTableModel model = new SprintTableModel(
+                dto.getId(),
+                dto.getNome(),
+                dto.getDataInicio(),
+                dto.getDuracaoSemanas(),
+                dto.getDataFim()
+            );
+            int posicao = 0;
+            while (posicao < sprintList.size()
+                    && !sprintList.get(posicao).getDataInicio().isBefore(dto.getDataInicio())) {
+                posicao++;
+            }
+            sprintList.add(posicao, model);
+        });
+    }
+
     private void clearForm() {
         editingId = null;
         nomeField.clear();
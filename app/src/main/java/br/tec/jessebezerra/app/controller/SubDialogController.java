@@ -109,7 +109,8 @@ public class SubDialogController {
         dto.setId(editingId);
         dto.setTipo(TipoItem.SUB);
         dto.setTitulo(tituloField.getText());
-        dto.setDescricao(descricaoTextArea.getText());
+        // Área desabilitada: a descrição não pôde ser carregada e a gravada é mantida (descrição nula)
+        dto.setDescricao(descricaoTextArea.isDisabled() ? null : descricaoTextArea.getText());
         dto.setDuracaoDias(duracaoSpinner.getValue());
         dto.setStatus(statusComboBox.getValue());
         dto.setSprintId(sprintId);
@@ -147,7 +148,22 @@ public class SubDialogController {
         if (selected != null) {
             editingId = selected.getId();
             tituloField.setText(selected.getTitulo());
-            descricaoTextArea.setText(selected.getDescricao());
+            // A listagem não traz a descrição; ela é buscada só para a SUB em edição.
+            // Salvar fica bloqueado até ela chegar; se a busca falhar, a SUB é salva mantendo a descrição gravada
+            Long subId = selected.getId();
+            descricaoTextArea.clear();
+            descricaoTextArea.setDisable(true);
+            salvarButton.setDisable(true);
+            service.findDescricaoAsync(subId).whenComplete((descricao, erro) -> {
+                if (!subId.equals(editingId)) {
+                    return;
+                }
+                salvarButton.setDisable(false);
+                if (erro == null) {
+                    descricaoTextArea.setText(descricao.orElse(""));
+                    descricaoTextArea.setDisable(false);
+                }
+            });
             duracaoSpinner.getValueFactory().setValue(selected.getDuracaoDias());
             statusComboBox.setValue(selected.getStatus());
             
@@ -195,9 +211,7 @@ public class SubDialogController {
     }
 
     private void loadSubs() {
-        List<ItemSprintDTO> subs = service.findByItemPaiId(historiaId).stream()
-            .filter(item -> item.getTipo() == TipoItem.SUB)
-            .toList();
+        List<ItemSprintDTO> subs = service.findByItemPaiIdAndTipo(historiaId, TipoItem.SUB);
         
         subList.clear();
         subs.forEach(dto -> {
@@ -220,6 +234,8 @@ public class SubDialogController {
         editingId = null;
         tituloField.clear();
         descricaoTextArea.clear();
+        descricaoTextArea.setDisable(false);
+        salvarButton.setDisable(false);
         duracaoSpinner.getValueFactory().setValue(1);
         statusComboBox.setValue(StatusItem.CRIADO);
         membroComboBox.setValue(null);
@@ -3,12 +3,15 @@ package br.tec.jessebezerra.app.controller;
 import br.tec.jessebezerra.app.dto.ItemSprintDTO;
 import br.tec.jessebezerra.app.dto.MembroDTO;
 import br.tec.jessebezerra.app.dto.SprintDTO;
-import br.tec.jessebezerra.app.entity.TipoItem;
+import br.tec.jessebezerra.app.event.ChangeKind;
+import br.tec.jessebezerra.app.event.ItemChanged;
 import br.tec.jessebezerra.app.service.ItemSprintService;
 import br.tec.jessebezerra.app.service.MembroService;
 import br.tec.jessebezerra.app.service.SprintService;
 import br.tec.jessebezerra.app.service.TimelineExcelService;
+import br.tec.jessebezerra.app.service.TimelineModel;
 import br.tec.jessebezerra.app.service.TimelineService;
+import br.tec.jessebezerra.app.util.WorkingDayCalendar;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
@@ -18,10 +21,10 @@ import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 public class TimelineController extends BaseController {
@@ -54,6 +57,7 @@ public class TimelineController extends BaseController {
     private ComboBox<MembroDTO> membroFilterComboBox;
     
     private SprintService sprintService;
+    private ItemSprintService itemSprintService;
     private TimelineService timelineService;
     private MembroService membroService;
     private TimelineExcelService excelService;
@@ -61,14 +65,13 @@ public class TimelineController extends BaseController {
     private boolean menuExpanded = true;
     private SprintDTO selectedSprint;
     private List<LocalDate> workingDays;
-    
-    private static final String[] COLORS = {
-        "#FFB6C1", "#FFD700", "#98FB98", "#87CEEB", "#DDA0DD",
-        "#F0E68C", "#E0BBE4", "#FFDAB9", "#B0E0E6", "#FFE4B5"
-    };
+    private CompletableFuture<List<TimelineService.TimelineItem>> timelineLoad;
+    private List<TimelineService.TimelineItem> timelineItems;
+    private TimelineModel timelineModel;
 
     public TimelineController() {
         this.sprintService = new SprintService();
+        this.itemSprintService = new ItemSprintService();
         this.timelineService = new TimelineService();
         this.membroService = new MembroService();
         this.excelService = new TimelineExcelService();
@@ -77,24 +80,28 @@ public class TimelineController extends BaseController {
 
     @FXML
     public void initialize() {
+        // Edições de itens (desta ou de outras janelas) atualizam só as linhas afetadas
+        onChange(ItemChanged.class, this::applyItemChange);
+        
         loadMembros();
         loadAndBuildTimeline();
     }
     
     private void loadMembros() {
-        List<MembroDTO> membros = membroService.findAll();
-        membroFilterComboBox.setItems(FXCollections.observableArrayList(membros));
+        loadAsync(membroService.findAllAsync(),
+            membros -> membroFilterComboBox.setItems(FXCollections.observableArrayList(membros)),
+            "Erro ao carregar membros");
     }
     
     @FXML
     protected void onFilterChanged() {
-        loadAndBuildTimeline();
+        rebuildTimeline();
     }
     
     @FXML
     protected void onClearMembroFilter() {
         membroFilterComboBox.setValue(null);
-        loadAndBuildTimeline();
+        rebuildTimeline();
     }
     
     @FXML
@@ -104,32 +111,23 @@ public class TimelineController extends BaseController {
     
     @FXML
     protected void onColumnVisibilityChanged() {
-        loadAndBuildTimeline();
+        rebuildTimeline();
     }
     
     @FXML
     protected void onExportToExcel() {
-        if (selectedSprint == null) {
+        if (selectedSprint == null || timelineModel == null) {
             showErrorAlert("Erro", "Nenhuma sprint selecionada para exportar.");
             return;
         }
         
         try {
-            boolean showFeatures = showFeaturesCheckBox.isSelected();
-            boolean showHistorias = showHistoriasCheckBox.isSelected();
-            boolean showTarefas = showTarefasCheckBox.isSelected();
-            boolean showProjeto = showProjetoCheckBox.isSelected();
-            boolean showAplicacao = showAplicacaoCheckBox.isSelected();
-            MembroDTO membroFilter = membroFilterComboBox.getValue();
-            
+            // Exporta exatamente o modelo exibido na tela
             java.io.File excelFile = excelService.exportToExcel(
                 selectedSprint, 
-                showFeatures, 
-                showHistorias, 
-                showTarefas, 
-                showProjeto, 
-                showAplicacao, 
-                membroFilter
+                timelineModel, 
+                showProjetoCheckBox.isSelected(), 
+                showAplicacaoCheckBox.isSelected()
             );
             
             // Abrir o arquivo gerado
@@ -161,83 +159,123 @@ public class TimelineController extends BaseController {
 
 
     private void loadAndBuildTimeline() {
-        List<SprintDTO> sprints = sprintService.findAll();
-        if (!sprints.isEmpty()) {
-            selectedSprint = sprints.get(0); // Carregar primeira sprint automaticamente
-            calculateWorkingDays();
-            buildTimeline();
+        // Uma nova carga (ex.: atualização manual) substitui a que ainda estiver em andamento
+        if (timelineLoad != null) {
+            timelineLoad.cancel(false);
         }
+        
+        CompletableFuture<List<TimelineService.TimelineItem>> carga = sprintService.findAllAsync()
+            .thenCompose(sprints -> {
+                if (sprints.isEmpty()) {
+                    return CompletableFuture.completedFuture(null);
+                }
+                selectedSprint = sprints.get(0); // Carregar primeira sprint automaticamente
+                return timelineService.buildHierarchicalTimelineAsync(selectedSprint.getId());
+            });
+        timelineLoad = carga;
+        
+        loadAsync(carga, itens -> {
+            if (itens != null) {
+                timelineItems = itens;
+                rebuildTimeline();
+            }
+        }, "Erro ao carregar timeline");
     }
 
-    private void calculateWorkingDays() {
-        workingDays = timelineService.calculateWorkingDays(selectedSprint);
+    /**
+     * Reagenda a hierarquia já carregada com os filtros atuais e redesenha, sem voltar ao banco
+     */
+    private void rebuildTimeline() {
+        if (timelineItems == null) {
+            loadAndBuildTimeline();
+            return;
+        }
+        
+        timelineModel = timelineService.buildTimelineModel(selectedSprint, timelineItems, currentFilter());
+        workingDays = timelineModel.getWorkingDays();
+        buildTimeline(timelineModel);
     }
 
-    private void buildTimeline() {
-        timelineContainer.getChildren().clear();
-        
-        // Criar cabeçalho
-        GridPane header = createHeader();
-        timelineContainer.getChildren().add(header);
-        
-        // Buscar itens organizados hierarquicamente
-        List<TimelineService.TimelineItem> timelineItems = timelineService.buildHierarchicalTimeline(selectedSprint.getId());
-        
-        // Aplicar filtros
-        timelineItems = applyFilters(timelineItems);
-        
-        // Buscar todos os itens para cálculos
-        List<ItemSprintDTO> allItems = new ArrayList<>();
-        for (TimelineService.TimelineItem ti : timelineItems) {
-            allItems.add(ti.getItem());
+    private void applyItemChange(ItemChanged evento) {
+        if (timelineItems == null || timelineModel == null) {
+            return;
         }
         
-        // Rastrear dias alocados por membro
-        Map<Long, Integer> memberAllocations = new HashMap<>();
-        
-        int colorIndex = 0;
-        String currentFeatureColor = COLORS[0]; // Cor padrão inicial
+        int posicao = indexInHierarchy(evento.getId());
+        if (evento.getKind() == ChangeKind.DELETE) {
+            if (posicao >= 0) {
+                loadAndBuildTimeline();
+            }
+            return;
+        }
         
-        for (TimelineService.TimelineItem timelineItem : timelineItems) {
-            ItemSprintDTO item = timelineItem.getItem();
-            int indentLevel = timelineItem.getIndentLevel();
-            String displayType = timelineItem.getDisplayType();
-            
-            // Definir cor baseada no nível
-            String rowColor;
-            if (indentLevel == 0) {
-                // Feature - atribuir nova cor
-                currentFeatureColor = COLORS[colorIndex % COLORS.length];
-                colorIndex++;
-                rowColor = currentFeatureColor;
-            } else if (indentLevel == 1) {
-                // História - usar cor da Feature pai (ou cor padrão se Feature foi filtrada)
-                rowColor = adjustBrightness(currentFeatureColor, 0.9);
-            } else {
-                // Tarefa/SUB - usar cor da Feature pai (ou cor padrão se Feature foi filtrada)
-                rowColor = adjustBrightness(currentFeatureColor, 0.8);
+        loadAsync(itemSprintService.findByIdAsync(evento.getId()), encontrado -> {
+            int atual = indexInHierarchy(evento.getId());
+            ItemSprintDTO item = encontrado.orElse(null);
+            boolean daSprint = item != null && selectedSprint.getId().equals(item.getSprintId());
+            if (atual < 0 || item == null) {
+                // Item novo ou movido para esta sprint, ou excluído: a hierarquia muda
+                if (daSprint || atual >= 0) {
+                    loadAndBuildTimeline();
+                }
+                return;
             }
             
-            // Calcular dia inicial e duração
-            int startDay = 0;
-            int customDuration = -1; // -1 significa usar duração padrão do item
-            
-            if (item.getTipo() == TipoItem.SUB) {
-                // SUBs: alocação sequencial por membro
-                if (item.getMembroId() != null) {
-                    startDay = memberAllocations.getOrDefault(item.getMembroId(), 0);
-                    int duration = timelineService.calculateDurationInDays(item);
-                    memberAllocations.put(item.getMembroId(), startDay + duration);
-                }
-            } else if (item.getTipo() == TipoItem.HISTORIA || item.getTipo() == TipoItem.TAREFA) {
-                // Histórias e Tarefas: começam no dia da primeira SUB e terminam no dia da última SUB
-                startDay = timelineService.calculateParentStartDay(item.getId(), allItems, memberAllocations);
-                customDuration = timelineService.calculateParentDuration(item.getId(), allItems, memberAllocations);
+            TimelineService.TimelineItem anterior = timelineItems.get(atual);
+            ItemSprintDTO itemAnterior = anterior.getItem();
+            if (!daSprint || itemAnterior.getTipo() != item.getTipo()
+                    || !Objects.equals(itemAnterior.getItemPaiId(), item.getItemPaiId())) {
+                loadAndBuildTimeline();
+                return;
             }
-            // Features sempre começam do dia 0
             
-            GridPane row = createItemRow(item, indentLevel, rowColor, displayType, startDay, customDuration);
-            timelineContainer.getChildren().add(row);
+            timelineItems.set(atual, new TimelineService.TimelineItem(item, anterior.getIndentLevel(), anterior.getDisplayType()));
+            Optional<TimelineModel.Patch> patch = timelineService.updateTimelineModel(timelineModel, item);
+            if (patch.isPresent()) {
+                patchRows(patch.get());
+            } else {
+                rebuildTimeline(); // Item passou a aparecer ou a ser ocultado pelos filtros
+            }
+        }, "Erro ao atualizar timeline");
+    }
+
+    /**
+     * Substitui apenas os nós das linhas alteradas (o índice 0 do contêiner é o cabeçalho)
+     */
+    private void patchRows(TimelineModel.Patch patch) {
+        timelineModel = patch.getModel();
+        for (int indice : patch.getChangedRows()) {
+            timelineContainer.getChildren().set(indice + 1, createItemRow(timelineModel.getRows().get(indice)));
+        }
+    }
+
+    private int indexInHierarchy(Long itemId) {
+        for (int i = 0; i < timelineItems.size(); i++) {
+            if (timelineItems.get(i).getItem().getId().equals(itemId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private TimelineModel.Filter currentFilter() {
+        MembroDTO selectedMembro = membroFilterComboBox.getValue();
+        return new TimelineModel.Filter(
+            showFeaturesCheckBox.isSelected(),
+            showHistoriasCheckBox.isSelected(),
+            showTarefasCheckBox.isSelected(),
+            selectedMembro != null ? selectedMembro.getId() : null);
+    }
+
+    private void buildTimeline(TimelineModel model) {
+        timelineContainer.getChildren().clear();
+        
+        // Criar cabeçalho
+        GridPane header = createHeader();
+        timelineContainer.getChildren().add(header);
+        
+        for (TimelineModel.Row modelRow : model.getRows()) {
+            timelineContainer.getChildren().add(createItemRow(modelRow));
         }
     }
 
@@ -357,7 +395,7 @@ public class TimelineController extends BaseController {
             LocalDate day = workingDays.get(i);
             daysInCurrentWeek++;
             
-            boolean isEndOfWeek = day.getDayOfWeek() == DayOfWeek.FRIDAY || i == workingDays.size() - 1;
+            boolean isEndOfWeek = i == workingDays.size() - 1 || !WorkingDayCalendar.isSameWeek(day, workingDays.get(i + 1));
             
             if (isEndOfWeek) {
                 String weekColor = weekColors[(weekNumber - 1) % weekColors.length];
@@ -450,7 +488,7 @@ public class TimelineController extends BaseController {
             LocalDate day = workingDays.get(i);
             daysInCurrentWeek++;
             
-            boolean isEndOfWeek = day.getDayOfWeek() == DayOfWeek.FRIDAY || i == workingDays.size() - 1;
+            boolean isEndOfWeek = i == workingDays.size() - 1 || !WorkingDayCalendar.isSameWeek(day, workingDays.get(i + 1));
             
             if (isEndOfWeek) {
                 String weekColor = weekColors[(weekNumber - 1) % weekColors.length];
@@ -483,7 +521,12 @@ public class TimelineController extends BaseController {
         return header;
     }
 
-    private GridPane createItemRow(ItemSprintDTO item, int indentLevel, String color, String tipo, int startDay, int customDuration) {
+    private GridPane createItemRow(TimelineModel.Row modelRow) {
+        ItemSprintDTO item = modelRow.getItem();
+        int indentLevel = modelRow.getIndentLevel();
+        String color = modelRow.getColor();
+        String tipo = modelRow.getDisplayType();
+        
         GridPane row = new GridPane();
         row.setStyle("-fx-border-color: #E0E0E0; -fx-border-width: 0 0 1 0; -fx-padding: 0;");
         row.setHgap(0);
@@ -551,13 +594,8 @@ public class TimelineController extends BaseController {
             currentCol++;
         }
         
-        // Calcular dias de alocação
-        // Se customDuration >= 0, usar ele; caso contrário, usar duração padrão do item
-        int duration = customDuration >= 0 ? customDuration : calculateDurationInDays(item);
-        
         // Colunas de dias
         int colIndex = currentCol;
-        int daysAllocated = 0;
         for (int i = 0; i < workingDays.size(); i++) {
             Label dayCell = new Label();
             dayCell.setMinWidth(32);
@@ -567,11 +605,10 @@ public class TimelineController extends BaseController {
             dayCell.setAlignment(Pos.CENTER);
             
             // Verificar se este dia está dentro do período de alocação do item
-            if (i >= startDay && daysAllocated < duration) {
+            if (modelRow.occupies(i)) {
                 dayCell.setStyle(String.format("-fx-background-color: %s; -fx-border-color: white; " +
                     "-fx-border-width: 0; -fx-text-fill: #333; -fx-font-weight: bold; -fx-font-size: 10px; -fx-padding: 0;", color));
                 dayCell.setText(String.valueOf(workingDays.get(i).getDayOfMonth()));
-                daysAllocated++;
             } else {
                 dayCell.setStyle("-fx-background-color: transparent; -fx-padding: 0;");
             }
@@ -583,15 +620,6 @@ public class TimelineController extends BaseController {
         return row;
     }
 
-    private int calculateDurationInDays(ItemSprintDTO item) {
-        if (item.getDuracaoDias() != null && item.getDuracaoDias() > 0) {
-            return item.getDuracaoDias();
-        } else if (item.getDuracaoSemanas() != null && item.getDuracaoSemanas() > 0) {
-            return item.getDuracaoSemanas() * 5;
-        }
-        return 0;
-    }
-
     private String adjustBrightness(String hexColor, double factor) {
         Color color = Color.web(hexColor);
         double r = Math.min(1.0, color.getRed() * factor);
@@ -601,58 +629,6 @@ public class TimelineController extends BaseController {
             (int)(r * 255), (int)(g * 255), (int)(b * 255));
     }
     
-    private List<TimelineService.TimelineItem> applyFilters(List<TimelineService.TimelineItem> items) {
-        List<TimelineService.TimelineItem> filteredItems = new ArrayList<>();
-        
-        // Obter filtros selecionados
-        boolean showFeatures = showFeaturesCheckBox.isSelected();
-        boolean showHistorias = showHistoriasCheckBox.isSelected();
-        boolean showTarefas = showTarefasCheckBox.isSelected();
-        MembroDTO selectedMembro = membroFilterComboBox.getValue();
-        
-        for (TimelineService.TimelineItem timelineItem : items) {
-            ItemSprintDTO item = timelineItem.getItem();
-            int indentLevel = timelineItem.getIndentLevel();
-            
-            // Filtro por tipo de item
-            boolean typeMatch = false;
-            
-            // Features (nível 0)
-            if (item.getTipo() == TipoItem.FEATURE) {
-                typeMatch = showFeatures;
-            } 
-            // Histórias (nível 1 - filhas de Features)
-            else if (item.getTipo() == TipoItem.HISTORIA) {
-                typeMatch = showHistorias;
-            } 
-            // Tarefas (nível 2 - filhas de Histórias)
-            else if (item.getTipo() == TipoItem.TAREFA) {
-                typeMatch = showTarefas;
-            } 
-            // SUBs (nível 3 - filhas de Tarefas ou Histórias)
-            else if (item.getTipo() == TipoItem.SUB) {
-                // SUBs são exibidas se Histórias ou Tarefas estiverem marcadas
-                typeMatch = showHistorias || showTarefas;
-            }
-            
-            if (!typeMatch) {
-                continue;
-            }
-            
-            // Filtro por membro
-            if (selectedMembro != null) {
-                // Se um membro está selecionado, mostrar apenas itens desse membro
-                if (item.getMembroId() == null || !item.getMembroId().equals(selectedMembro.getId())) {
-                    continue;
-                }
-            }
-            
-            filteredItems.add(timelineItem);
-        }
-        
-        return filteredItems;
-    }
-    
     @Override
     protected javafx.stage.Stage getCurrentStage() {
         return (javafx.stage.Stage) timelineContainer.getScene().getWindow();
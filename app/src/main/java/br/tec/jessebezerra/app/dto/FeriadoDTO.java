@@ -0,0 +1,22 @@
+package br.tec.jessebezerra.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeriadoDTO {
+    private Long id;
+    private String descricao;
+    private LocalDate dataInicio;
+    private LocalDate dataFim;
+    
+    @Override
+    public String toString() {
+        return descricao;
+    }
+}
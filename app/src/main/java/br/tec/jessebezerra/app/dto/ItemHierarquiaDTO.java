@@ -0,0 +1,21 @@
+package br.tec.jessebezerra.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Item da sprint acompanhado da sua profundidade na hierarquia (0 = raiz da subárvore).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemHierarquiaDTO {
+    private ItemSprintDTO item;
+    private int profundidade;
+    
+    @Override
+    public String toString() {
+        return item != null ? item.getTitulo() : "";
+    }
+}
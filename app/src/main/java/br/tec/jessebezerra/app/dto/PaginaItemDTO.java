@@ -0,0 +1,70 @@
+package br.tec.jessebezerra.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.function.Function;
+
+/**
+ * Pedido de uma página de itens na paginação por chave: coluna e sentido da ordenação, cursor
+ * (valor da coluna e id da linha de referência, nulo na extremidade) e tamanho da página.
+ * A ordem é sempre (coluna, id), no mesmo sentido, para que a chave seja única.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaItemDTO {
+    private Coluna coluna;
+    private boolean decrescente;
+    private Object valorCursor;
+    private Long idCursor;
+    private boolean incluirCursor;
+    private int limite;
+
+    /**
+     * Colunas pelas quais as listagens de itens podem ser ordenadas. Textos nulos ordenam como vazios
+     * e durações nulas como zero; tipo e status seguem a ordem de declaração dos enums.
+     */
+    public enum Coluna {
+        ID(ItemSprintDTO::getId, 0L),
+        TIPO(ItemSprintDTO::getTipo, null),
+        TITULO(ItemSprintDTO::getTitulo, ""),
+        DURACAO_SEMANAS(ItemSprintDTO::getDuracaoSemanas, 0),
+        DURACAO_DIAS(ItemSprintDTO::getDuracaoDias, 0),
+        STATUS(ItemSprintDTO::getStatus, null),
+        SPRINT(ItemSprintDTO::getSprintNome, ""),
+        MEMBRO(ItemSprintDTO::getMembroNome, ""),
+        ITEM_PAI(ItemSprintDTO::getItemPaiTitulo, "");
+        
+        private final Function<ItemSprintDTO, Object> extrator;
+        private final Object valorNulo;
+        
+        Coluna(Function<ItemSprintDTO, Object> extrator, Object valorNulo) {
+            this.extrator = extrator;
+            this.valorNulo = valorNulo;
+        }
+        
+        public Object valor(ItemSprintDTO item) {
+            return normalizar(extrator.apply(item));
+        }
+        
+        /**
+         * Valor usado na ordenação: nulos viram o valor padrão da coluna e enums, a sua posição.
+         */
+        public Object normalizar(Object valor) {
+            if (valor == null) {
+                return valorNulo != null ? valorNulo : -1;
+            }
+            if (valor instanceof Enum) {
+                return ((Enum<?>) valor).ordinal();
+            }
+            return valor;
+        }
+        
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public int comparar(Object valor, Object outro) {
+            return ((Comparable) normalizar(valor)).compareTo(normalizar(outro));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package br.tec.jessebezerra.app.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Feriado {
+    private Long id;
+    private String descricao;
+    private LocalDate dataInicio;
+    private LocalDate dataFim;
+}
@@ -0,0 +1,11 @@
+package br.tec.jessebezerra.app.event;
+
+/**
+ * Alteração em uma aplicação (tabela aplicacao).
+ */
+public class AplicacaoChanged extends ChangeEvent {
+
+    public AplicacaoChanged(Long id, ChangeKind kind) {
+        super(id, kind);
+    }
+}
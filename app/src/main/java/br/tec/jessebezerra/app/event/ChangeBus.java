@@ -0,0 +1,107 @@
+package br.tec.jessebezerra.app.event;
+
+import br.tec.jessebezerra.app.cache.ReferenceDataCache;
+import br.tec.jessebezerra.app.util.WorkingDayCalendar;
+import javafx.application.Platform;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Barramento de notificações de alterações no banco de dados.
+ * As alterações são capturadas na conexão de escrita e publicadas após o commit;
+ * os inscritos as recebem na thread do JavaFX e podem atualizar apenas as linhas afetadas,
+ * mantendo várias telas consistentes sem recarregar tudo.
+ */
+public final class ChangeBus {
+
+    /**
+     * Inscrição ativa no barramento; cancelar interrompe as entregas.
+     */
+    public interface Subscription {
+        void cancel();
+    }
+
+    private static final List<Subscriber<?>> SUBSCRIBERS = new CopyOnWriteArrayList<>();
+
+    private ChangeBus() {
+    }
+
+    /**
+     * Inscreve o consumidor para receber os eventos do tipo informado (e subtipos).
+     */
+    public static <E extends ChangeEvent> Subscription subscribe(Class<E> tipo, Consumer<? super E> consumidor) {
+        Subscriber<E> subscriber = new Subscriber<>(tipo, consumidor);
+        SUBSCRIBERS.add(subscriber);
+        return () -> SUBSCRIBERS.remove(subscriber);
+    }
+
+    /**
+     * Publica as alterações confirmadas de uma escrita.
+     * Os caches de dados de referência e o calendário de dias úteis são invalidados imediatamente, antes da entrega,
+     * para que os inscritos leiam os valores novos.
+     */
+    public static void publish(List<ChangeEvent> eventos) {
+        if (eventos.isEmpty()) {
+            return;
+        }
+        
+        for (ChangeEvent evento : eventos) {
+            invalidateReferenceData(evento);
+        }
+        
+        if (SUBSCRIBERS.isEmpty()) {
+            return;
+        }
+        
+        Runnable entrega = () -> {
+            for (ChangeEvent evento : eventos) {
+                for (Subscriber<?> subscriber : SUBSCRIBERS) {
+                    subscriber.deliver(evento);
+                }
+            }
+        };
+        try {
+            Platform.runLater(entrega);
+        } catch (IllegalStateException e) {
+            // Toolkit do JavaFX não iniciado (uso fora da interface): entrega na própria thread
+            entrega.run();
+        }
+    }
+
+    private static void invalidateReferenceData(ChangeEvent evento) {
+        if (evento instanceof SprintChanged) {
+            ReferenceDataCache.SPRINTS.invalidate(evento.getId());
+        } else if (evento instanceof MembroChanged) {
+            ReferenceDataCache.MEMBROS.invalidate(evento.getId());
+        } else if (evento instanceof ProjetoChanged) {
+            ReferenceDataCache.PROJETOS.invalidate(evento.getId());
+        } else if (evento instanceof AplicacaoChanged) {
+            ReferenceDataCache.APLICACOES.invalidate(evento.getId());
+        } else if (evento instanceof FeriadoChanged) {
+            WorkingDayCalendar.invalidate();
+        }
+    }
+
+    private static class Subscriber<E extends ChangeEvent> {
+        private final Class<E> tipo;
+        private final Consumer<? super E> consumidor;
+        
+        Subscriber(Class<E> tipo, Consumer<? super E> consumidor) {
+            this.tipo = tipo;
+            this.consumidor = consumidor;
+        }
+        
+        void deliver(ChangeEvent evento) {
+            if (!tipo.isInstance(evento)) {
+                return;
+            }
+            try {
+                consumidor.accept(tipo.cast(evento));
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package br.tec.jessebezerra.app.event;
+
+/**
+ * Alteração confirmada (commit) em uma linha do banco de dados, identificada pelo id.
+ * Cada tabela observada tem sua própria subclasse, usada para a inscrição no {@link ChangeBus}.
+ */
+public abstract class ChangeEvent {
+
+    private final Long id;
+    private final ChangeKind kind;
+
+    protected ChangeEvent(Long id, ChangeKind kind) {
+        this.id = id;
+        this.kind = kind;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public ChangeKind getKind() {
+        return kind;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + id + ", " + kind + ")";
+    }
+}
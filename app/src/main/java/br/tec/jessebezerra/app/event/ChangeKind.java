@@ -0,0 +1,10 @@
+package br.tec.jessebezerra.app.event;
+
+/**
+ * Tipo de alteração sofrida por uma linha do banco de dados.
+ */
+public enum ChangeKind {
+    INSERT,
+    UPDATE,
+    DELETE
+}
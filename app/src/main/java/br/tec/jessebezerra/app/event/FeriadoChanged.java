@@ -0,0 +1,11 @@
+package br.tec.jessebezerra.app.event;
+
+/**
+ * Alteração em um feriado (tabela feriado).
+ */
+public class FeriadoChanged extends ChangeEvent {
+
+    public FeriadoChanged(Long id, ChangeKind kind) {
+        super(id, kind);
+    }
+}
@@ -0,0 +1,11 @@
+package br.tec.jessebezerra.app.event;
+
+/**
+ * Alteração em um item da sprint (tabela item_sprint).
+ */
+public class ItemChanged extends ChangeEvent {
+
+    public ItemChanged(Long id, ChangeKind kind) {
+        super(id, kind);
+    }
+}
@@ -0,0 +1,11 @@
+package br.tec.jessebezerra.app.event;
+
+/**
+ * Alteração em um membro (tabela membro).
+ */
+public class MembroChanged extends ChangeEvent {
+
+    public MembroChanged(Long id, ChangeKind kind) {
+        super(id, kind);
+    }
+}
@@ -0,0 +1,11 @@
+package br.tec.jessebezerra.app.event;
+
+/**
+ * Alteração em um projeto (tabela projeto).
+ */
+public class ProjetoChanged extends ChangeEvent {
+
+    public ProjetoChanged(Long id, ChangeKind kind) {
+        super(id, kind);
+    }
+}
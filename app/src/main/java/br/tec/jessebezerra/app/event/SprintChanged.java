@@ -0,0 +1,11 @@
+package br.tec.jessebezerra.app.event;
+
+/**
+ * Alteração em uma sprint (tabela sprint).
+ */
+public class SprintChanged extends ChangeEvent {
+
+    public SprintChanged(Long id, ChangeKind kind) {
+        super(id, kind);
+    }
+}
@@ -0,0 +1,47 @@
+package br.tec.jessebezerra.app.repository;
+
+import br.tec.jessebezerra.app.entity.Feriado;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Acesso aos feriados e paradas. Implementações: {@link JdbcFeriadoRepository} (SQLite) e
+ * {@link InMemoryFeriadoRepository} (memória); use {@link RepositoryFactory} para obter a instância.
+ */
+public interface FeriadoRepository {
+
+    Feriado save(Feriado feriado);
+
+    Feriado update(Feriado feriado);
+
+    void delete(Long id);
+
+    Optional<Feriado> findById(Long id);
+
+    /**
+     * Todos os registros, em ordem de data de início.
+     */
+    List<Feriado> findAll();
+
+    /**
+     * Todos os dias cobertos pelos feriados, em dias desde 1970-01-01, sem ordem nem remoção de repetidos.
+     * Usado para compilar o calendário de dias úteis.
+     */
+    default long[] findAllEpochDays() {
+        List<Feriado> feriados = findAll();
+        int total = 0;
+        for (Feriado feriado : feriados) {
+            total += (int) (feriado.getDataFim().toEpochDay() - feriado.getDataInicio().toEpochDay() + 1);
+        }
+        
+        long[] dias = new long[total];
+        int posicao = 0;
+        for (Feriado feriado : feriados) {
+            for (long dia = feriado.getDataInicio().toEpochDay(); dia <= feriado.getDataFim().toEpochDay(); dia++) {
+                dias[posicao++] = dia;
+            }
+        }
+        return dias;
+    }
+}
@@ -0,0 +1,42 @@
+package br.tec.jessebezerra.app.repository;
+
+import br.tec.jessebezerra.app.entity.Aplicacao;
+import br.tec.jessebezerra.app.event.AplicacaoChanged;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+public class InMemoryAplicacaoRepository implements AplicacaoRepository {
+
+    private final InMemoryTable<Aplicacao> tabela = new InMemoryTable<>(
+            Aplicacao::getId, Aplicacao::setId,
+            a -> new Aplicacao(a.getId(), a.getNome(), a.getDescricao()),
+            Comparator.comparing(Aplicacao::getNome, Comparator.nullsFirst(Comparator.naturalOrder())),
+            AplicacaoChanged::new);
+
+    @Override
+    public Aplicacao save(Aplicacao aplicacao) {
+        return tabela.insert(aplicacao);
+    }
+
+    @Override
+    public Aplicacao update(Aplicacao aplicacao) {
+        return tabela.update(aplicacao);
+    }
+
+    @Override
+    public void delete(Long id) {
+        tabela.delete(id);
+    }
+
+    @Override
+    public Optional<Aplicacao> findById(Long id) {
+        return tabela.findById(id);
+    }
+
+    @Override
+    public List<Aplicacao> findAll() {
+        return tabela.findAll();
+    }
+}
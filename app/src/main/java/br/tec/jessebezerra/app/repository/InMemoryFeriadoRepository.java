@@ -0,0 +1,42 @@
+package br.tec.jessebezerra.app.repository;
+
+import br.tec.jessebezerra.app.entity.Feriado;
+import br.tec.jessebezerra.app.event.FeriadoChanged;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+public class InMemoryFeriadoRepository implements FeriadoRepository {
+
+    private final InMemoryTable<Feriado> tabela = new InMemoryTable<>(
+            Feriado::getId, Feriado::setId,
+            f -> new Feriado(f.getId(), f.getDescricao(), f.getDataInicio(), f.getDataFim()),
+            Comparator.comparing(Feriado::getDataInicio).thenComparing(Feriado::getId),
+            FeriadoChanged::new);
+
+    @Override
+    public Feriado save(Feriado feriado) {
+        return tabela.insert(feriado);
+    }
+
+    @Override
+    public Feriado update(Feriado feriado) {
+        return tabela.update(feriado);
+    }
+
+    @Override
+    public void delete(Long id) {
+        tabela.delete(id);
+    }
+
+    @Override
+    public Optional<Feriado> findById(Long id) {
+        return tabela.findById(id);
+    }
+
+    @Override
+    public List<Feriado> findAll() {
+        return tabela.findAll();
+    }
+}
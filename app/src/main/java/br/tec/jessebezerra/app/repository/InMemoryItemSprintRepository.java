@@ -0,0 +1,630 @@
+package br.tec.jessebezerra.app.repository;
+
+import br.tec.jessebezerra.app.dto.ItemHierarquiaDTO;
+import br.tec.jessebezerra.app.dto.ItemSprintDTO;
+import br.tec.jessebezerra.app.dto.PaginaItemDTO;
+import br.tec.jessebezerra.app.entity.ItemSprint;
+import br.tec.jessebezerra.app.entity.TipoItem;
+import br.tec.jessebezerra.app.event.ChangeBus;
+import br.tec.jessebezerra.app.event.ChangeEvent;
+import br.tec.jessebezerra.app.event.ChangeKind;
+import br.tec.jessebezerra.app.event.ItemChanged;
+import br.tec.jessebezerra.app.util.LongHashMap;
+import br.tec.jessebezerra.app.util.LongSortedSet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Itens da sprint mantidos apenas em memória, sem nenhuma E/S.
+ * Os itens ficam em um mapa de chaves primitivas, com índices secundários ordenados por id
+ * para sprint, item pai, membro e tipo; as consultas percorrem apenas o índice correspondente.
+ * Os nomes das entidades relacionadas vêm dos repositórios informados no construtor.
+ * Segue a semântica da versão JDBC, inclusive a omissão da descrição nas listagens,
+ * e publica os mesmos eventos no {@link ChangeBus}.
+ */
+public class InMemoryItemSprintRepository implements ItemSprintRepository {
+
+    // Mesmo limite de segurança contra ciclos da consulta recursiva da versão JDBC
+    private static final int PROFUNDIDADE_MAXIMA = 16;
+    private static final int DIAS_POR_SEMANA = 5;
+    private static final LongSortedSet VAZIO = new LongSortedSet();
+
+    private final SprintRepository sprintRepository;
+    private final MembroRepository membroRepository;
+    private final ProjetoRepository projetoRepository;
+    private final AplicacaoRepository aplicacaoRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongHashMap<ItemSprint> itens = new LongHashMap<>();
+    private final LongSortedSet ids = new LongSortedSet();
+    private final LongHashMap<LongSortedSet> porSprint = new LongHashMap<>();
+    private final LongHashMap<LongSortedSet> porPai = new LongHashMap<>();
+    /**
+     * Filhos contados nos totais de cada pai, como a tabela item_sprint_rollup da versão JDBC:
+     * difere de porPai porque a remoção de um pai descarta os seus totais, mas não os filhos
+     * (a chave estrangeira não é aplicada), que só voltam a contar quando forem alterados.
+     */
+    private final LongHashMap<LongSortedSet> contadosPorPai = new LongHashMap<>();
+    private final LongHashMap<LongSortedSet> porMembro = new LongHashMap<>();
+    private final Map<TipoItem, LongSortedSet> porTipo = new EnumMap<>(TipoItem.class);
+    private long proximoId = 1;
+
+    public InMemoryItemSprintRepository(SprintRepository sprintRepository, MembroRepository membroRepository,
+                                        ProjetoRepository projetoRepository, AplicacaoRepository aplicacaoRepository) {
+        this.sprintRepository = sprintRepository;
+        this.membroRepository = membroRepository;
+        this.projetoRepository = projetoRepository;
+        this.aplicacaoRepository = aplicacaoRepository;
+        for (TipoItem tipo : TipoItem.values()) {
+            porTipo.put(tipo, new LongSortedSet());
+        }
+    }
+
+    @Override
+    public ItemSprint save(ItemSprint item) {
+        return saveAll(List.of(item)).get(0);
+    }
+
+    @Override
+    public List<ItemSprint> saveAll(Collection<ItemSprint> novos) {
+        List<ChangeEvent> eventos = new ArrayList<>(novos.size());
+        lock.writeLock().lock();
+        try {
+            for (ItemSprint item : novos) {
+                item.setId(proximoId++);
+                ItemSprint copia = copy(item);
+                itens.put(copia.getId(), copia);
+                indexar(copia);
+                eventos.add(new ItemChanged(item.getId(), ChangeKind.INSERT));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ChangeBus.publish(eventos);
+        return new ArrayList<>(novos);
+    }
+
+    @Override
+    public ItemSprint update(ItemSprint item) {
+        updateAll(List.of(item));
+        return item;
+    }
+
+    @Override
+    public List<ItemSprint> updateAll(Collection<ItemSprint> alterados) {
+        List<ChangeEvent> eventos = new ArrayList<>(alterados.size());
+        lock.writeLock().lock();
+        try {
+            for (ItemSprint item : alterados) {
+                ItemSprint anterior = itens.get(item.getId());
+                if (anterior == null) {
+                    continue;
+                }
+                desindexar(anterior);
+                ItemSprint copia = copy(item);
+                if (copia.getDescricao() == null) {
+                    copia.setDescricao(anterior.getDescricao());
+                }
+                itens.put(copia.getId(), copia);
+                indexar(copia);
+                eventos.add(new ItemChanged(item.getId(), ChangeKind.UPDATE));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ChangeBus.publish(eventos);
+        return new ArrayList<>(alterados);
+    }
+
+    @Override
+    public void delete(Long id) {
+        deleteIds(List.of(id));
+    }
+
+    @Override
+    public void deleteAll(Collection<ItemSprint> removidos) {
+        List<Long> idsRemovidos = new ArrayList<>(removidos.size());
+        for (ItemSprint item : removidos) {
+            idsRemovidos.add(item.getId());
+        }
+        deleteIds(idsRemovidos);
+    }
+
+    private void deleteIds(Collection<Long> idsRemovidos) {
+        List<ChangeEvent> eventos = new ArrayList<>(idsRemovidos.size());
+        lock.writeLock().lock();
+        try {
+            for (Long id : idsRemovidos) {
+                ItemSprint removido = itens.remove(id);
+                if (removido != null) {
+                    desindexar(removido);
+                    contadosPorPai.remove(id);
+                    eventos.add(new ItemChanged(id, ChangeKind.DELETE));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ChangeBus.publish(eventos);
+    }
+
+    @Override
+    public Optional<ItemSprint> findById(Long id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(itens.get(id)).map(this::copy);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<ItemSprint> findAll() {
+        return listar(ids, item -> true, this::copy);
+    }
+
+    @Override
+    public List<ItemSprint> findBySprintId(Long sprintId) {
+        return listar(indice(porSprint, sprintId), item -> true, this::copy);
+    }
+
+    @Override
+    public List<ItemSprint> findByItemPaiId(Long itemPaiId) {
+        return listar(indice(porPai, itemPaiId), item -> true, this::copy);
+    }
+
+    /**
+     * Percorre uma cópia feita no momento da chamada; o tamanho do lote não se aplica.
+     */
+    @Override
+    public Stream<ItemSprint> streamAll(int fetchSize) {
+        return findAll().stream();
+    }
+
+    @Override
+    public Stream<ItemSprint> streamBySprint(Long sprintId, int fetchSize) {
+        return findBySprintId(sprintId).stream();
+    }
+
+    @Override
+    public Optional<ItemSprintDTO> findDetalhadoById(Long id) {
+        Optional<ItemSprint> item = findById(id);
+        return item.map(encontrado -> toDTO(encontrado, new Nomes(), true));
+    }
+
+    @Override
+    public List<ItemSprintDTO> findAllDetalhado() {
+        return detalhar(findAll());
+    }
+
+    @Override
+    public Optional<String> findDescricao(Long id) {
+        lock.readLock().lock();
+        try {
+            ItemSprint item = itens.get(id);
+            return item != null ? Optional.ofNullable(item.getDescricao()) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<ItemSprintDTO> findDetalhadoBySprintId(Long sprintId) {
+        return detalhar(findBySprintId(sprintId));
+    }
+
+    @Override
+    public List<ItemSprintDTO> findDetalhadoByItemPaiId(Long itemPaiId) {
+        return detalhar(findByItemPaiId(itemPaiId));
+    }
+
+    @Override
+    public List<ItemSprintDTO> findDetalhadoByTipo(TipoItem tipo) {
+        return detalhar(listar(porTipo.get(tipo), item -> true, this::copy));
+    }
+
+    @Override
+    public List<ItemSprintDTO> findDetalhadoBySprintIdAndTipo(Long sprintId, TipoItem tipo) {
+        return detalhar(listar(indice(porSprint, sprintId), item -> item.getTipo() == tipo, this::copy));
+    }
+
+    @Override
+    public List<ItemSprintDTO> findDetalhadoByItemPaiIdAndTipo(Long itemPaiId, TipoItem tipo) {
+        return detalhar(listar(indice(porPai, itemPaiId), item -> item.getTipo() == tipo, this::copy));
+    }
+
+    @Override
+    public List<ItemSprintDTO> findDetalhadoByIds(Collection<Long> idsBuscados) {
+        LongSortedSet ordenados = new LongSortedSet();
+        for (Long id : idsBuscados) {
+            ordenados.add(id);
+        }
+        return detalhar(listar(ordenados, item -> true, this::copy));
+    }
+
+    @Override
+    public List<ItemSprintDTO> findDetalhadoPageAfter(TipoItem tipo, PaginaItemDTO pagina) {
+        return pagina(tipo, pagina, false);
+    }
+
+    @Override
+    public List<ItemSprintDTO> findDetalhadoPageBefore(TipoItem tipo, PaginaItemDTO pagina) {
+        List<ItemSprintDTO> itens = pagina(tipo, pagina, true);
+        Collections.reverse(itens);
+        return itens;
+    }
+
+    /**
+     * Página na ordem (coluna, id); a ordenação por id percorre o índice, as demais ordenam os itens do tipo.
+     */
+    private List<ItemSprintDTO> pagina(TipoItem tipo, PaginaItemDTO pagina, boolean inverter) {
+        PaginaItemDTO.Coluna coluna = pagina.getColuna();
+        boolean decrescente = pagina.isDecrescente() != inverter;
+        if (coluna == PaginaItemDTO.Coluna.ID) {
+            return paginaPorId(tipo, pagina, decrescente);
+        }
+        
+        List<ItemSprint> todos;
+        lock.readLock().lock();
+        try {
+            LongSortedSet conjunto = tipo != null ? porTipo.get(tipo) : ids;
+            todos = new ArrayList<>(conjunto.size());
+            for (int i = 0; i < conjunto.size(); i++) {
+                todos.add(copy(itens.get(conjunto.get(i))));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        Comparator<ItemSprintDTO> ordem = Comparator.comparing(coluna::valor, coluna::comparar)
+                .thenComparing(ItemSprintDTO::getId);
+        List<ItemSprintDTO> dtos = detalhar(todos);
+        dtos.sort(decrescente ? ordem.reversed() : ordem);
+        
+        List<ItemSprintDTO> resultado = new ArrayList<>(pagina.getLimite());
+        for (ItemSprintDTO dto : dtos) {
+            if (resultado.size() == pagina.getLimite()) {
+                break;
+            }
+            if (pagina.getIdCursor() != null) {
+                int comparacao = coluna.comparar(coluna.valor(dto), pagina.getValorCursor());
+                if (comparacao == 0) {
+                    comparacao = dto.getId().compareTo(pagina.getIdCursor());
+                }
+                if (decrescente) {
+                    comparacao = -comparacao;
+                }
+                if (comparacao < 0 || (comparacao == 0 && !pagina.isIncluirCursor())) {
+                    continue;
+                }
+            }
+            resultado.add(dto);
+        }
+        return resultado;
+    }
+
+    private List<ItemSprintDTO> paginaPorId(TipoItem tipo, PaginaItemDTO pagina, boolean decrescente) {
+        Long cursor = pagina.getIdCursor();
+        List<ItemSprint> resultado = new ArrayList<>(pagina.getLimite());
+        lock.readLock().lock();
+        try {
+            LongSortedSet conjunto = tipo != null ? porTipo.get(tipo) : ids;
+            if (!decrescente) {
+                int inicio = cursor == null ? 0 : conjunto.indexAfter(pagina.isIncluirCursor() ? cursor - 1 : cursor);
+                for (int i = inicio; i < conjunto.size() && resultado.size() < pagina.getLimite(); i++) {
+                    resultado.add(copy(itens.get(conjunto.get(i))));
+                }
+            } else {
+                int inicio = cursor == null ? conjunto.size() - 1
+                        : conjunto.indexBefore(pagina.isIncluirCursor() ? cursor + 1 : cursor);
+                for (int i = inicio; i >= 0 && resultado.size() < pagina.getLimite(); i--) {
+                    resultado.add(copy(itens.get(conjunto.get(i))));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return detalhar(resultado);
+    }
+
+    @Override
+    public List<ItemHierarquiaDTO> findSubtree(Long rootId) {
+        LongSortedSet raiz = new LongSortedSet();
+        raiz.add(rootId);
+        return hierarquia(raiz, item -> true);
+    }
+
+    @Override
+    public List<ItemHierarquiaDTO> findSubtrees(Long sprintId) {
+        return hierarquia(indice(porSprint, sprintId), item -> item.getItemPaiId() == null);
+    }
+
+    private List<ItemHierarquiaDTO> hierarquia(LongSortedSet candidatas, Predicate<ItemSprint> ehRaiz) {
+        List<ItemSprint> ordem = new ArrayList<>();
+        List<Integer> profundidades = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            candidatas.forEach(id -> {
+                ItemSprint raiz = itens.get(id);
+                if (raiz != null && ehRaiz.test(raiz)) {
+                    percorrer(raiz, 0, ordem, profundidades);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        Nomes nomes = new Nomes();
+        List<ItemHierarquiaDTO> resultado = new ArrayList<>(ordem.size());
+        for (int i = 0; i < ordem.size(); i++) {
+            resultado.add(new ItemHierarquiaDTO(toDTO(ordem.get(i), nomes, false), profundidades.get(i)));
+        }
+        return resultado;
+    }
+
+    private void percorrer(ItemSprint item, int profundidade, List<ItemSprint> ordem, List<Integer> profundidades) {
+        ordem.add(copy(item));
+        profundidades.add(profundidade);
+        if (profundidade >= PROFUNDIDADE_MAXIMA) {
+            return;
+        }
+        indice(porPai, item.getId()).forEach(filhoId ->
+                percorrer(itens.get(filhoId), profundidade + 1, ordem, profundidades));
+    }
+
+    @Override
+    public int getDiasAlocadosMembro(Long sprintId, Long membroId) {
+        int[] soma = new int[1];
+        lock.readLock().lock();
+        try {
+            indice(porMembro, membroId).forEach(id -> {
+                ItemSprint item = itens.get(id);
+                if (item.getTipo() == TipoItem.SUB && item.getSprintId().equals(sprintId)) {
+                    soma[0] += diasAlocados(item);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return soma[0];
+    }
+
+    @Override
+    public Map<Long, Integer> getDiasAlocadosPorMembro(Long sprintId) {
+        Map<Long, Integer> diasPorMembro = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            indice(porSprint, sprintId).forEach(id -> {
+                ItemSprint item = itens.get(id);
+                if (item.getTipo() == TipoItem.SUB && item.getMembroId() != null) {
+                    diasPorMembro.merge(item.getMembroId(), diasAlocados(item), Integer::sum);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return diasPorMembro;
+    }
+
+    @Override
+    public int getDiasAlocadosRaiz(Long sprintId) {
+        int[] soma = new int[1];
+        lock.readLock().lock();
+        try {
+            indice(porSprint, sprintId).forEach(id -> {
+                ItemSprint item = itens.get(id);
+                if (item.getItemPaiId() == null) {
+                    soma[0] += diasAlocados(item);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return soma[0];
+    }
+
+    @Override
+    public int getDiasAlocadosMembroExceto(Long sprintId, Long membroId, Long itemIgnoradoId) {
+        int[] soma = new int[1];
+        lock.readLock().lock();
+        try {
+            indice(porMembro, membroId).forEach(id -> {
+                ItemSprint item = itens.get(id);
+                if (item.getSprintId().equals(sprintId) && !Long.valueOf(id).equals(itemIgnoradoId)) {
+                    soma[0] += diasAlocados(item);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return soma[0];
+    }
+
+    @Override
+    public Integer getSomaDuracaoFilhosSemanas(Long itemPaiId) {
+        return somarFilhos(itemPaiId, item -> item.getDuracaoSemanas() != null ? item.getDuracaoSemanas() : 0);
+    }
+
+    @Override
+    public Integer getSomaDuracaoFilhosDias(Long itemPaiId) {
+        return somarFilhos(itemPaiId, item -> item.getDuracaoDias() != null ? item.getDuracaoDias() : 0);
+    }
+
+    @Override
+    public int getQuantidadeFilhos(Long itemPaiId) {
+        lock.readLock().lock();
+        try {
+            return indice(contadosPorPai, itemPaiId).size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int somarFilhos(Long itemPaiId, Function<ItemSprint, Integer> valor) {
+        int[] soma = new int[1];
+        lock.readLock().lock();
+        try {
+            indice(contadosPorPai, itemPaiId).forEach(id -> soma[0] += valor.apply(itens.get(id)));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return soma[0];
+    }
+
+    private static int diasAlocados(ItemSprint item) {
+        if (item.getDuracaoDias() != null && item.getDuracaoDias() > 0) {
+            return item.getDuracaoDias();
+        }
+        if (item.getDuracaoSemanas() != null && item.getDuracaoSemanas() > 0) {
+            return item.getDuracaoSemanas() * DIAS_POR_SEMANA;
+        }
+        return 0;
+    }
+
+    private <R> List<R> listar(LongSortedSet conjunto, Predicate<ItemSprint> filtro, Function<ItemSprint, R> mapeamento) {
+        List<R> resultado = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            conjunto.forEach(id -> {
+                ItemSprint item = itens.get(id);
+                if (item != null && filtro.test(item)) {
+                    resultado.add(mapeamento.apply(item));
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return resultado;
+    }
+
+    private static LongSortedSet indice(LongHashMap<LongSortedSet> mapa, Long chave) {
+        LongSortedSet conjunto = chave != null ? mapa.get(chave) : null;
+        return conjunto != null ? conjunto : VAZIO;
+    }
+
+    private void indexar(ItemSprint item) {
+        long id = item.getId();
+        ids.add(id);
+        porTipo.get(item.getTipo()).add(id);
+        adicionar(porSprint, item.getSprintId(), id);
+        adicionar(porPai, item.getItemPaiId(), id);
+        adicionar(contadosPorPai, item.getItemPaiId(), id);
+        adicionar(porMembro, item.getMembroId(), id);
+    }
+
+    private void desindexar(ItemSprint item) {
+        long id = item.getId();
+        ids.remove(id);
+        porTipo.get(item.getTipo()).remove(id);
+        retirar(porSprint, item.getSprintId(), id);
+        retirar(porPai, item.getItemPaiId(), id);
+        retirar(contadosPorPai, item.getItemPaiId(), id);
+        retirar(porMembro, item.getMembroId(), id);
+    }
+
+    private static void adicionar(LongHashMap<LongSortedSet> mapa, Long chave, long id) {
+        if (chave != null) {
+            mapa.computeIfAbsent(chave, k -> new LongSortedSet()).add(id);
+        }
+    }
+
+    private static void retirar(LongHashMap<LongSortedSet> mapa, Long chave, long id) {
+        if (chave == null) {
+            return;
+        }
+        LongSortedSet conjunto = mapa.get(chave);
+        if (conjunto != null) {
+            conjunto.remove(id);
+            if (conjunto.isEmpty()) {
+                mapa.remove(chave);
+            }
+        }
+    }
+
+    private List<ItemSprintDTO> detalhar(List<ItemSprint> lista) {
+        Nomes nomes = new Nomes();
+        List<ItemSprintDTO> dtos = new ArrayList<>(lista.size());
+        for (ItemSprint item : lista) {
+            dtos.add(toDTO(item, nomes, false));
+        }
+        return dtos;
+    }
+
+    private ItemSprintDTO toDTO(ItemSprint item, Nomes nomes, boolean comDescricao) {
+        ItemSprintDTO dto = new ItemSprintDTO();
+        dto.setId(item.getId());
+        dto.setTipo(item.getTipo());
+        dto.setTitulo(item.getTitulo());
+        dto.setDescricao(comDescricao ? item.getDescricao() : null);
+        dto.setDuracaoSemanas(item.getDuracaoSemanas());
+        dto.setDuracaoDias(item.getDuracaoDias());
+        dto.setStatus(item.getStatus());
+        dto.setSprintId(item.getSprintId());
+        dto.setSprintNome(nomes.sprint(item.getSprintId()));
+        dto.setMembroId(item.getMembroId());
+        dto.setMembroNome(nomes.membro(item.getMembroId()));
+        dto.setItemPaiId(item.getItemPaiId());
+        dto.setItemPaiTitulo(nomes.itemPai(item.getItemPaiId()));
+        dto.setProjetoId(item.getProjetoId());
+        dto.setProjetoNome(nomes.projeto(item.getProjetoId()));
+        dto.setAplicacaoId(item.getAplicacaoId());
+        dto.setAplicacaoNome(nomes.aplicacao(item.getAplicacaoId()));
+        return dto;
+    }
+
+    private ItemSprint copy(ItemSprint item) {
+        return new ItemSprint(item.getId(), item.getTipo(), item.getTitulo(), item.getDescricao(),
+                item.getDuracaoSemanas(), item.getDuracaoDias(), item.getStatus(), item.getSprintId(),
+                item.getMembroId(), item.getItemPaiId(), item.getProjetoId(), item.getAplicacaoId());
+    }
+
+    /**
+     * Nomes das entidades relacionadas, resolvidos uma vez por consulta (o equivalente aos LEFT JOINs).
+     */
+    private class Nomes {
+        private final LongHashMap<Optional<String>> sprints = new LongHashMap<>();
+        private final LongHashMap<Optional<String>> membros = new LongHashMap<>();
+        private final LongHashMap<Optional<String>> projetos = new LongHashMap<>();
+        private final LongHashMap<Optional<String>> aplicacoes = new LongHashMap<>();
+        
+        String sprint(Long id) {
+            return resolver(sprints, id, chave -> sprintRepository.findById(chave).map(s -> s.getNome()));
+        }
+        
+        String membro(Long id) {
+            return resolver(membros, id, chave -> membroRepository.findById(chave).map(m -> m.getNome()));
+        }
+        
+        String projeto(Long id) {
+            return resolver(projetos, id, chave -> projetoRepository.findById(chave).map(p -> p.getNome()));
+        }
+        
+        String aplicacao(Long id) {
+            return resolver(aplicacoes, id, chave -> aplicacaoRepository.findById(chave).map(a -> a.getNome()));
+        }
+        
+        String itemPai(Long id) {
+            return id != null ? findById(id).map(ItemSprint::getTitulo).orElse(null) : null;
+        }
+        
+        private String resolver(LongHashMap<Optional<String>> memo, Long id, Function<Long, Optional<String>> busca) {
+            if (id == null) {
+                return null;
+            }
+            return memo.computeIfAbsent(id, busca::apply).orElse(null);
+        }
+    }
+}
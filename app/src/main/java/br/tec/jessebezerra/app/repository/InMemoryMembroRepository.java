@@ -0,0 +1,50 @@
+package br.tec.jessebezerra.app.repository;
+
+import br.tec.jessebezerra.app.entity.Membro;
+import br.tec.jessebezerra.app.event.MembroChanged;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+public class InMemoryMembroRepository implements MembroRepository {
+
+    private final InMemoryTable<Membro> tabela = new InMemoryTable<>(
+            Membro::getId, Membro::setId,
+            m -> new Membro(m.getId(), m.getNome(), m.getFuncao(), m.getAtivo(), m.getEspecialidades()),
+            Comparator.comparing(Membro::getNome, Comparator.nullsFirst(Comparator.naturalOrder())),
+            MembroChanged::new);
+
+    @Override
+    public Membro save(Membro membro) {
+        return tabela.insert(membro);
+    }
+
+    @Override
+    public Membro update(Membro membro) {
+        return tabela.update(membro);
+    }
+
+    @Override
+    public void delete(Long id) {
+        tabela.delete(id);
+    }
+
+    @Override
+    public Optional<Membro> findById(Long id) {
+        return tabela.findById(id);
+    }
+
+    @Override
+    public List<Membro> findAll() {
+        return tabela.findAll();
+    }
+
+    @Override
+    public List<Membro> findByAtivo(boolean ativo) {
+        return findAll().stream()
+                .filter(membro -> Boolean.valueOf(ativo).equals(membro.getAtivo()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,42 @@
+package br.tec.jessebezerra.app.repository;
+
+import br.tec.jessebezerra.app.entity.Projeto;
+import br.tec.jessebezerra.app.event.ProjetoChanged;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+public class InMemoryProjetoRepository implements ProjetoRepository {
+
+    private final InMemoryTable<Projeto> tabela = new InMemoryTable<>(
+            Projeto::getId, Projeto::setId,
+            p -> new Projeto(p.getId(), p.getNome(), p.getDescricao()),
+            Comparator.comparing(Projeto::getNome, Comparator.nullsFirst(Comparator.naturalOrder())),
+            ProjetoChanged::new);
+
+    @Override
+    public Projeto save(Projeto projeto) {
+        return tabela.insert(projeto);
+    }
+
+    @Override
+    public Projeto update(Projeto projeto) {
+        return tabela.update(projeto);
+    }
+
+    @Override
+    public void delete(Long id) {
+        tabela.delete(id);
+    }
+
+    @Override
+    public Optional<Projeto> findById(Long id) {
+        return tabela.findById(id);
+    }
+
+    @Override
+    public List<Projeto> findAll() {
+        return tabela.findAll();
+    }
+}
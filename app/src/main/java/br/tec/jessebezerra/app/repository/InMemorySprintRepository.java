@@ -0,0 +1,61 @@
+package br.tec.jessebezerra.app.repository;
+
+import br.tec.jessebezerra.app.entity.Sprint;
+import br.tec.jessebezerra.app.event.SprintChanged;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class InMemorySprintRepository implements SprintRepository {
+
+    private final InMemoryTable<Sprint> tabela = new InMemoryTable<>(
+            Sprint::getId, Sprint::setId,
+            s -> new Sprint(s.getId(), s.getNome(), s.getDataInicio(), s.getDuracaoSemanas(), s.getDataFim()),
+            Comparator.comparing(Sprint::getDataInicio).reversed(),
+            SprintChanged::new);
+
+    @Override
+    public Sprint save(Sprint sprint) {
+        return tabela.insert(sprint);
+    }
+
+    @Override
+    public Sprint update(Sprint sprint) {
+        return tabela.update(sprint);
+    }
+
+    @Override
+    public void delete(Long id) {
+        tabela.delete(id);
+    }
+
+    @Override
+    public Optional<Sprint> findById(Long id) {
+        return tabela.findById(id);
+    }
+
+    @Override
+    public List<Sprint> findAll() {
+        return tabela.findAll();
+    }
+
+    /**
+     * Mesma regra da versão JDBC, inclusive para sprints sem data de fim gravada.
+     */
+    @Override
+    public boolean existsOverlappingSprint(LocalDate dataInicio, LocalDate dataFim, Long excludeId) {
+        return findAll().stream()
+                .filter(sprint -> !Objects.equals(sprint.getId(), excludeId))
+                .anyMatch(sprint -> !sprint.getDataInicio().isAfter(dataFim) && !fimEstimado(sprint).isBefore(dataInicio));
+    }
+
+    private static LocalDate fimEstimado(Sprint sprint) {
+        if (sprint.getDataFim() != null) {
+            return sprint.getDataFim();
+        }
+        return sprint.getDataInicio().plusDays(sprint.getDuracaoSemanas() * 7L - 1);
+    }
+}
@@ -0,0 +1,117 @@
+package br.tec.jessebezerra.app.repository;
+
+import br.tec.jessebezerra.app.event.ChangeBus;
+import br.tec.jessebezerra.app.event.ChangeEvent;
+import br.tec.jessebezerra.app.event.ChangeKind;
+import br.tec.jessebezerra.app.util.LongHashMap;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Tabela em memória das entidades de referência (sprints, membros, projetos, aplicações, feriados).
+ * As linhas são guardadas e devolvidas como cópias, como aconteceria com um banco de dados,
+ * e cada escrita publica o evento correspondente no {@link ChangeBus}.
+ */
+class InMemoryTable<T> {
+
+    private final LongHashMap<T> linhas = new LongHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Function<T, Long> idExtractor;
+    private final BiConsumer<T, Long> idSetter;
+    private final UnaryOperator<T> copier;
+    private final Comparator<T> ordem;
+    private final BiFunction<Long, ChangeKind, ChangeEvent> eventos;
+    private long proximoId = 1;
+
+    InMemoryTable(Function<T, Long> idExtractor, BiConsumer<T, Long> idSetter, UnaryOperator<T> copier,
+                  Comparator<T> ordem, BiFunction<Long, ChangeKind, ChangeEvent> eventos) {
+        this.idExtractor = idExtractor;
+        this.idSetter = idSetter;
+        this.copier = copier;
+        this.ordem = ordem;
+        this.eventos = eventos;
+    }
+
+    T insert(T entidade) {
+        lock.writeLock().lock();
+        try {
+            idSetter.accept(entidade, proximoId++);
+            linhas.put(idExtractor.apply(entidade), copier.apply(entidade));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        publish(idExtractor.apply(entidade), ChangeKind.INSERT);
+        return entidade;
+    }
+
+    /**
+     * Substitui a linha com o mesmo id; como um UPDATE sem linhas afetadas, ids inexistentes são ignorados.
+     */
+    T update(T entidade) {
+        Long id = idExtractor.apply(entidade);
+        boolean alterado;
+        lock.writeLock().lock();
+        try {
+            alterado = linhas.containsKey(id);
+            if (alterado) {
+                linhas.put(id, copier.apply(entidade));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (alterado) {
+            publish(id, ChangeKind.UPDATE);
+        }
+        return entidade;
+    }
+
+    void delete(Long id) {
+        T removido;
+        lock.writeLock().lock();
+        try {
+            removido = linhas.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (removido != null) {
+            publish(id, ChangeKind.DELETE);
+        }
+    }
+
+    Optional<T> findById(Long id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(linhas.get(id)).map(copier);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Cópias de todas as linhas, na ordem da tabela.
+     */
+    List<T> findAll() {
+        lock.readLock().lock();
+        try {
+            return linhas.values().stream()
+                    .sorted(ordem)
+                    .map(copier)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void publish(Long id, ChangeKind kind) {
+        ChangeBus.publish(List.of(eventos.apply(id, kind)));
+    }
+}
@@ -1,314 +1,149 @@
 package br.tec.jessebezerra.app.repository;
 
-import br.tec.jessebezerra.app.config.DatabaseConfig;
+import br.tec.jessebezerra.app.dto.ItemHierarquiaDTO;
+import br.tec.jessebezerra.app.dto.ItemSprintDTO;
+import br.tec.jessebezerra.app.dto.PaginaItemDTO;
 import br.tec.jessebezerra.app.entity.ItemSprint;
-import br.tec.jessebezerra.app.entity.StatusItem;
 import br.tec.jessebezerra.app.entity.TipoItem;
 
-import java.sql.*;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public class ItemSprintRepository {
-
-    public ItemSprint save(ItemSprint item) {
-        String sql = "INSERT INTO item_sprint (tipo, titulo, descricao, duracao_semanas, duracao_dias, status, sprint_id, membro_id, item_pai_id, projeto_id, aplicacao_id) " +
-                     "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setString(1, item.getTipo().name());
-            pstmt.setString(2, item.getTitulo());
-            pstmt.setString(3, item.getDescricao());
-            
-            if (item.getDuracaoSemanas() != null) {
-                pstmt.setInt(4, item.getDuracaoSemanas());
-            } else {
-                pstmt.setNull(4, Types.INTEGER);
-            }
-            
-            if (item.getDuracaoDias() != null) {
-                pstmt.setInt(5, item.getDuracaoDias());
-            } else {
-                pstmt.setNull(5, Types.INTEGER);
-            }
-            
-            pstmt.setString(6, item.getStatus().name());
-            pstmt.setLong(7, item.getSprintId());
-            
-            if (item.getMembroId() != null) {
-                pstmt.setLong(8, item.getMembroId());
-            } else {
-                pstmt.setNull(8, Types.INTEGER);
-            }
-            
-            if (item.getItemPaiId() != null) {
-                pstmt.setLong(9, item.getItemPaiId());
-            } else {
-                pstmt.setNull(9, Types.INTEGER);
-            }
-            
-            if (item.getProjetoId() != null) {
-                pstmt.setLong(10, item.getProjetoId());
-            } else {
-                pstmt.setNull(10, Types.INTEGER);
-            }
-            
-            if (item.getAplicacaoId() != null) {
-                pstmt.setLong(11, item.getAplicacaoId());
-            } else {
-                pstmt.setNull(11, Types.INTEGER);
-            }
-            
-            pstmt.executeUpdate();
-            
-            try (Statement stmt = conn.createStatement();
-                 ResultSet rs = stmt.executeQuery("SELECT last_insert_rowid()")) {
-                if (rs.next()) {
-                    item.setId(rs.getLong(1));
-                }
-            }
-            
-            return item;
-        } catch (SQLException e) {
-            throw new RuntimeException("Erro ao salvar item da sprint", e);
-        }
-    }
+/**
+ * Acesso aos itens da sprint. Implementações: {@link JdbcItemSprintRepository} (SQLite) e
+ * {@link InMemoryItemSprintRepository} (memória); use {@link RepositoryFactory} para obter a instância.
+ * Salvo indicação em contrário, as listas vêm em ordem crescente de id.
+ */
+public interface ItemSprintRepository {
 
-    public ItemSprint update(ItemSprint item) {
-        String sql = "UPDATE item_sprint SET tipo = ?, titulo = ?, descricao = ?, duracao_semanas = ?, duracao_dias = ?, " +
-                     "status = ?, sprint_id = ?, membro_id = ?, item_pai_id = ?, projeto_id = ?, aplicacao_id = ? WHERE id = ?";
-        
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setString(1, item.getTipo().name());
-            pstmt.setString(2, item.getTitulo());
-            pstmt.setString(3, item.getDescricao());
-            
-            if (item.getDuracaoSemanas() != null) {
-                pstmt.setInt(4, item.getDuracaoSemanas());
-            } else {
-                pstmt.setNull(4, Types.INTEGER);
-            }
-            
-            if (item.getDuracaoDias() != null) {
-                pstmt.setInt(5, item.getDuracaoDias());
-            } else {
-                pstmt.setNull(5, Types.INTEGER);
-            }
-            
-            pstmt.setString(6, item.getStatus().name());
-            pstmt.setLong(7, item.getSprintId());
-            
-            if (item.getMembroId() != null) {
-                pstmt.setLong(8, item.getMembroId());
-            } else {
-                pstmt.setNull(8, Types.INTEGER);
-            }
-            
-            if (item.getItemPaiId() != null) {
-                pstmt.setLong(9, item.getItemPaiId());
-            } else {
-                pstmt.setNull(9, Types.INTEGER);
-            }
-            
-            if (item.getProjetoId() != null) {
-                pstmt.setLong(10, item.getProjetoId());
-            } else {
-                pstmt.setNull(10, Types.INTEGER);
-            }
-            
-            if (item.getAplicacaoId() != null) {
-                pstmt.setLong(11, item.getAplicacaoId());
-            } else {
-                pstmt.setNull(11, Types.INTEGER);
-            }
-            
-            pstmt.setLong(12, item.getId());
-            
-            pstmt.executeUpdate();
-            return item;
-        } catch (SQLException e) {
-            throw new RuntimeException("Erro ao atualizar item da sprint", e);
-        }
-    }
+    int DEFAULT_FETCH_SIZE = 500;
 
-    public void delete(Long id) {
-        String sql = "DELETE FROM item_sprint WHERE id = ?";
-        
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setLong(1, id);
-            pstmt.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Erro ao excluir item da sprint", e);
-        }
-    }
+    ItemSprint save(ItemSprint item);
 
-    public Optional<ItemSprint> findById(Long id) {
-        String sql = "SELECT * FROM item_sprint WHERE id = ?";
-        
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setLong(1, id);
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(mapResultSetToItemSprint(rs));
-                }
-            }
-            
-            return Optional.empty();
-        } catch (SQLException e) {
-            throw new RuntimeException("Erro ao buscar item da sprint", e);
-        }
-    }
+    /**
+     * Insere todos os itens de uma vez; os ids gerados são atribuídos na ordem da coleção.
+     */
+    List<ItemSprint> saveAll(Collection<ItemSprint> itens);
 
-    public List<ItemSprint> findAll() {
-        String sql = "SELECT * FROM item_sprint ORDER BY id ASC";
-        List<ItemSprint> itens = new ArrayList<>();
-        
-        try (Connection conn = DatabaseConfig.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-            
-            while (rs.next()) {
-                itens.add(mapResultSetToItemSprint(rs));
-            }
-            
-            return itens;
-        } catch (SQLException e) {
-            throw new RuntimeException("Erro ao buscar itens da sprint", e);
-        }
-    }
+    /**
+     * Atualiza o item. Descrição nula mantém a descrição gravada: as listagens não a carregam.
+     */
+    ItemSprint update(ItemSprint item);
 
-    public List<ItemSprint> findBySprintId(Long sprintId) {
-        String sql = "SELECT * FROM item_sprint WHERE sprint_id = ? ORDER BY id ASC";
-        List<ItemSprint> itens = new ArrayList<>();
-        
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setLong(1, sprintId);
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    itens.add(mapResultSetToItemSprint(rs));
-                }
-            }
-            
-            return itens;
-        } catch (SQLException e) {
-            throw new RuntimeException("Erro ao buscar itens da sprint", e);
-        }
-    }
+    /**
+     * Atualiza todos os itens, com a mesma regra de {@link #update} para a descrição.
+     */
+    List<ItemSprint> updateAll(Collection<ItemSprint> itens);
 
-    public List<ItemSprint> findByItemPaiId(Long itemPaiId) {
-        String sql = "SELECT * FROM item_sprint WHERE item_pai_id = ? ORDER BY id ASC";
-        List<ItemSprint> itens = new ArrayList<>();
-        
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setLong(1, itemPaiId);
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    itens.add(mapResultSetToItemSprint(rs));
-                }
-            }
-            
-            return itens;
-        } catch (SQLException e) {
-            throw new RuntimeException("Erro ao buscar subitens", e);
-        }
-    }
+    void delete(Long id);
 
-    public Integer getSomaDuracaoFilhosSemanas(Long itemPaiId) {
-        String sql = "SELECT SUM(duracao_semanas) FROM item_sprint WHERE item_pai_id = ? AND duracao_semanas IS NOT NULL";
-        
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setLong(1, itemPaiId);
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt(1);
-                }
-            }
-            
-            return 0;
-        } catch (SQLException e) {
-            throw new RuntimeException("Erro ao calcular duração dos filhos em semanas", e);
-        }
-    }
-    
-    public Integer getSomaDuracaoFilhosDias(Long itemPaiId) {
-        String sql = "SELECT SUM(duracao_dias) FROM item_sprint WHERE item_pai_id = ? AND duracao_dias IS NOT NULL";
-        
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setLong(1, itemPaiId);
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt(1);
-                }
-            }
-            
-            return 0;
-        } catch (SQLException e) {
-            throw new RuntimeException("Erro ao calcular duração dos filhos em dias", e);
-        }
+    void deleteAll(Collection<ItemSprint> itens);
+
+    Optional<ItemSprint> findById(Long id);
+
+    List<ItemSprint> findAll();
+
+    List<ItemSprint> findBySprintId(Long sprintId);
+
+    List<ItemSprint> findByItemPaiId(Long itemPaiId);
+
+    /**
+     * Percorre todos os itens sem carregá-los em memória de uma vez.
+     * O Stream pode manter recursos abertos: use sempre em try-with-resources.
+     */
+    default Stream<ItemSprint> streamAll() {
+        return streamAll(DEFAULT_FETCH_SIZE);
     }
 
-    private ItemSprint mapResultSetToItemSprint(ResultSet rs) throws SQLException {
-        ItemSprint item = new ItemSprint();
-        item.setId(rs.getLong("id"));
-        item.setTipo(TipoItem.valueOf(rs.getString("tipo")));
-        item.setTitulo(rs.getString("titulo"));
-        item.setDescricao(rs.getString("descricao"));
-        
-        int duracaoSemanas = rs.getInt("duracao_semanas");
-        if (!rs.wasNull()) {
-            item.setDuracaoSemanas(duracaoSemanas);
-        }
-        
-        int duracaoDias = rs.getInt("duracao_dias");
-        if (!rs.wasNull()) {
-            item.setDuracaoDias(duracaoDias);
-        }
-        
-        item.setStatus(StatusItem.valueOf(rs.getString("status")));
-        item.setSprintId(rs.getLong("sprint_id"));
-        
-        long membroId = rs.getLong("membro_id");
-        if (!rs.wasNull()) {
-            item.setMembroId(membroId);
-        }
-        
-        long itemPaiId = rs.getLong("item_pai_id");
-        if (!rs.wasNull()) {
-            item.setItemPaiId(itemPaiId);
-        }
-        
-        long projetoId = rs.getLong("projeto_id");
-        if (!rs.wasNull()) {
-            item.setProjetoId(projetoId);
-        }
-        
-        long aplicacaoId = rs.getLong("aplicacao_id");
-        if (!rs.wasNull()) {
-            item.setAplicacaoId(aplicacaoId);
-        }
-        
-        return item;
+    Stream<ItemSprint> streamAll(int fetchSize);
+
+    /**
+     * Percorre os itens da sprint sem carregá-los em memória de uma vez.
+     * O Stream deve ser fechado para liberar os recursos.
+     */
+    default Stream<ItemSprint> streamBySprint(Long sprintId) {
+        return streamBySprint(sprintId, DEFAULT_FETCH_SIZE);
     }
+
+    Stream<ItemSprint> streamBySprint(Long sprintId, int fetchSize);
+
+    /**
+     * Item completo (inclusive a descrição) com os nomes das entidades relacionadas preenchidos.
+     */
+    Optional<ItemSprintDTO> findDetalhadoById(Long id);
+
+    /*
+     * As consultas detalhadas a seguir omitem a descrição (veja findDescricao).
+     */
+
+    List<ItemSprintDTO> findAllDetalhado();
+
+    /**
+     * Descrição do item, omitida nas projeções de listagem e carregada apenas ao editar.
+     */
+    Optional<String> findDescricao(Long id);
+
+    List<ItemSprintDTO> findDetalhadoBySprintId(Long sprintId);
+
+    List<ItemSprintDTO> findDetalhadoByItemPaiId(Long itemPaiId);
+
+    List<ItemSprintDTO> findDetalhadoByTipo(TipoItem tipo);
+
+    List<ItemSprintDTO> findDetalhadoBySprintIdAndTipo(Long sprintId, TipoItem tipo);
+
+    List<ItemSprintDTO> findDetalhadoByItemPaiIdAndTipo(Long itemPaiId, TipoItem tipo);
+
+    List<ItemSprintDTO> findDetalhadoByIds(Collection<Long> ids);
+
+    /**
+     * Página de itens depois do cursor, na ordenação pedida (veja {@link PaginaItemDTO}).
+     * Tipo nulo lista todos os tipos; cursor nulo começa do primeiro item.
+     */
+    List<ItemSprintDTO> findDetalhadoPageAfter(TipoItem tipo, PaginaItemDTO pagina);
+
+    /**
+     * Página de itens antes do cursor, devolvida na ordenação pedida.
+     * Tipo nulo lista todos os tipos; cursor nulo começa do último item.
+     */
+    List<ItemSprintDTO> findDetalhadoPageBefore(TipoItem tipo, PaginaItemDTO pagina);
+
+    /**
+     * Subárvore a partir do item informado (inclusive), em pré-ordem, irmãos ordenados por id.
+     */
+    List<ItemHierarquiaDTO> findSubtree(Long rootId);
+
+    /**
+     * Todas as árvores da sprint, partindo dos itens sem pai, em pré-ordem.
+     */
+    List<ItemHierarquiaDTO> findSubtrees(Long sprintId);
+
+    /**
+     * Dias alocados ao membro na sprint, considerando apenas SUBs.
+     * A duração em semanas, quando não há duração em dias, conta 5 dias úteis por semana.
+     */
+    int getDiasAlocadosMembro(Long sprintId, Long membroId);
+
+    /**
+     * Dias alocados em SUBs para cada membro da sprint, indexados pelo id do membro.
+     */
+    Map<Long, Integer> getDiasAlocadosPorMembro(Long sprintId);
+
+    /**
+     * Dias alocados nos itens raiz (sem pai) da sprint, de qualquer tipo.
+     */
+    int getDiasAlocadosRaiz(Long sprintId);
+
+    /**
+     * Dias alocados ao membro na sprint em itens de qualquer tipo, sem contar o item informado (pode ser nulo).
+     */
+    int getDiasAlocadosMembroExceto(Long sprintId, Long membroId, Long itemIgnoradoId);
+
+    Integer getSomaDuracaoFilhosSemanas(Long itemPaiId);
+
+    Integer getSomaDuracaoFilhosDias(Long itemPaiId);
+
+    int getQuantidadeFilhos(Long itemPaiId);
 }
@@ -0,0 +1,138 @@
+package br.tec.jessebezerra.app.repository;
+
+import br.tec.jessebezerra.app.cache.ReferenceDataCache;
+import br.tec.jessebezerra.app.config.DatabaseConfig;
+import br.tec.jessebezerra.app.entity.Aplicacao;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class JdbcAplicacaoRepository implements AplicacaoRepository {
+
+    @Override
+    public Aplicacao save(Aplicacao aplicacao) {
+        String sql = "INSERT INTO aplicacao (nome, descricao) VALUES (?, ?)";
+        
+        try {
+            Aplicacao salvo = DatabaseConfig.executeWrite(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setString(1, aplicacao.getNome());
+                    pstmt.setString(2, aplicacao.getDescricao());
+                    
+                    pstmt.executeUpdate();
+                    
+                    try (Statement stmt = conn.createStatement();
+                         ResultSet rs = stmt.executeQuery("SELECT last_insert_rowid()")) {
+                        if (rs.next()) {
+                            aplicacao.setId(rs.getLong(1));
+                        }
+                    }
+                    
+                    return aplicacao;
+                }
+            });
+            ReferenceDataCache.APLICACOES.invalidate(salvo.getId());
+            return salvo;
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao salvar aplicação", e);
+        }
+    }
+
+    @Override
+    public Aplicacao update(Aplicacao aplicacao) {
+        String sql = "UPDATE aplicacao SET nome = ?, descricao = ? WHERE id = ?";
+        
+        try {
+            Aplicacao salvo = DatabaseConfig.executeWrite(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setString(1, aplicacao.getNome());
+                    pstmt.setString(2, aplicacao.getDescricao());
+                    pstmt.setLong(3, aplicacao.getId());
+                    
+                    pstmt.executeUpdate();
+                    return aplicacao;
+                }
+            });
+            ReferenceDataCache.APLICACOES.invalidate(salvo.getId());
+            return salvo;
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao atualizar aplicação", e);
+        }
+    }
+
+    @Override
+    public void delete(Long id) {
+        String sql = "DELETE FROM aplicacao WHERE id = ?";
+        
+        try {
+            DatabaseConfig.executeWrite(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setLong(1, id);
+                    pstmt.executeUpdate();
+                }
+                return null;
+            });
+            ReferenceDataCache.APLICACOES.invalidate(id);
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao excluir aplicação", e);
+        }
+    }
+
+    @Override
+    public Optional<Aplicacao> findById(Long id) {
+        return ReferenceDataCache.APLICACOES.get(id, this::loadById);
+    }
+
+    @Override
+    public List<Aplicacao> findAll() {
+        return ReferenceDataCache.APLICACOES.getAll(this::loadAll);
+    }
+
+    private Optional<Aplicacao> loadById(Long id) {
+        String sql = "SELECT * FROM aplicacao WHERE id = ?";
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setLong(1, id);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(mapResultSetToAplicacao(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao buscar aplicação", e);
+        }
+        
+        return Optional.empty();
+    }
+
+    private List<Aplicacao> loadAll() {
+        String sql = "SELECT * FROM aplicacao ORDER BY nome";
+        List<Aplicacao> aplicacoes = new ArrayList<>();
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            
+            while (rs.next()) {
+                aplicacoes.add(mapResultSetToAplicacao(rs));
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao buscar aplicações", e);
+        }
+        
+        return aplicacoes;
+    }
+
+    private Aplicacao mapResultSetToAplicacao(ResultSet rs) throws SQLException {
+        Aplicacao aplicacao = new Aplicacao();
+        aplicacao.setId(rs.getLong("id"));
+        aplicacao.setNome(rs.getString("nome"));
+        aplicacao.setDescricao(rs.getString("descricao"));
+        return aplicacao;
+    }
+}
@@ -0,0 +1,128 @@
+package br.tec.jessebezerra.app.repository;
+
+import br.tec.jessebezerra.app.config.DatabaseConfig;
+import br.tec.jessebezerra.app.entity.Feriado;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class JdbcFeriadoRepository implements FeriadoRepository {
+
+    @Override
+    public Feriado save(Feriado feriado) {
+        String sql = "INSERT INTO feriado (descricao, data_inicio, data_fim) VALUES (?, ?, ?)";
+        
+        try {
+            return DatabaseConfig.executeWrite(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setString(1, feriado.getDescricao());
+                    pstmt.setLong(2, feriado.getDataInicio().toEpochDay());
+                    pstmt.setLong(3, feriado.getDataFim().toEpochDay());
+                    
+                    pstmt.executeUpdate();
+                    
+                    try (Statement stmt = conn.createStatement();
+                         ResultSet rs = stmt.executeQuery("SELECT last_insert_rowid()")) {
+                        if (rs.next()) {
+                            feriado.setId(rs.getLong(1));
+                        }
+                    }
+                    
+                    return feriado;
+                }
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao salvar feriado", e);
+        }
+    }
+
+    @Override
+    public Feriado update(Feriado feriado) {
+        String sql = "UPDATE feriado SET descricao = ?, data_inicio = ?, data_fim = ? WHERE id = ?";
+        
+        try {
+            return DatabaseConfig.executeWrite(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setString(1, feriado.getDescricao());
+                    pstmt.setLong(2, feriado.getDataInicio().toEpochDay());
+                    pstmt.setLong(3, feriado.getDataFim().toEpochDay());
+                    pstmt.setLong(4, feriado.getId());
+                    
+                    pstmt.executeUpdate();
+                    return feriado;
+                }
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao atualizar feriado", e);
+        }
+    }
+
+    @Override
+    public void delete(Long id) {
+        String sql = "DELETE FROM feriado WHERE id = ?";
+        
+        try {
+            DatabaseConfig.executeWrite(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setLong(1, id);
+                    pstmt.executeUpdate();
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao excluir feriado", e);
+        }
+    }
+
+    @Override
+    public Optional<Feriado> findById(Long id) {
+        String sql = "SELECT * FROM feriado WHERE id = ?";
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setLong(1, id);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(mapResultSetToFeriado(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao buscar feriado", e);
+        }
+        
+        return Optional.empty();
+    }
+
+    @Override
+    public List<Feriado> findAll() {
+        String sql = "SELECT * FROM feriado ORDER BY data_inicio, id";
+        List<Feriado> feriados = new ArrayList<>();
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            
+            while (rs.next()) {
+                feriados.add(mapResultSetToFeriado(rs));
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao buscar feriados", e);
+        }
+        
+        return feriados;
+    }
+
+    private Feriado mapResultSetToFeriado(ResultSet rs) throws SQLException {
+        Feriado feriado = new Feriado();
+        feriado.setId(rs.getLong("id"));
+        feriado.setDescricao(rs.getString("descricao"));
+        feriado.setDataInicio(LocalDate.ofEpochDay(rs.getLong("data_inicio")));
+        feriado.setDataFim(LocalDate.ofEpochDay(rs.getLong("data_fim")));
+        return feriado;
+    }
+}
@@ -0,0 +1,937 @@
+package br.tec.jessebezerra.app.repository;
+
+import br.tec.jessebezerra.app.config.DatabaseConfig;
+import br.tec.jessebezerra.app.dto.ItemHierarquiaDTO;
+import br.tec.jessebezerra.app.dto.ItemSprintDTO;
+import br.tec.jessebezerra.app.dto.PaginaItemDTO;
+import br.tec.jessebezerra.app.entity.ItemSprint;
+import br.tec.jessebezerra.app.entity.StatusItem;
+import br.tec.jessebezerra.app.entity.TipoItem;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class JdbcItemSprintRepository implements ItemSprintRepository {
+
+    private static final String DETALHADO_COLUNAS =
+            "i.*, s.nome AS sprint_nome, m.nome AS membro_nome, pai.titulo AS item_pai_titulo, " +
+            "p.nome AS projeto_nome, a.nome AS aplicacao_nome";
+    private static final String DETALHADO_JOINS =
+            "LEFT JOIN sprint s ON s.id = i.sprint_id " +
+            "LEFT JOIN membro m ON m.id = i.membro_id " +
+            "LEFT JOIN item_sprint pai ON pai.id = i.item_pai_id " +
+            "LEFT JOIN projeto p ON p.id = i.projeto_id " +
+            "LEFT JOIN aplicacao a ON a.id = i.aplicacao_id ";
+    private static final String DETALHADO_SELECT = "SELECT " + DETALHADO_COLUNAS + " FROM item_sprint i " + DETALHADO_JOINS;
+    // Projeção das listagens e da timeline: todas as colunas exceto a descrição (TEXT potencialmente grande),
+    // que é carregada sob demanda por findDescricao ao abrir o item para edição
+    private static final String LISTA_COLUNAS =
+            "i.id, i.tipo, i.titulo, NULL AS descricao, i.duracao_semanas, i.duracao_dias, i.status, " +
+            "i.sprint_id, i.membro_id, i.item_pai_id, i.projeto_id, i.aplicacao_id, " +
+            "s.nome AS sprint_nome, m.nome AS membro_nome, pai.titulo AS item_pai_titulo, " +
+            "p.nome AS projeto_nome, a.nome AS aplicacao_nome";
+    private static final String LISTA_SELECT = "SELECT " + LISTA_COLUNAS + " FROM item_sprint i " + DETALHADO_JOINS;
+    // Limite de segurança contra ciclos na hierarquia; a hierarquia real tem no máximo 3 níveis
+    private static final int PROFUNDIDADE_MAXIMA = 16;
+    private static final int MAX_IDS_POR_CONSULTA = 500;
+    // Tamanhos fixos da lista IN: cada tamanho é um SQL distinto no cache de statements da conexão
+    private static final int[] TAMANHOS_LISTA_IDS = {8, 32, 128, MAX_IDS_POR_CONSULTA};
+    private static final String SOMA_DIAS_ALOCADOS =
+            "COALESCE(SUM(CASE WHEN duracao_dias > 0 THEN duracao_dias " +
+            "WHEN duracao_semanas > 0 THEN duracao_semanas * 5 ELSE 0 END), 0)";
+    private static final String INSERT_SQL = "INSERT INTO item_sprint (tipo, titulo, descricao, duracao_semanas, duracao_dias, status, sprint_id, membro_id, item_pai_id, projeto_id, aplicacao_id) " +
+                                             "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // Descrição nula mantém a gravada (veja ItemSprintRepository.update)
+    private static final String UPDATE_SQL = "UPDATE item_sprint SET tipo = ?, titulo = ?, descricao = COALESCE(?, descricao), duracao_semanas = ?, duracao_dias = ?, " +
+                                             "status = ?, sprint_id = ?, membro_id = ?, item_pai_id = ?, projeto_id = ?, aplicacao_id = ? WHERE id = ?";
+    private static final String DELETE_SQL = "DELETE FROM item_sprint WHERE id = ?";
+    
+    // Consultas de leitura visíveis no pacote: ItemSprintQueryPlanTest confere o plano destas mesmas strings
+    static final String FIND_BY_SPRINT_SQL = "SELECT * FROM item_sprint WHERE sprint_id = ? ORDER BY id ASC";
+    static final String FIND_BY_PAI_SQL = "SELECT * FROM item_sprint WHERE item_pai_id = ? ORDER BY id ASC";
+    static final String WHERE_SPRINT = "WHERE i.sprint_id = ?";
+    static final String WHERE_PAI = "WHERE i.item_pai_id = ?";
+    static final String WHERE_TIPO = "WHERE i.tipo = ?";
+    static final String WHERE_SPRINT_TIPO = "WHERE i.sprint_id = ? AND i.tipo = ?";
+    static final String WHERE_PAI_TIPO = "WHERE i.item_pai_id = ? AND i.tipo = ?";
+    static final String RAIZ_SUBARVORE = "id = ?";
+    static final String RAIZES_SPRINT = "sprint_id = ? AND item_pai_id IS NULL";
+    static final String DIAS_ALOCADOS_MEMBRO_SQL = "SELECT " + SOMA_DIAS_ALOCADOS + " FROM item_sprint " +
+                                                   "WHERE sprint_id = ? AND membro_id = ? AND tipo = 'SUB'";
+    static final String DIAS_ALOCADOS_RAIZ_SQL = "SELECT " + SOMA_DIAS_ALOCADOS + " FROM item_sprint " +
+                                                 "WHERE sprint_id = ? AND item_pai_id IS NULL";
+    static final String DIAS_ALOCADOS_MEMBRO_EXCETO_SQL = "SELECT " + SOMA_DIAS_ALOCADOS + " FROM item_sprint " +
+                                                          "WHERE sprint_id = ? AND membro_id = ? AND id IS NOT ?";
+    static final String DIAS_ALOCADOS_POR_MEMBRO_SQL = "SELECT membro_id, " + SOMA_DIAS_ALOCADOS + " FROM item_sprint " +
+                                                       "WHERE sprint_id = ? AND membro_id IS NOT NULL AND tipo = 'SUB' " +
+                                                       "GROUP BY membro_id";
+    static final String ROLLUP_SEMANAS_SQL = "SELECT soma_semanas FROM item_sprint_rollup WHERE item_pai_id = ?";
+    static final String ROLLUP_DIAS_SQL = "SELECT soma_dias FROM item_sprint_rollup WHERE item_pai_id = ?";
+    static final String ROLLUP_QUANTIDADE_SQL = "SELECT qtd_filhos FROM item_sprint_rollup WHERE item_pai_id = ?";
+
+    @Override
+    public ItemSprint save(ItemSprint item) {
+        try {
+            return DatabaseConfig.executeWrite(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+                    bindItem(pstmt, item);
+                    pstmt.executeUpdate();
+                }
+                
+                item.setId(lastInsertRowId(conn));
+                return item;
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao salvar item da sprint", e);
+        }
+    }
+
+    /**
+     * Insere todos os itens em lote, em uma única transação.
+     * Como as escritas são serializadas, os ids gerados são consecutivos e
+     * atribuídos aos itens na ordem da coleção.
+     */
+    @Override
+    public List<ItemSprint> saveAll(Collection<ItemSprint> itens) {
+        if (itens.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        try {
+            return DatabaseConfig.executeInTransaction(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+                    for (ItemSprint item : itens) {
+                        bindItem(pstmt, item);
+                        pstmt.addBatch();
+                    }
+                    pstmt.executeBatch();
+                }
+                
+                long id = lastInsertRowId(conn) - itens.size() + 1;
+                List<ItemSprint> salvos = new ArrayList<>(itens.size());
+                for (ItemSprint item : itens) {
+                    item.setId(id++);
+                    salvos.add(item);
+                }
+                return salvos;
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao salvar itens da sprint", e);
+        }
+    }
+
+    @Override
+    public ItemSprint update(ItemSprint item) {
+        try {
+            return DatabaseConfig.executeWrite(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+                    bindItem(pstmt, item);
+                    pstmt.setLong(12, item.getId());
+                    
+                    pstmt.executeUpdate();
+                    return item;
+                }
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao atualizar item da sprint", e);
+        }
+    }
+
+    /**
+     * Atualiza todos os itens em lote, em uma única transação.
+     */
+    @Override
+    public List<ItemSprint> updateAll(Collection<ItemSprint> itens) {
+        if (itens.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        try {
+            return DatabaseConfig.executeInTransaction(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+                    for (ItemSprint item : itens) {
+                        bindItem(pstmt, item);
+                        pstmt.setLong(12, item.getId());
+                        pstmt.addBatch();
+                    }
+                    pstmt.executeBatch();
+                }
+                return new ArrayList<>(itens);
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao atualizar itens da sprint", e);
+        }
+    }
+
+    @Override
+    public void delete(Long id) {
+        try {
+            DatabaseConfig.executeWrite(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(DELETE_SQL)) {
+                    pstmt.setLong(1, id);
+                    pstmt.executeUpdate();
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao excluir item da sprint", e);
+        }
+    }
+
+    /**
+     * Exclui todos os itens em lote, em uma única transação.
+     */
+    @Override
+    public void deleteAll(Collection<ItemSprint> itens) {
+        if (itens.isEmpty()) {
+            return;
+        }
+        
+        try {
+            DatabaseConfig.executeInTransaction(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(DELETE_SQL)) {
+                    for (ItemSprint item : itens) {
+                        pstmt.setLong(1, item.getId());
+                        pstmt.addBatch();
+                    }
+                    pstmt.executeBatch();
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao excluir itens da sprint", e);
+        }
+    }
+
+    @Override
+    public Optional<ItemSprint> findById(Long id) {
+        String sql = "SELECT * FROM item_sprint WHERE id = ?";
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setLong(1, id);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(mapResultSetToItemSprint(rs));
+                }
+            }
+            
+            return Optional.empty();
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao buscar item da sprint", e);
+        }
+    }
+
+    @Override
+    public List<ItemSprint> findAll() {
+        String sql = "SELECT * FROM item_sprint ORDER BY id ASC";
+        List<ItemSprint> itens = new ArrayList<>();
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            
+            while (rs.next()) {
+                itens.add(mapResultSetToItemSprint(rs));
+            }
+            
+            return itens;
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao buscar itens da sprint", e);
+        }
+    }
+
+    @Override
+    public List<ItemSprint> findBySprintId(Long sprintId) {
+        String sql = FIND_BY_SPRINT_SQL;
+        List<ItemSprint> itens = new ArrayList<>();
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setLong(1, sprintId);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    itens.add(mapResultSetToItemSprint(rs));
+                }
+            }
+            
+            return itens;
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao buscar itens da sprint", e);
+        }
+    }
+
+    /**
+     * O Stream mantém o cursor aberto, em uma conexão própria fora do pool de leitura, até ser fechado.
+     */
+    @Override
+    public Stream<ItemSprint> streamAll(int fetchSize) {
+        return stream("SELECT * FROM item_sprint ORDER BY id ASC", fetchSize);
+    }
+
+    @Override
+    public Stream<ItemSprint> streamBySprint(Long sprintId, int fetchSize) {
+        return stream(FIND_BY_SPRINT_SQL, fetchSize, sprintId);
+    }
+
+    @Override
+    public List<ItemSprint> findByItemPaiId(Long itemPaiId) {
+        String sql = FIND_BY_PAI_SQL;
+        List<ItemSprint> itens = new ArrayList<>();
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setLong(1, itemPaiId);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    itens.add(mapResultSetToItemSprint(rs));
+                }
+            }
+            
+            return itens;
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao buscar subitens", e);
+        }
+    }
+
+    /**
+     * Busca o item já com os nomes de sprint, membro, item pai, projeto e aplicação
+     * preenchidos, em uma única consulta.
+     */
+    @Override
+    public Optional<ItemSprintDTO> findDetalhadoById(Long id) {
+        List<ItemSprintDTO> itens = consultarDetalhado(DETALHADO_SELECT + "WHERE i.id = ?", "Erro ao buscar item da sprint", id);
+        return itens.isEmpty() ? Optional.empty() : Optional.of(itens.get(0));
+    }
+
+    @Override
+    public List<ItemSprintDTO> findAllDetalhado() {
+        return findDetalhado("", "Erro ao buscar itens da sprint");
+    }
+
+    /**
+     * Descrição do item, omitida nas projeções de listagem e carregada apenas ao editar.
+     */
+    @Override
+    public Optional<String> findDescricao(Long id) {
+        String sql = "SELECT descricao FROM item_sprint WHERE id = ?";
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setLong(1, id);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.ofNullable(rs.getString(1));
+                }
+            }
+            
+            return Optional.empty();
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao buscar descrição do item", e);
+        }
+    }
+
+    @Override
+    public List<ItemSprintDTO> findDetalhadoBySprintId(Long sprintId) {
+        return findDetalhado(WHERE_SPRINT, "Erro ao buscar itens da sprint", sprintId);
+    }
+
+    @Override
+    public List<ItemSprintDTO> findDetalhadoByItemPaiId(Long itemPaiId) {
+        return findDetalhado(WHERE_PAI, "Erro ao buscar subitens", itemPaiId);
+    }
+
+    @Override
+    public List<ItemSprintDTO> findDetalhadoByTipo(TipoItem tipo) {
+        return findDetalhado(WHERE_TIPO, "Erro ao buscar itens por tipo", tipo.name());
+    }
+
+    @Override
+    public List<ItemSprintDTO> findDetalhadoBySprintIdAndTipo(Long sprintId, TipoItem tipo) {
+        return findDetalhado(WHERE_SPRINT_TIPO, "Erro ao buscar itens da sprint por tipo",
+                sprintId, tipo.name());
+    }
+
+    @Override
+    public List<ItemSprintDTO> findDetalhadoByItemPaiIdAndTipo(Long itemPaiId, TipoItem tipo) {
+        return findDetalhado(WHERE_PAI_TIPO, "Erro ao buscar subitens por tipo",
+                itemPaiId, tipo.name());
+    }
+
+    /**
+     * Busca vários itens detalhados pelos ids, em consultas de até {@value #MAX_IDS_POR_CONSULTA} ids.
+     * A lista IN é completada até um dos tamanhos fixos, para não encher o cache de statements com variações.
+     */
+    @Override
+    public List<ItemSprintDTO> findDetalhadoByIds(Collection<Long> ids) {
+        List<ItemSprintDTO> itens = new ArrayList<>();
+        List<Long> pendentes = new ArrayList<>(ids);
+        
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
+            for (int inicio = 0; inicio < pendentes.size(); inicio += MAX_IDS_POR_CONSULTA) {
+                List<Long> lote = pendentes.subList(inicio, Math.min(inicio + MAX_IDS_POR_CONSULTA, pendentes.size()));
+                int tamanho = tamanhoListaIds(lote.size());
+                String placeholders = String.join(", ", Collections.nCopies(tamanho, "?"));
+                String sql = DETALHADO_SELECT + "WHERE i.id IN (" + placeholders + ") ORDER BY i.id ASC";
+                
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    // As posições excedentes repetem o último id, o que não altera o resultado do IN
+                    for (int i = 0; i < tamanho; i++) {
+                        pstmt.setLong(i + 1, lote.get(Math.min(i, lote.size() - 1)));
+                    }
+                    
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            itens.add(mapResultSetToItemSprintDTO(rs));
+                        }
+                    }
+                }
+            }
+            
+            return itens;
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao buscar itens da sprint", e);
+        }
+    }
+
+    private static int tamanhoListaIds(int quantidade) {
+        for (int tamanho : TAMANHOS_LISTA_IDS) {
+            if (quantidade <= tamanho) {
+                return tamanho;
+            }
+        }
+        return MAX_IDS_POR_CONSULTA;
+    }
+
+    /**
+     * Página de itens detalhados depois do cursor, ordenada por (coluna, id).
+     * Com a ordenação por id, a consulta percorre diretamente a chave primária (ou o índice de tipo).
+     */
+    @Override
+    public List<ItemSprintDTO> findDetalhadoPageAfter(TipoItem tipo, PaginaItemDTO pagina) {
+        return consultarPagina(tipo, pagina, false);
+    }
+
+    /**
+     * Página de itens detalhados antes do cursor: percorre a ordenação no sentido inverso e devolve a página
+     * na ordem pedida.
+     */
+    @Override
+    public List<ItemSprintDTO> findDetalhadoPageBefore(TipoItem tipo, PaginaItemDTO pagina) {
+        List<ItemSprintDTO> itens = consultarPagina(tipo, pagina, true);
+        Collections.reverse(itens);
+        return itens;
+    }
+
+    private List<ItemSprintDTO> consultarPagina(TipoItem tipo, PaginaItemDTO pagina, boolean inverter) {
+        List<Object> parametros = new ArrayList<>();
+        String sql = sqlPagina(tipo, pagina, inverter, parametros);
+        return consultarDetalhado(sql, "Erro ao buscar página de itens", parametros.toArray());
+    }
+
+    /**
+     * Monta a consulta de uma página, acrescentando os parâmetros, na ordem, em {@code parametros}.
+     */
+    static String sqlPagina(TipoItem tipo, PaginaItemDTO pagina, boolean inverter, List<Object> parametros) {
+        PaginaItemDTO.Coluna coluna = pagina.getColuna();
+        String expressao = expressaoOrdenacao(coluna);
+        boolean decrescente = pagina.isDecrescente() != inverter;
+        List<String> condicoes = new ArrayList<>();
+        
+        if (tipo != null) {
+            condicoes.add("i.tipo = ?");
+            parametros.add(tipo.name());
+        }
+        if (pagina.getIdCursor() != null) {
+            String operador = (decrescente ? "<" : ">") + (pagina.isIncluirCursor() ? "=" : "");
+            if (coluna == PaginaItemDTO.Coluna.ID) {
+                condicoes.add("i.id " + operador + " ?");
+            } else {
+                // Comparação de valores de linha: (coluna, id) forma uma chave única
+                condicoes.add("(" + expressao + ", i.id) " + operador + " (?, ?)");
+                parametros.add(coluna.normalizar(pagina.getValorCursor()));
+            }
+            parametros.add(pagina.getIdCursor());
+        }
+        parametros.add(pagina.getLimite());
+        
+        String sentido = decrescente ? " DESC" : " ASC";
+        String ordem = coluna == PaginaItemDTO.Coluna.ID
+                ? "i.id" + sentido
+                : expressao + sentido + ", i.id" + sentido;
+        return LISTA_SELECT
+                + (condicoes.isEmpty() ? "" : "WHERE " + String.join(" AND ", condicoes) + " ")
+                + "ORDER BY " + ordem + " LIMIT ?";
+    }
+
+    /**
+     * Expressão SQL da coluna de ordenação, com os mesmos valores de {@link PaginaItemDTO.Coluna#normalizar}.
+     */
+    private static String expressaoOrdenacao(PaginaItemDTO.Coluna coluna) {
+        switch (coluna) {
+            case TIPO:
+                return posicaoEnum("i.tipo", TipoItem.values());
+            case TITULO:
+                return "COALESCE(i.titulo, '')";
+            case DURACAO_SEMANAS:
+                return "COALESCE(i.duracao_semanas, 0)";
+            case DURACAO_DIAS:
+                return "COALESCE(i.duracao_dias, 0)";
+            case STATUS:
+                return posicaoEnum("i.status", StatusItem.values());
+            case SPRINT:
+                return "COALESCE(s.nome, '')";
+            case MEMBRO:
+                return "COALESCE(m.nome, '')";
+            case ITEM_PAI:
+                return "COALESCE(pai.titulo, '')";
+            default:
+                return "i.id";
+        }
+    }
+
+    private static String posicaoEnum(String campo, Enum<?>[] valores) {
+        StringBuilder sql = new StringBuilder("CASE ").append(campo);
+        for (Enum<?> valor : valores) {
+            sql.append(" WHEN '").append(valor.name()).append("' THEN ").append(valor.ordinal());
+        }
+        return sql.append(" ELSE -1 END").toString();
+    }
+
+    private List<ItemSprintDTO> findDetalhado(String where, String mensagemErro, Object... parametros) {
+        return consultarDetalhado(sqlListagem(where), mensagemErro, parametros);
+    }
+
+    static String sqlListagem(String where) {
+        return LISTA_SELECT + where + " ORDER BY i.id ASC";
+    }
+
+    private List<ItemSprintDTO> consultarDetalhado(String sql, String mensagemErro, Object... parametros) {
+        List<ItemSprintDTO> itens = new ArrayList<>();
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            for (int i = 0; i < parametros.length; i++) {
+                pstmt.setObject(i + 1, parametros[i]);
+            }
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    itens.add(mapResultSetToItemSprintDTO(rs));
+                }
+            }
+            
+            return itens;
+        } catch (SQLException e) {
+            throw new RuntimeException(mensagemErro, e);
+        }
+    }
+
+    /**
+     * Carrega a subárvore a partir do item informado (inclusive) em uma única consulta recursiva.
+     * Os itens vêm em pré-ordem (cada pai seguido dos seus descendentes), irmãos ordenados por id.
+     */
+    @Override
+    public List<ItemHierarquiaDTO> findSubtree(Long rootId) {
+        return findHierarquia(RAIZ_SUBARVORE, rootId, "Erro ao buscar subárvore do item");
+    }
+
+    /**
+     * Carrega todas as árvores de uma sprint, partindo dos itens sem pai, em uma única consulta recursiva.
+     */
+    @Override
+    public List<ItemHierarquiaDTO> findSubtrees(Long sprintId) {
+        return findHierarquia(RAIZES_SPRINT, sprintId, "Erro ao buscar hierarquia da sprint");
+    }
+
+    private List<ItemHierarquiaDTO> findHierarquia(String raizes, Long parametro, String mensagemErro) {
+        String sql = sqlHierarquia(raizes);
+        List<ItemHierarquiaDTO> itens = new ArrayList<>();
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setLong(1, parametro);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    itens.add(new ItemHierarquiaDTO(mapResultSetToItemSprintDTO(rs), rs.getInt("profundidade")));
+                }
+            }
+            
+            return itens;
+        } catch (SQLException e) {
+            throw new RuntimeException(mensagemErro, e);
+        }
+    }
+
+    static String sqlHierarquia(String raizes) {
+        // O caminho concatena os ids com largura fixa, de modo que ordenar por ele produz a pré-ordem.
+        // CROSS JOIN fixa a árvore como tabela externa; com estatísticas o SQLite preferia varrer item_sprint
+        return "WITH RECURSIVE arvore(id, profundidade, caminho) AS (" +
+               "SELECT id, 0, printf('%010d', id) FROM item_sprint WHERE " + raizes + " " +
+               "UNION ALL " +
+               "SELECT filho.id, arvore.profundidade + 1, arvore.caminho || '/' || printf('%010d', filho.id) " +
+               "FROM item_sprint filho JOIN arvore ON filho.item_pai_id = arvore.id " +
+               "WHERE arvore.profundidade < " + PROFUNDIDADE_MAXIMA +
+               ") " +
+               "SELECT " + LISTA_COLUNAS + ", arvore.profundidade " +
+               "FROM arvore CROSS JOIN item_sprint i ON i.id = arvore.id " + DETALHADO_JOINS +
+               "ORDER BY arvore.caminho";
+    }
+
+    /**
+     * Soma os dias alocados ao membro na sprint, considerando apenas SUBs.
+     * A duração em semanas, quando não há duração em dias, conta 5 dias úteis por semana.
+     */
+    @Override
+    public int getDiasAlocadosMembro(Long sprintId, Long membroId) {
+        String sql = DIAS_ALOCADOS_MEMBRO_SQL;
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setLong(1, sprintId);
+            pstmt.setLong(2, membroId);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt(1);
+                }
+            }
+            
+            return 0;
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao calcular dias alocados do membro", e);
+        }
+    }
+
+    @Override
+    public int getDiasAlocadosRaiz(Long sprintId) {
+        String sql = DIAS_ALOCADOS_RAIZ_SQL;
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setLong(1, sprintId);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao calcular dias alocados da sprint", e);
+        }
+    }
+
+    @Override
+    public int getDiasAlocadosMembroExceto(Long sprintId, Long membroId, Long itemIgnoradoId) {
+        String sql = DIAS_ALOCADOS_MEMBRO_EXCETO_SQL;
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setLong(1, sprintId);
+            pstmt.setLong(2, membroId);
+            pstmt.setObject(3, itemIgnoradoId);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao calcular dias alocados do membro", e);
+        }
+    }
+
+    /**
+     * Soma os dias alocados em SUBs para cada membro da sprint, indexados pelo id do membro.
+     */
+    @Override
+    public Map<Long, Integer> getDiasAlocadosPorMembro(Long sprintId) {
+        String sql = DIAS_ALOCADOS_POR_MEMBRO_SQL;
+        Map<Long, Integer> diasPorMembro = new HashMap<>();
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setLong(1, sprintId);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    diasPorMembro.put(rs.getLong(1), rs.getInt(2));
+                }
+            }
+            
+            return diasPorMembro;
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao calcular dias alocados por membro", e);
+        }
+    }
+
+    /**
+     * Soma das durações em semanas dos filhos diretos, lida do rollup mantido por triggers.
+     */
+    @Override
+    public Integer getSomaDuracaoFilhosSemanas(Long itemPaiId) {
+        String sql = ROLLUP_SEMANAS_SQL;
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setLong(1, itemPaiId);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt(1);
+                }
+            }
+            
+            return 0;
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao calcular duração dos filhos em semanas", e);
+        }
+    }
+    
+    /**
+     * Soma das durações em dias dos filhos diretos, lida do rollup mantido por triggers.
+     */
+    @Override
+    public Integer getSomaDuracaoFilhosDias(Long itemPaiId) {
+        String sql = ROLLUP_DIAS_SQL;
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setLong(1, itemPaiId);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt(1);
+                }
+            }
+            
+            return 0;
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao calcular duração dos filhos em dias", e);
+        }
+    }
+
+    /**
+     * Quantidade de filhos diretos, lida do rollup mantido por triggers.
+     */
+    @Override
+    public int getQuantidadeFilhos(Long itemPaiId) {
+        String sql = ROLLUP_QUANTIDADE_SQL;
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setLong(1, itemPaiId);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt(1);
+                }
+            }
+            
+            return 0;
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao contar filhos do item", e);
+        }
+    }
+
+    private void bindItem(PreparedStatement pstmt, ItemSprint item) throws SQLException {
+        pstmt.setString(1, item.getTipo().name());
+        pstmt.setString(2, item.getTitulo());
+        pstmt.setString(3, item.getDescricao());
+        
+        if (item.getDuracaoSemanas() != null) {
+            pstmt.setInt(4, item.getDuracaoSemanas());
+        } else {
+            pstmt.setNull(4, Types.INTEGER);
+        }
+        
+        if (item.getDuracaoDias() != null) {
+            pstmt.setInt(5, item.getDuracaoDias());
+        } else {
+            pstmt.setNull(5, Types.INTEGER);
+        }
+        
+        pstmt.setString(6, item.getStatus().name());
+        pstmt.setLong(7, item.getSprintId());
+        
+        if (item.getMembroId() != null) {
+            pstmt.setLong(8, item.getMembroId());
+        } else {
+            pstmt.setNull(8, Types.INTEGER);
+        }
+        
+        if (item.getItemPaiId() != null) {
+            pstmt.setLong(9, item.getItemPaiId());
+        } else {
+            pstmt.setNull(9, Types.INTEGER);
+        }
+        
+        if (item.getProjetoId() != null) {
+            pstmt.setLong(10, item.getProjetoId());
+        } else {
+            pstmt.setNull(10, Types.INTEGER);
+        }
+        
+        if (item.getAplicacaoId() != null) {
+            pstmt.setLong(11, item.getAplicacaoId());
+        } else {
+            pstmt.setNull(11, Types.INTEGER);
+        }
+    }
+
+    private long lastInsertRowId(Connection conn) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT last_insert_rowid()");
+             ResultSet rs = pstmt.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    /**
+     * Abre um cursor e o expõe como Stream preguiçoso: cada linha é lida do SQLite
+     * apenas quando consumida. Fechar o Stream fecha o cursor e devolve a conexão.
+     */
+    private Stream<ItemSprint> stream(String sql, int fetchSize, Object... params) {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        try {
+            conn = DatabaseConfig.openCursorConnection();
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setFetchSize(fetchSize);
+            for (int i = 0; i < params.length; i++) {
+                pstmt.setObject(i + 1, params[i]);
+            }
+            rs = pstmt.executeQuery();
+        } catch (SQLException e) {
+            closeQuietly(rs, pstmt, conn);
+            throw new RuntimeException("Erro ao abrir cursor de itens da sprint", e);
+        }
+        
+        ResultSet cursor = rs;
+        Spliterator<ItemSprint> spliterator = new Spliterators.AbstractSpliterator<ItemSprint>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super ItemSprint> action) {
+                try {
+                    if (!cursor.next()) {
+                        return false;
+                    }
+                    action.accept(mapResultSetToItemSprint(cursor));
+                    return true;
+                } catch (SQLException e) {
+                    throw new RuntimeException("Erro ao ler itens da sprint", e);
+                }
+            }
+        };
+        
+        PreparedStatement statement = pstmt;
+        Connection connection = conn;
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> closeQuietly(cursor, statement, connection));
+    }
+
+    private static void closeQuietly(AutoCloseable... recursos) {
+        for (AutoCloseable recurso : recursos) {
+            if (recurso == null) {
+                continue;
+            }
+            try {
+                recurso.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private ItemSprint mapResultSetToItemSprint(ResultSet rs) throws SQLException {
+        ItemSprint item = new ItemSprint();
+        item.setId(rs.getLong("id"));
+        item.setTipo(TipoItem.valueOf(rs.getString("tipo")));
+        item.setTitulo(rs.getString("titulo"));
+        item.setDescricao(rs.getString("descricao"));
+        
+        int duracaoSemanas = rs.getInt("duracao_semanas");
+        if (!rs.wasNull()) {
+            item.setDuracaoSemanas(duracaoSemanas);
+        }
+        
+        int duracaoDias = rs.getInt("duracao_dias");
+        if (!rs.wasNull()) {
+            item.setDuracaoDias(duracaoDias);
+        }
+        
+        item.setStatus(StatusItem.valueOf(rs.getString("status")));
+        item.setSprintId(rs.getLong("sprint_id"));
+        
+        long membroId = rs.getLong("membro_id");
+        if (!rs.wasNull()) {
+            item.setMembroId(membroId);
+        }
+        
+        long itemPaiId = rs.getLong("item_pai_id");
+        if (!rs.wasNull()) {
+            item.setItemPaiId(itemPaiId);
+        }
+        
+        long projetoId = rs.getLong("projeto_id");
+        if (!rs.wasNull()) {
+            item.setProjetoId(projetoId);
+        }
+        
+        long aplicacaoId = rs.getLong("aplicacao_id");
+        if (!rs.wasNull()) {
+            item.setAplicacaoId(aplicacaoId);
+        }
+        
+        return item;
+    }
+
+    private ItemSprintDTO mapResultSetToItemSprintDTO(ResultSet rs) throws SQLException {
+        ItemSprint item = mapResultSetToItemSprint(rs);
+        
+        ItemSprintDTO dto = new ItemSprintDTO();
+        dto.setId(item.getId());
+        dto.setTipo(item.getTipo());
+        dto.setTitulo(item.getTitulo());
+        dto.setDescricao(item.getDescricao());
+        dto.setDuracaoSemanas(item.getDuracaoSemanas());
+        dto.setDuracaoDias(item.getDuracaoDias());
+        dto.setStatus(item.getStatus());
+        dto.setSprintId(item.getSprintId());
+        dto.setSprintNome(rs.getString("sprint_nome"));
+        dto.setMembroId(item.getMembroId());
+        dto.setMembroNome(rs.getString("membro_nome"));
+        dto.setItemPaiId(item.getItemPaiId());
+        dto.setItemPaiTitulo(rs.getString("item_pai_titulo"));
+        dto.setProjetoId(item.getProjetoId());
+        dto.setProjetoNome(rs.getString("projeto_nome"));
+        dto.setAplicacaoId(item.getAplicacaoId());
+        dto.setAplicacaoNome(rs.getString("aplicacao_nome"));
+        return dto;
+    }
+}
@@ -0,0 +1,153 @@
+package br.tec.jessebezerra.app.repository;
+
+import br.tec.jessebezerra.app.cache.ReferenceDataCache;
+import br.tec.jessebezerra.app.config.DatabaseConfig;
+import br.tec.jessebezerra.app.entity.Funcao;
+import br.tec.jessebezerra.app.entity.Membro;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+public class JdbcMembroRepository implements MembroRepository {
+
+    @Override
+    public Membro save(Membro membro) {
+        String sql = "INSERT INTO membro (nome, funcao, ativo, especialidades) VALUES (?, ?, ?, ?)";
+        
+        try {
+            Membro salvo = DatabaseConfig.executeWrite(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setString(1, membro.getNome());
+                    pstmt.setString(2, membro.getFuncao().name());
+                    pstmt.setInt(3, membro.getAtivo() ? 1 : 0);
+                    pstmt.setString(4, membro.getEspecialidades());
+                    
+                    pstmt.executeUpdate();
+                    
+                    try (Statement stmt = conn.createStatement();
+                         ResultSet rs = stmt.executeQuery("SELECT last_insert_rowid()")) {
+                        if (rs.next()) {
+                            membro.setId(rs.getLong(1));
+                        }
+                    }
+                    
+                    return membro;
+                }
+            });
+            ReferenceDataCache.MEMBROS.invalidate(salvo.getId());
+            return salvo;
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao salvar membro", e);
+        }
+    }
+
+    @Override
+    public Membro update(Membro membro) {
+        String sql = "UPDATE membro SET nome = ?, funcao = ?, ativo = ?, especialidades = ? WHERE id = ?";
+        
+        try {
+            Membro salvo = DatabaseConfig.executeWrite(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setString(1, membro.getNome());
+                    pstmt.setString(2, membro.getFuncao().name());
+                    pstmt.setInt(3, membro.getAtivo() ? 1 : 0);
+                    pstmt.setString(4, membro.getEspecialidades());
+                    pstmt.setLong(5, membro.getId());
+                    
+                    pstmt.executeUpdate();
+                    return membro;
+                }
+            });
+            ReferenceDataCache.MEMBROS.invalidate(salvo.getId());
+            return salvo;
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao atualizar membro", e);
+        }
+    }
+
+    @Override
+    public void delete(Long id) {
+        String sql = "DELETE FROM membro WHERE id = ?";
+        
+        try {
+            DatabaseConfig.executeWrite(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setLong(1, id);
+                    pstmt.executeUpdate();
+                }
+                return null;
+            });
+            ReferenceDataCache.MEMBROS.invalidate(id);
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao excluir membro", e);
+        }
+    }
+
+    @Override
+    public Optional<Membro> findById(Long id) {
+        return ReferenceDataCache.MEMBROS.get(id, this::loadById);
+    }
+
+    @Override
+    public List<Membro> findAll() {
+        return ReferenceDataCache.MEMBROS.getAll(this::loadAll);
+    }
+
+    private Optional<Membro> loadById(Long id) {
+        String sql = "SELECT * FROM membro WHERE id = ?";
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setLong(1, id);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(mapResultSetToMembro(rs));
+                }
+            }
+            
+            return Optional.empty();
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao buscar membro", e);
+        }
+    }
+
+    private List<Membro> loadAll() {
+        String sql = "SELECT * FROM membro ORDER BY nome ASC";
+        List<Membro> membros = new ArrayList<>();
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            
+            while (rs.next()) {
+                membros.add(mapResultSetToMembro(rs));
+            }
+            
+            return membros;
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao buscar membros", e);
+        }
+    }
+
+    @Override
+    public List<Membro> findByAtivo(boolean ativo) {
+        return findAll().stream()
+                .filter(membro -> Boolean.valueOf(ativo).equals(membro.getAtivo()))
+                .collect(Collectors.toList());
+    }
+
+    private Membro mapResultSetToMembro(ResultSet rs) throws SQLException {
+        Membro membro = new Membro();
+        membro.setId(rs.getLong("id"));
+        membro.setNome(rs.getString("nome"));
+        membro.setFuncao(Funcao.valueOf(rs.getString("funcao")));
+        membro.setAtivo(rs.getInt("ativo") == 1);
+        membro.setEspecialidades(rs.getString("especialidades"));
+        return membro;
+    }
+}
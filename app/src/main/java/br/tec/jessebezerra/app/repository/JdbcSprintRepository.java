@@ -0,0 +1,184 @@
+package br.tec.jessebezerra.app.repository;
+
+import br.tec.jessebezerra.app.cache.ReferenceDataCache;
+import br.tec.jessebezerra.app.config.DatabaseConfig;
+import br.tec.jessebezerra.app.entity.Sprint;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class JdbcSprintRepository implements SprintRepository {
+
+    static final String EXISTS_OVERLAPPING_SQL =
+            "SELECT 1 FROM sprint WHERE data_inicio BETWEEN ? AND ? AND data_fim >= ?";
+
+    @Override
+    public Sprint save(Sprint sprint) {
+        String sql = "INSERT INTO sprint (nome, data_inicio, duracao_semanas, data_fim) VALUES (?, ?, ?, ?)";
+        
+        try {
+            Sprint salvo = DatabaseConfig.executeWrite(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setString(1, sprint.getNome());
+                    pstmt.setLong(2, sprint.getDataInicio().toEpochDay());
+                    pstmt.setInt(3, sprint.getDuracaoSemanas());
+                    pstmt.setLong(4, fimGravado(sprint));
+                    pstmt.executeUpdate();
+                    
+                    try (Statement stmt = conn.createStatement();
+                         ResultSet rs = stmt.executeQuery("SELECT last_insert_rowid()")) {
+                        if (rs.next()) {
+                            sprint.setId(rs.getLong(1));
+                        }
+                    }
+                    
+                    return sprint;
+                }
+            });
+            ReferenceDataCache.SPRINTS.invalidate(salvo.getId());
+            return salvo;
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao salvar sprint", e);
+        }
+    }
+
+    @Override
+    public Sprint update(Sprint sprint) {
+        String sql = "UPDATE sprint SET nome = ?, data_inicio = ?, duracao_semanas = ?, data_fim = ? WHERE id = ?";
+        
+        try {
+            Sprint salvo = DatabaseConfig.executeWrite(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setString(1, sprint.getNome());
+                    pstmt.setLong(2, sprint.getDataInicio().toEpochDay());
+                    pstmt.setInt(3, sprint.getDuracaoSemanas());
+                    pstmt.setLong(4, fimGravado(sprint));
+                    pstmt.setLong(5, sprint.getId());
+                    
+                    pstmt.executeUpdate();
+                    return sprint;
+                }
+            });
+            ReferenceDataCache.SPRINTS.invalidate(salvo.getId());
+            return salvo;
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao atualizar sprint", e);
+        }
+    }
+
+    @Override
+    public void delete(Long id) {
+        String sql = "DELETE FROM sprint WHERE id = ?";
+        
+        try {
+            DatabaseConfig.executeWrite(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setLong(1, id);
+                    pstmt.executeUpdate();
+                }
+                return null;
+            });
+            ReferenceDataCache.SPRINTS.invalidate(id);
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao deletar sprint", e);
+        }
+    }
+
+    @Override
+    public Optional<Sprint> findById(Long id) {
+        return ReferenceDataCache.SPRINTS.get(id, this::loadById);
+    }
+
+    @Override
+    public List<Sprint> findAll() {
+        return ReferenceDataCache.SPRINTS.getAll(this::loadAll);
+    }
+
+    private Optional<Sprint> loadById(Long id) {
+        String sql = "SELECT * FROM sprint WHERE id = ?";
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setLong(1, id);
+            ResultSet rs = pstmt.executeQuery();
+            
+            if (rs.next()) {
+                return Optional.of(mapResultSetToSprint(rs));
+            }
+            return Optional.empty();
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao buscar sprint", e);
+        }
+    }
+
+    private List<Sprint> loadAll() {
+        String sql = "SELECT * FROM sprint ORDER BY data_inicio DESC";
+        List<Sprint> sprints = new ArrayList<>();
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            
+            while (rs.next()) {
+                sprints.add(mapResultSetToSprint(rs));
+            }
+            
+            return sprints;
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao buscar sprints", e);
+        }
+    }
+
+    /**
+     * Verifica se o período informado se sobrepõe ao de outra sprint: basta uma sprint que comece até o fim
+     * informado e termine a partir do início. Como nenhuma sprint dura mais que {@link #PERIODO_MAXIMO_DIAS},
+     * só as que começam até esse tanto antes do início podem alcançá-lo; a faixa em data_inicio percorre apenas
+     * as sprints vizinhas no índice (data_inicio, data_fim) e a consulta para na primeira encontrada.
+     */
+    @Override
+    public boolean existsOverlappingSprint(LocalDate dataInicio, LocalDate dataFim, Long excludeId) {
+        String sql = EXISTS_OVERLAPPING_SQL + (excludeId != null ? " AND id != ?" : "") + " LIMIT 1";
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            
+            pstmt.setLong(1, dataInicio.toEpochDay() - PERIODO_MAXIMO_DIAS);
+            pstmt.setLong(2, dataFim.toEpochDay());
+            pstmt.setLong(3, dataInicio.toEpochDay());
+            if (excludeId != null) {
+                pstmt.setLong(4, excludeId);
+            }
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Erro ao verificar sobreposição de sprints", e);
+        }
+    }
+    
+    /**
+     * Data de fim gravada; sem data informada, o último dia corrido da duração (data_fim é obrigatória).
+     */
+    private static long fimGravado(Sprint sprint) {
+        if (sprint.getDataFim() != null) {
+            return sprint.getDataFim().toEpochDay();
+        }
+        return sprint.getDataInicio().toEpochDay() + sprint.getDuracaoSemanas() * 7L - 1;
+    }
+
+    private Sprint mapResultSetToSprint(ResultSet rs) throws SQLException {
+        Sprint sprint = new Sprint();
+        sprint.setId(rs.getLong("id"));
+        sprint.setNome(rs.getString("nome"));
+        sprint.setDataInicio(LocalDate.ofEpochDay(rs.getLong("data_inicio")));
+        sprint.setDuracaoSemanas(rs.getInt("duracao_semanas"));
+        
+        sprint.setDataFim(LocalDate.ofEpochDay(rs.getLong("data_fim")));
+        return sprint;
+    }
+}
@@ -0,0 +1,108 @@
+package br.tec.jessebezerra.app.repository;
+
+import br.tec.jessebezerra.app.util.WorkingDayCalendar;
+
+/**
+ * Ponto único de obtenção dos repositórios usados pelos serviços.
+ * O backend padrão é o SQLite (JDBC); o backend em memória não faz nenhuma E/S e serve a simulações,
+ * testes de carga e demonstrações. Também pode ser escolhido com -Dagenda.repositorios=memoria.
+ * Os serviços guardam os repositórios no construtor, portanto o backend deve ser definido antes de criá-los.
+ * Os feriados do backend atual alimentam o {@link WorkingDayCalendar}: a fonte é registrada sempre que um backend
+ * é instalado (o inicial, {@link #setBackend} e {@link br.tec.jessebezerra.app.config.DatabaseConfig#initialize})
+ * e lê {@link #feriados()} a cada chamada, acompanhando a troca de backend.
+ */
+public final class RepositoryFactory {
+
+    public enum Backend {
+        JDBC,
+        MEMORIA
+    }
+
+    private static Backend backend = "memoria".equalsIgnoreCase(System.getProperty("agenda.repositorios"))
+            ? Backend.MEMORIA : Backend.JDBC;
+    private static Repositorios repositorios = criar(backend);
+
+    static {
+        registerHolidaySource();
+    }
+
+    private RepositoryFactory() {
+    }
+
+    /**
+     * Registra os feriados do backend atual como fonte do {@link WorkingDayCalendar}.
+     */
+    public static void registerHolidaySource() {
+        WorkingDayCalendar.setHolidaySource(() -> feriados().findAllEpochDays());
+    }
+
+    /**
+     * Troca o backend. No backend em memória, cada chamada começa com um armazenamento vazio.
+     */
+    public static synchronized void setBackend(Backend novoBackend) {
+        backend = novoBackend;
+        repositorios = criar(novoBackend);
+        registerHolidaySource();
+    }
+
+    public static synchronized Backend getBackend() {
+        return backend;
+    }
+
+    public static synchronized SprintRepository sprints() {
+        return repositorios.sprints;
+    }
+
+    public static synchronized MembroRepository membros() {
+        return repositorios.membros;
+    }
+
+    public static synchronized ProjetoRepository projetos() {
+        return repositorios.projetos;
+    }
+
+    public static synchronized AplicacaoRepository aplicacoes() {
+        return repositorios.aplicacoes;
+    }
+
+    public static synchronized ItemSprintRepository itens() {
+        return repositorios.itens;
+    }
+
+    public static synchronized FeriadoRepository feriados() {
+        return repositorios.feriados;
+    }
+
+    private static Repositorios criar(Backend backend) {
+        if (backend == Backend.MEMORIA) {
+            SprintRepository sprints = new InMemorySprintRepository();
+            MembroRepository membros = new InMemoryMembroRepository();
+            ProjetoRepository projetos = new InMemoryProjetoRepository();
+            AplicacaoRepository aplicacoes = new InMemoryAplicacaoRepository();
+            return new Repositorios(sprints, membros, projetos, aplicacoes,
+                    new InMemoryItemSprintRepository(sprints, membros, projetos, aplicacoes),
+                    new InMemoryFeriadoRepository());
+        }
+        return new Repositorios(new JdbcSprintRepository(), new JdbcMembroRepository(), new JdbcProjetoRepository(),
+                new JdbcAplicacaoRepository(), new JdbcItemSprintRepository(), new JdbcFeriadoRepository());
+    }
+
+    private static final class Repositorios {
+        private final SprintRepository sprints;
+        private final MembroRepository membros;
+        private final ProjetoRepository projetos;
+        private final AplicacaoRepository aplicacoes;
+        private final ItemSprintRepository itens;
+        private final FeriadoRepository feriados;
+        
+        private Repositorios(SprintRepository sprints, MembroRepository membros, ProjetoRepository projetos,
+                             AplicacaoRepository aplicacoes, ItemSprintRepository itens, FeriadoRepository feriados) {
+            this.sprints = sprints;
+            this.membros = membros;
+            this.projetos = projetos;
+            this.aplicacoes = aplicacoes;
+            this.itens = itens;
+            this.feriados = feriados;
+        }
+    }
+}
@@ -3,16 +3,18 @@ package br.tec.jessebezerra.app.service;
 import br.tec.jessebezerra.app.dto.AplicacaoDTO;
 import br.tec.jessebezerra.app.entity.Aplicacao;
 import br.tec.jessebezerra.app.repository.AplicacaoRepository;
+import br.tec.jessebezerra.app.repository.RepositoryFactory;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 public class AplicacaoService {
     private final AplicacaoRepository repository;
 
     public AplicacaoService() {
-        this.repository = new AplicacaoRepository();
+        this.repository = RepositoryFactory.aplicacoes();
     }
 
     public AplicacaoDTO create(AplicacaoDTO dto) {
@@ -56,6 +58,10 @@ public class AplicacaoService {
                 .collect(Collectors.toList());
     }
 
+    public CompletableFuture<List<AplicacaoDTO>> findAllAsync() {
+        return DatabaseExecutor.supply(this::findAll);
+    }
+
     private void validarAplicacao(AplicacaoDTO dto) {
         if (dto.getNome() == null || dto.getNome().trim().isEmpty()) {
             throw new IllegalArgumentException("Nome da aplicação é obrigatório");
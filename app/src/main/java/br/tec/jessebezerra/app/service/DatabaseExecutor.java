@@ -0,0 +1,93 @@
+package br.tec.jessebezerra.app.service;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Executor dedicado às operações de banco de dados disparadas pela interface.
+ * O número de threads e o tamanho da fila são limitados; os resultados são entregues
+ * na thread do JavaFX, de modo que os callbacks podem atualizar a tela diretamente.
+ * Cancelar o future retira da fila a operação que ainda não começou.
+ */
+public final class DatabaseExecutor {
+
+    private static final int POOL_SIZE = 4;
+    private static final int QUEUE_CAPACITY = 256;
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+            POOL_SIZE, POOL_SIZE, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "db-async-" + THREAD_COUNTER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private DatabaseExecutor() {
+    }
+
+    /**
+     * Executa a operação em segundo plano e completa o future na thread do JavaFX.
+     * Se a fila estiver cheia, o future é completado com RejectedExecutionException, também na thread do JavaFX.
+     */
+    public static <T> CompletableFuture<T> supply(Supplier<T> operacao) {
+        CompletableFuture<T> resultado = new CompletableFuture<>();
+        Future<?> execucao;
+        try {
+            execucao = EXECUTOR.submit(() -> {
+                if (resultado.isDone()) {
+                    return;
+                }
+                try {
+                    T valor = operacao.get();
+                    completeOnFxThread(() -> resultado.complete(valor));
+                } catch (Throwable e) {
+                    completeOnFxThread(() -> resultado.completeExceptionally(e));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            completeOnFxThread(() -> resultado.completeExceptionally(e));
+            return resultado;
+        }
+        
+        resultado.whenComplete((valor, erro) -> {
+            // cancel só marca a tarefa; remove libera a vaga na fila sem esperar uma thread chegar até ela
+            if (resultado.isCancelled() && execucao.cancel(false)) {
+                EXECUTOR.remove((Runnable) execucao);
+            }
+        });
+        return resultado;
+    }
+
+    /**
+     * Variante de {@link #supply(Supplier)} para operações sem retorno.
+     */
+    public static CompletableFuture<Void> run(Runnable operacao) {
+        return supply(() -> {
+            operacao.run();
+            return null;
+        });
+    }
+
+    private static void completeOnFxThread(Runnable conclusao) {
+        try {
+            Platform.runLater(conclusao);
+        } catch (IllegalStateException e) {
+            // Toolkit do JavaFX não iniciado (uso fora da interface): completa na própria thread
+            conclusao.run();
+        }
+    }
+}
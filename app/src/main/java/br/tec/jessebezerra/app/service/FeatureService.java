@@ -1,5 +1,6 @@
 package br.tec.jessebezerra.app.service;
 
+import br.tec.jessebezerra.app.dto.ItemHierarquiaDTO;
 import br.tec.jessebezerra.app.dto.ItemSprintDTO;
 import br.tec.jessebezerra.app.entity.TipoItem;
 
@@ -54,52 +55,45 @@ public class FeatureService {
      * Lista todas as Features
      */
     public List<ItemSprintDTO> findAllFeatures() {
-        return itemSprintService.findAll().stream()
-            .filter(item -> item.getTipo() == TipoItem.FEATURE)
-            .collect(Collectors.toList());
+        return itemSprintService.findByTipo(TipoItem.FEATURE);
     }
     
     /**
      * Lista Features de uma Sprint específica
      */
     public List<ItemSprintDTO> findFeaturesBySprint(Long sprintId) {
-        return itemSprintService.findBySprintId(sprintId).stream()
-            .filter(item -> item.getTipo() == TipoItem.FEATURE)
-            .collect(Collectors.toList());
+        return itemSprintService.findBySprintIdAndTipo(sprintId, TipoItem.FEATURE);
     }
     
     /**
      * Lista todas as Histórias de uma Feature
      */
     public List<ItemSprintDTO> findHistoriasByFeature(Long featureId) {
-        return itemSprintService.findByItemPaiId(featureId).stream()
-            .filter(item -> item.getTipo() == TipoItem.HISTORIA)
-            .collect(Collectors.toList());
+        return itemSprintService.findByItemPaiIdAndTipo(featureId, TipoItem.HISTORIA);
     }
     
     /**
      * Lista todas as Tarefas de uma Feature
      */
     public List<ItemSprintDTO> findTarefasByFeature(Long featureId) {
-        return itemSprintService.findByItemPaiId(featureId).stream()
-            .filter(item -> item.getTipo() == TipoItem.TAREFA)
-            .collect(Collectors.toList());
+        return itemSprintService.findByItemPaiIdAndTipo(featureId, TipoItem.TAREFA);
     }
     
     /**
      * Lista todas as SUBs de uma Feature
      */
     public List<ItemSprintDTO> findSubsByFeature(Long featureId) {
-        return itemSprintService.findByItemPaiId(featureId).stream()
-            .filter(item -> item.getTipo() == TipoItem.SUB)
-            .collect(Collectors.toList());
+        return itemSprintService.findByItemPaiIdAndTipo(featureId, TipoItem.SUB);
     }
     
     /**
      * Lista todos os itens filhos de uma Feature (Histórias, Tarefas e SUBs)
      */
     public List<ItemSprintDTO> findAllChildrenByFeature(Long featureId) {
-        return itemSprintService.findByItemPaiId(featureId);
+        return itemSprintService.findSubtree(featureId).stream()
+            .filter(no -> no.getProfundidade() > 0)
+            .map(ItemHierarquiaDTO::getItem)
+            .collect(Collectors.toList());
     }
     
     /**
@@ -204,7 +198,7 @@ public class FeatureService {
      * Verifica se uma Feature tem itens filhos vinculados
      */
     public boolean hasChildren(Long featureId) {
-        return !findAllChildrenByFeature(featureId).isEmpty();
+        return itemSprintService.countFilhos(featureId) > 0;
     }
     
     /**
@@ -226,23 +220,7 @@ public class FeatureService {
      * Calcula o total de semanas alocadas em Histórias e Tarefas de uma Feature
      */
     public int calculateTotalChildrenDuration(Long featureId) {
-        List<ItemSprintDTO> historias = findHistoriasByFeature(featureId);
-        List<ItemSprintDTO> tarefas = findTarefasByFeature(featureId);
-        
-        int totalSemanas = 0;
-        
-        for (ItemSprintDTO historia : historias) {
-            if (historia.getDuracaoSemanas() != null) {
-                totalSemanas += historia.getDuracaoSemanas();
-            }
-        }
-        
-        for (ItemSprintDTO tarefa : tarefas) {
-            if (tarefa.getDuracaoSemanas() != null) {
-                totalSemanas += tarefa.getDuracaoSemanas();
-            }
-        }
-        
-        return totalSemanas;
+        // Os filhos diretos de uma Feature são Histórias e Tarefas, medidas em semanas
+        return itemSprintService.getSomaDuracaoFilhosSemanas(featureId);
     }
 }
@@ -0,0 +1,91 @@
+package br.tec.jessebezerra.app.service;
+
+import br.tec.jessebezerra.app.dto.FeriadoDTO;
+import br.tec.jessebezerra.app.entity.Feriado;
+import br.tec.jessebezerra.app.repository.FeriadoRepository;
+import br.tec.jessebezerra.app.repository.RepositoryFactory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Feriados e paradas da empresa. Cada alteração invalida o calendário de dias úteis
+ * ({@link br.tec.jessebezerra.app.util.WorkingDayCalendar}), usado no fim das sprints, na validação
+ * de capacidade e nas colunas da timeline.
+ */
+public class FeriadoService {
+    private final FeriadoRepository repository;
+
+    public FeriadoService() {
+        this.repository = RepositoryFactory.feriados();
+    }
+
+    public FeriadoDTO create(FeriadoDTO dto) {
+        validarFeriado(dto);
+        
+        Feriado saved = repository.save(toEntity(dto));
+        return toDTO(saved);
+    }
+
+    public FeriadoDTO update(FeriadoDTO dto) {
+        if (dto.getId() == null) {
+            throw new IllegalArgumentException("ID do feriado não pode ser nulo");
+        }
+        
+        validarFeriado(dto);
+        
+        Feriado updated = repository.update(toEntity(dto));
+        return toDTO(updated);
+    }
+
+    public void delete(Long id) {
+        repository.delete(id);
+    }
+
+    public Optional<FeriadoDTO> findById(Long id) {
+        return repository.findById(id).map(this::toDTO);
+    }
+
+    public List<FeriadoDTO> findAll() {
+        return repository.findAll().stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    public CompletableFuture<List<FeriadoDTO>> findAllAsync() {
+        return DatabaseExecutor.supply(this::findAll);
+    }
+
+    private void validarFeriado(FeriadoDTO dto) {
+        if (dto.getDescricao() == null || dto.getDescricao().trim().isEmpty()) {
+            throw new IllegalArgumentException("Descrição do feriado é obrigatória");
+        }
+        if (dto.getDataInicio() == null) {
+            throw new IllegalArgumentException("Data do feriado é obrigatória");
+        }
+        if (dto.getDataFim() != null && dto.getDataFim().isBefore(dto.getDataInicio())) {
+            throw new IllegalArgumentException("A data final do feriado não pode ser anterior à data inicial");
+        }
+    }
+
+    private Feriado toEntity(FeriadoDTO dto) {
+        Feriado feriado = new Feriado();
+        feriado.setId(dto.getId());
+        feriado.setDescricao(dto.getDescricao().trim());
+        feriado.setDataInicio(dto.getDataInicio());
+        // Feriado de um único dia quando a data final não é informada
+        feriado.setDataFim(dto.getDataFim() != null ? dto.getDataFim() : dto.getDataInicio());
+        return feriado;
+    }
+
+    private FeriadoDTO toDTO(Feriado feriado) {
+        FeriadoDTO dto = new FeriadoDTO();
+        dto.setId(feriado.getId());
+        dto.setDescricao(feriado.getDescricao());
+        dto.setDataInicio(feriado.getDataInicio());
+        dto.setDataFim(feriado.getDataFim());
+        return dto;
+    }
+}
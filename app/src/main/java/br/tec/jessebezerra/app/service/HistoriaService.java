@@ -4,7 +4,6 @@ import br.tec.jessebezerra.app.dto.ItemSprintDTO;
 import br.tec.jessebezerra.app.entity.TipoItem;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Serviço especializado para gerenciar Histórias e suas SUBs.
@@ -54,36 +53,28 @@ public class HistoriaService {
      * Lista todas as Histórias
      */
     public List<ItemSprintDTO> findAllHistorias() {
-        return itemSprintService.findAll().stream()
-            .filter(item -> item.getTipo() == TipoItem.HISTORIA)
-            .collect(Collectors.toList());
+        return itemSprintService.findByTipo(TipoItem.HISTORIA);
     }
     
     /**
      * Lista Histórias de uma Sprint específica
      */
     public List<ItemSprintDTO> findHistoriasBySprint(Long sprintId) {
-        return itemSprintService.findBySprintId(sprintId).stream()
-            .filter(item -> item.getTipo() == TipoItem.HISTORIA)
-            .collect(Collectors.toList());
+        return itemSprintService.findBySprintIdAndTipo(sprintId, TipoItem.HISTORIA);
     }
     
     /**
      * Lista Histórias de uma Feature específica
      */
     public List<ItemSprintDTO> findHistoriasByFeature(Long featureId) {
-        return itemSprintService.findByItemPaiId(featureId).stream()
-            .filter(item -> item.getTipo() == TipoItem.HISTORIA)
-            .collect(Collectors.toList());
+        return itemSprintService.findByItemPaiIdAndTipo(featureId, TipoItem.HISTORIA);
     }
     
     /**
      * Lista todas as SUBs de uma História
      */
     public List<ItemSprintDTO> findSubsByHistoria(Long historiaId) {
-        return itemSprintService.findByItemPaiId(historiaId).stream()
-            .filter(item -> item.getTipo() == TipoItem.SUB)
-            .collect(Collectors.toList());
+        return itemSprintService.findByItemPaiIdAndTipo(historiaId, TipoItem.SUB);
     }
     
     /**
@@ -179,16 +170,15 @@ public class HistoriaService {
      * Calcula o total de dias alocados em SUBs de uma História
      */
     public int calculateTotalSubsDuration(Long historiaId) {
-        return findSubsByHistoria(historiaId).stream()
-            .mapToInt(sub -> sub.getDuracaoDias() != null ? sub.getDuracaoDias() : 0)
-            .sum();
+        // Os filhos diretos de uma História são SUBs, medidas em dias
+        return itemSprintService.getSomaDuracaoFilhosDias(historiaId);
     }
     
     /**
      * Verifica se uma História tem SUBs vinculadas
      */
     public boolean hasSubTasks(Long historiaId) {
-        return !findSubsByHistoria(historiaId).isEmpty();
+        return itemSprintService.countFilhos(historiaId) > 0;
     }
     
     /**
@@ -1,34 +1,36 @@
 package br.tec.jessebezerra.app.service;
 
+import br.tec.jessebezerra.app.dto.ItemHierarquiaDTO;
 import br.tec.jessebezerra.app.dto.ItemSprintDTO;
 import br.tec.jessebezerra.app.dto.MembroDTO;
+import br.tec.jessebezerra.app.dto.PaginaItemDTO;
 import br.tec.jessebezerra.app.dto.SprintDTO;
 import br.tec.jessebezerra.app.entity.ItemSprint;
-import br.tec.jessebezerra.app.repository.AplicacaoRepository;
+import br.tec.jessebezerra.app.entity.TipoItem;
 import br.tec.jessebezerra.app.repository.ItemSprintRepository;
 import br.tec.jessebezerra.app.repository.MembroRepository;
-import br.tec.jessebezerra.app.repository.ProjetoRepository;
 import br.tec.jessebezerra.app.repository.SprintRepository;
+import br.tec.jessebezerra.app.repository.RepositoryFactory;
+import br.tec.jessebezerra.app.util.WorkingDayCalendar;
 
-import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 public class ItemSprintService {
     private final ItemSprintRepository repository;
     private final SprintRepository sprintRepository;
     private final MembroRepository membroRepository;
-    private final ProjetoRepository projetoRepository;
-    private final AplicacaoRepository aplicacaoRepository;
 
     public ItemSprintService() {
-        this.repository = new ItemSprintRepository();
-        this.sprintRepository = new SprintRepository();
-        this.membroRepository = new MembroRepository();
-        this.projetoRepository = new ProjetoRepository();
-        this.aplicacaoRepository = new AplicacaoRepository();
+        this.repository = RepositoryFactory.itens();
+        this.sprintRepository = RepositoryFactory.sprints();
+        this.membroRepository = RepositoryFactory.membros();
     }
 
     public ItemSprintDTO create(ItemSprintDTO dto) {
@@ -36,7 +38,7 @@ public class ItemSprintService {
         
         ItemSprint item = toEntity(dto);
         ItemSprint saved = repository.save(item);
-        return toDTO(saved);
+        return detalhar(saved);
     }
 
     public ItemSprintDTO update(ItemSprintDTO dto) {
@@ -44,36 +46,199 @@ public class ItemSprintService {
         
         ItemSprint item = toEntity(dto);
         ItemSprint updated = repository.update(item);
-        return toDTO(updated);
+        return detalhar(updated);
     }
 
     public void delete(Long id) {
         repository.delete(id);
     }
 
+    /**
+     * Cria todos os itens em uma única transação. O lote inteiro é validado antes
+     * de qualquer escrita, incluindo a alocação acumulada de cada membro.
+     */
+    public List<ItemSprintDTO> createAll(List<ItemSprintDTO> dtos) {
+        validarItens(dtos);
+        
+        List<ItemSprint> itens = dtos.stream()
+                .map(this::toEntity)
+                .collect(Collectors.toList());
+        return detalhar(repository.saveAll(itens));
+    }
+
+    /**
+     * Atualiza todos os itens em uma única transação, após validar o lote inteiro.
+     */
+    public List<ItemSprintDTO> updateAll(List<ItemSprintDTO> dtos) {
+        for (ItemSprintDTO dto : dtos) {
+            if (dto.getId() == null) {
+                throw new IllegalArgumentException("O id é obrigatório para atualizar o item.");
+            }
+        }
+        validarItens(dtos);
+        
+        List<ItemSprint> itens = dtos.stream()
+                .map(this::toEntity)
+                .collect(Collectors.toList());
+        return detalhar(repository.updateAll(itens));
+    }
+
+    /**
+     * Exclui todos os itens em uma única transação.
+     */
+    public void deleteAll(List<ItemSprintDTO> dtos) {
+        for (ItemSprintDTO dto : dtos) {
+            if (dto.getId() == null) {
+                throw new IllegalArgumentException("O id é obrigatório para excluir o item.");
+            }
+        }
+        
+        repository.deleteAll(dtos.stream()
+                .map(this::toEntity)
+                .collect(Collectors.toList()));
+    }
+
     public Optional<ItemSprintDTO> findById(Long id) {
-        return repository.findById(id).map(this::toDTO);
+        return repository.findDetalhadoById(id);
+    }
+
+    /**
+     * Descrição do item; as listagens não a trazem, então é carregada ao abrir o item para edição
+     */
+    public Optional<String> findDescricao(Long id) {
+        return repository.findDescricao(id);
     }
 
     public List<ItemSprintDTO> findAll() {
-        return repository.findAll().stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return repository.findAllDetalhado();
     }
 
     public List<ItemSprintDTO> findBySprintId(Long sprintId) {
-        return repository.findBySprintId(sprintId).stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return repository.findDetalhadoBySprintId(sprintId);
     }
 
     public List<ItemSprintDTO> findByItemPaiId(Long itemPaiId) {
-        return repository.findByItemPaiId(itemPaiId).stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return repository.findDetalhadoByItemPaiId(itemPaiId);
+    }
+
+    public List<ItemSprintDTO> findByTipo(TipoItem tipo) {
+        return repository.findDetalhadoByTipo(tipo);
+    }
+
+    public List<ItemSprintDTO> findBySprintIdAndTipo(Long sprintId, TipoItem tipo) {
+        return repository.findDetalhadoBySprintIdAndTipo(sprintId, tipo);
+    }
+
+    public List<ItemSprintDTO> findByItemPaiIdAndTipo(Long itemPaiId, TipoItem tipo) {
+        return repository.findDetalhadoByItemPaiIdAndTipo(itemPaiId, tipo);
+    }
+
+    /**
+     * Próxima página de itens após o cursor, na ordenação pedida (paginação por chave). Tipo nulo inclui todos os tipos.
+     */
+    public List<ItemSprintDTO> findPageAfter(TipoItem tipo, PaginaItemDTO pagina) {
+        return repository.findDetalhadoPageAfter(tipo, pagina);
+    }
+
+    /**
+     * Página de itens anterior ao cursor, na ordenação pedida. Tipo nulo inclui todos os tipos.
+     */
+    public List<ItemSprintDTO> findPageBefore(TipoItem tipo, PaginaItemDTO pagina) {
+        return repository.findDetalhadoPageBefore(tipo, pagina);
+    }
+
+    /**
+     * Soma das durações em semanas dos filhos diretos do item
+     */
+    public int getSomaDuracaoFilhosSemanas(Long itemPaiId) {
+        return repository.getSomaDuracaoFilhosSemanas(itemPaiId);
+    }
+
+    /**
+     * Soma das durações em dias dos filhos diretos do item
+     */
+    public int getSomaDuracaoFilhosDias(Long itemPaiId) {
+        return repository.getSomaDuracaoFilhosDias(itemPaiId);
+    }
+
+    /**
+     * Quantidade de filhos diretos do item
+     */
+    public int countFilhos(Long itemPaiId) {
+        return repository.getQuantidadeFilhos(itemPaiId);
+    }
+
+    /**
+     * Retorna o item e todos os seus descendentes, com a profundidade de cada um, em pré-ordem.
+     */
+    public List<ItemHierarquiaDTO> findSubtree(Long rootId) {
+        return repository.findSubtree(rootId);
+    }
+
+    /**
+     * Retorna todas as árvores de itens da sprint, com a profundidade de cada item, em pré-ordem.
+     */
+    public List<ItemHierarquiaDTO> findSubtrees(Long sprintId) {
+        return repository.findSubtrees(sprintId);
+    }
+
+    // Variantes assíncronas: executam no DatabaseExecutor e completam na thread do JavaFX
+
+    public CompletableFuture<ItemSprintDTO> createAsync(ItemSprintDTO dto) {
+        return DatabaseExecutor.supply(() -> create(dto));
+    }
+
+    public CompletableFuture<ItemSprintDTO> updateAsync(ItemSprintDTO dto) {
+        return DatabaseExecutor.supply(() -> update(dto));
+    }
+
+    public CompletableFuture<Void> deleteAsync(Long id) {
+        return DatabaseExecutor.run(() -> delete(id));
+    }
+
+    public CompletableFuture<Optional<ItemSprintDTO>> findByIdAsync(Long id) {
+        return DatabaseExecutor.supply(() -> findById(id));
+    }
+
+    public CompletableFuture<Optional<String>> findDescricaoAsync(Long id) {
+        return DatabaseExecutor.supply(() -> findDescricao(id));
+    }
+
+    public CompletableFuture<List<ItemSprintDTO>> findBySprintIdAsync(Long sprintId) {
+        return DatabaseExecutor.supply(() -> findBySprintId(sprintId));
+    }
+
+    public CompletableFuture<List<ItemSprintDTO>> findByTipoAsync(TipoItem tipo) {
+        return DatabaseExecutor.supply(() -> findByTipo(tipo));
+    }
+
+    public CompletableFuture<List<ItemSprintDTO>> findBySprintIdAndTipoAsync(Long sprintId, TipoItem tipo) {
+        return DatabaseExecutor.supply(() -> findBySprintIdAndTipo(sprintId, tipo));
+    }
+
+    public CompletableFuture<List<ItemSprintDTO>> findByItemPaiIdAndTipoAsync(Long itemPaiId, TipoItem tipo) {
+        return DatabaseExecutor.supply(() -> findByItemPaiIdAndTipo(itemPaiId, tipo));
     }
 
     private void validarItem(ItemSprintDTO dto) {
+        validarCamposObrigatorios(dto);
+        validarRegrasNegocio(dto);
+    }
+
+    private void validarItens(List<ItemSprintDTO> dtos) {
+        for (ItemSprintDTO dto : dtos) {
+            validarCamposObrigatorios(dto);
+            validarDuracaoSprint(dto);
+            if (dto.getItemPaiId() != null) {
+                validarHierarquiaTipos(dto);
+            }
+        }
+        
+        // A alocação é validada sobre o lote inteiro, somando os dias de todos os SUBs do mesmo membro
+        validarAlocacaoMembroSprint(dtos);
+    }
+
+    private void validarCamposObrigatorios(ItemSprintDTO dto) {
         if (dto.getTitulo() == null || dto.getTitulo().trim().isEmpty()) {
             throw new IllegalArgumentException("O título é obrigatório.");
         }
@@ -83,8 +248,6 @@ public class ItemSprintService {
         if (dto.getStatus() == null) {
             throw new IllegalArgumentException("O status é obrigatório.");
         }
-        
-        validarRegrasNegocio(dto);
     }
 
     private void validarRegrasNegocio(ItemSprintDTO dto) {
@@ -107,7 +270,7 @@ public class ItemSprintService {
             br.tec.jessebezerra.app.entity.Sprint sprint = sprintOpt.get();
             
             if (sprint.getDataInicio() != null && sprint.getDataFim() != null) {
-                long diasUteis = contarDiasUteis(sprint.getDataInicio(), sprint.getDataFim());
+                long diasUteis = WorkingDayCalendar.countWorkingDays(sprint.getDataInicio(), sprint.getDataFim());
                 
                 // Validar baseado no tipo de duração
                 if (dto.getDuracaoSemanas() != null) {
@@ -220,46 +383,75 @@ public class ItemSprintService {
     }
     
     private void validarAlocacaoMembroSprint(ItemSprintDTO dto) {
-        // Validar apenas para SUBs com membro atribuído
-        if (dto.getTipo() != br.tec.jessebezerra.app.entity.TipoItem.SUB || dto.getMembroId() == null) {
-            return;
+        validarAlocacaoMembroSprint(List.of(dto));
+    }
+
+    private void validarAlocacaoMembroSprint(List<ItemSprintDTO> dtos) {
+        // Agrupar os SUBs com membro atribuído por sprint e membro
+        Map<Long, Map<Long, List<ItemSprintDTO>>> subsPorSprintEMembro = new LinkedHashMap<>();
+        for (ItemSprintDTO dto : dtos) {
+            if (dto.getTipo() != br.tec.jessebezerra.app.entity.TipoItem.SUB || dto.getMembroId() == null) {
+                continue;
+            }
+            subsPorSprintEMembro
+                    .computeIfAbsent(dto.getSprintId(), id -> new LinkedHashMap<>())
+                    .computeIfAbsent(dto.getMembroId(), id -> new ArrayList<>())
+                    .add(dto);
         }
         
-        // Calcular dias já alocados para o membro na sprint
-        TimelineService timelineService = new TimelineService();
-        int diasAlocados = timelineService.calculateMemberAllocatedDays(dto.getSprintId(), dto.getMembroId());
+        for (Map.Entry<Long, Map<Long, List<ItemSprintDTO>>> porSprint : subsPorSprintEMembro.entrySet()) {
+            Long sprintId = porSprint.getKey();
+            Map<Long, List<ItemSprintDTO>> subsPorMembro = porSprint.getValue();
+            
+            // Calcular dias já alocados na sprint: um membro só ou todos de uma vez
+            Map<Long, Integer> diasAlocadosPorMembro;
+            if (subsPorMembro.size() == 1) {
+                Long membroId = subsPorMembro.keySet().iterator().next();
+                diasAlocadosPorMembro = Map.of(membroId, repository.getDiasAlocadosMembro(sprintId, membroId));
+            } else {
+                diasAlocadosPorMembro = repository.getDiasAlocadosPorMembro(sprintId);
+            }
+            
+            for (Map.Entry<Long, List<ItemSprintDTO>> porMembro : subsPorMembro.entrySet()) {
+                int diasAlocados = diasAlocadosPorMembro.getOrDefault(porMembro.getKey(), 0);
+                validarAlocacaoMembroSprint(sprintId, porMembro.getKey(), diasAlocados, porMembro.getValue());
+            }
+        }
+    }
+    
+    private void validarAlocacaoMembroSprint(Long sprintId, Long membroId, int diasAlocados, List<ItemSprintDTO> subs) {
+        int novosDias = 0;
         
-        // Subtrair dias do item atual se for uma atualização
-        if (dto.getId() != null) {
-            Optional<ItemSprint> itemAtualOpt = repository.findById(dto.getId());
-            if (itemAtualOpt.isPresent()) {
-                ItemSprint itemAtual = itemAtualOpt.get();
-                if (itemAtual.getDuracaoDias() != null) {
-                    diasAlocados -= itemAtual.getDuracaoDias();
+        for (ItemSprintDTO dto : subs) {
+            // Subtrair dias do item atual se for uma atualização
+            if (dto.getId() != null) {
+                Optional<ItemSprint> itemAtualOpt = repository.findById(dto.getId());
+                if (itemAtualOpt.isPresent()) {
+                    ItemSprint itemAtual = itemAtualOpt.get();
+                    if (itemAtual.getDuracaoDias() != null) {
+                        diasAlocados -= itemAtual.getDuracaoDias();
+                    }
                 }
             }
+            
+            // Adicionar dias do novo item
+            novosDias += dto.getDuracaoDias() != null ? dto.getDuracaoDias() : 0;
         }
         
-        // Adicionar dias do novo item
-        int novosDias = dto.getDuracaoDias() != null ? dto.getDuracaoDias() : 0;
         int totalDias = diasAlocados + novosDias;
         
         // Obter total de dias úteis da sprint
-        Optional<br.tec.jessebezerra.app.entity.Sprint> sprintOpt = sprintRepository.findById(dto.getSprintId());
+        Optional<br.tec.jessebezerra.app.entity.Sprint> sprintOpt = sprintRepository.findById(sprintId);
         if (sprintOpt.isPresent()) {
             br.tec.jessebezerra.app.entity.Sprint sprint = sprintOpt.get();
             if (sprint.getDataInicio() != null && sprint.getDataFim() != null) {
-                long diasUteisSprint = contarDiasUteis(sprint.getDataInicio(), sprint.getDataFim());
+                long diasUteisSprint = WorkingDayCalendar.countWorkingDays(sprint.getDataInicio(), sprint.getDataFim());
                 
                 if (totalDias > diasUteisSprint) {
                     // Buscar nome do membro
-                    String nomeMembro = "Membro";
-                    if (dto.getMembroId() != null) {
-                        Optional<br.tec.jessebezerra.app.entity.Membro> membroOpt = membroRepository.findById(dto.getMembroId());
-                        if (membroOpt.isPresent()) {
-                            nomeMembro = membroOpt.get().getNome();
-                        }
-                    }
+                    String nomeMembro = membroRepository.findById(membroId)
+                            .map(br.tec.jessebezerra.app.entity.Membro::getNome)
+                            .orElse("Membro");
                     
                     throw new IllegalArgumentException(
                         String.format("O membro '%s' já possui %d dias alocados. " +
@@ -271,20 +463,6 @@ public class ItemSprintService {
         }
     }
 
-    private long contarDiasUteis(LocalDate inicio, LocalDate fim) {
-        long diasUteis = 0;
-        LocalDate data = inicio;
-        
-        while (!data.isAfter(fim)) {
-            if (data.getDayOfWeek().getValue() <= 5) { // 1=Monday, 5=Friday
-                diasUteis++;
-            }
-            data = data.plusDays(1);
-        }
-        
-        return diasUteis;
-    }
-
     private ItemSprint toEntity(ItemSprintDTO dto) {
         ItemSprint item = new ItemSprint();
         item.setId(dto.getId());
@@ -302,47 +480,17 @@ public class ItemSprintService {
         return item;
     }
 
-    private ItemSprintDTO toDTO(ItemSprint item) {
-        ItemSprintDTO dto = new ItemSprintDTO();
-        dto.setId(item.getId());
-        dto.setTipo(item.getTipo());
-        dto.setTitulo(item.getTitulo());
-        dto.setDescricao(item.getDescricao());
-        dto.setDuracaoSemanas(item.getDuracaoSemanas());
-        dto.setDuracaoDias(item.getDuracaoDias());
-        dto.setStatus(item.getStatus());
-        dto.setSprintId(item.getSprintId());
-        dto.setMembroId(item.getMembroId());
-        dto.setItemPaiId(item.getItemPaiId());
-        dto.setProjetoId(item.getProjetoId());
-        dto.setAplicacaoId(item.getAplicacaoId());
-        
-        // Buscar nomes para exibição
-        if (item.getSprintId() != null) {
-            sprintRepository.findById(item.getSprintId())
-                .ifPresent(sprint -> dto.setSprintNome(sprint.getNome()));
-        }
-        
-        if (item.getMembroId() != null) {
-            membroRepository.findById(item.getMembroId())
-                .ifPresent(membro -> dto.setMembroNome(membro.getNome()));
-        }
-        
-        if (item.getItemPaiId() != null) {
-            repository.findById(item.getItemPaiId())
-                .ifPresent(itemPai -> dto.setItemPaiTitulo(itemPai.getTitulo()));
-        }
-        
-        if (item.getProjetoId() != null) {
-            projetoRepository.findById(item.getProjetoId())
-                .ifPresent(projeto -> dto.setProjetoNome(projeto.getNome()));
-        }
-        
-        if (item.getAplicacaoId() != null) {
-            aplicacaoRepository.findById(item.getAplicacaoId())
-                .ifPresent(aplicacao -> dto.setAplicacaoNome(aplicacao.getNome()));
-        }
-        
-        return dto;
+    /**
+     * Relê o item salvo pela consulta detalhada, já com os nomes para exibição.
+     */
+    private ItemSprintDTO detalhar(ItemSprint item) {
+        return repository.findDetalhadoById(item.getId())
+                .orElseThrow(() -> new IllegalStateException("Item da sprint não encontrado após salvar: " + item.getId()));
+    }
+
+    private List<ItemSprintDTO> detalhar(List<ItemSprint> itens) {
+        return repository.findDetalhadoByIds(itens.stream()
+                .map(ItemSprint::getId)
+                .collect(Collectors.toList()));
     }
 }
@@ -3,16 +3,18 @@ package br.tec.jessebezerra.app.service;
 import br.tec.jessebezerra.app.dto.MembroDTO;
 import br.tec.jessebezerra.app.entity.Membro;
 import br.tec.jessebezerra.app.repository.MembroRepository;
+import br.tec.jessebezerra.app.repository.RepositoryFactory;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 public class MembroService {
     private final MembroRepository repository;
 
     public MembroService() {
-        this.repository = new MembroRepository();
+        this.repository = RepositoryFactory.membros();
     }
 
     public MembroDTO create(MembroDTO dto) {
@@ -47,6 +49,22 @@ public class MembroService {
                 .collect(Collectors.toList());
     }
 
+    public CompletableFuture<MembroDTO> createAsync(MembroDTO dto) {
+        return DatabaseExecutor.supply(() -> create(dto));
+    }
+
+    public CompletableFuture<MembroDTO> updateAsync(MembroDTO dto) {
+        return DatabaseExecutor.supply(() -> update(dto));
+    }
+
+    public CompletableFuture<Void> deleteAsync(Long id) {
+        return DatabaseExecutor.run(() -> delete(id));
+    }
+
+    public CompletableFuture<List<MembroDTO>> findAllAsync() {
+        return DatabaseExecutor.supply(this::findAll);
+    }
+
     private Membro toEntity(MembroDTO dto) {
         Membro membro = new Membro();
         membro.setId(dto.getId());
@@ -3,16 +3,18 @@ package br.tec.jessebezerra.app.service;
 import br.tec.jessebezerra.app.dto.ProjetoDTO;
 import br.tec.jessebezerra.app.entity.Projeto;
 import br.tec.jessebezerra.app.repository.ProjetoRepository;
+import br.tec.jessebezerra.app.repository.RepositoryFactory;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 public class ProjetoService {
     private final ProjetoRepository repository;
 
     public ProjetoService() {
-        this.repository = new ProjetoRepository();
+        this.repository = RepositoryFactory.projetos();
     }
 
     public ProjetoDTO create(ProjetoDTO dto) {
@@ -56,6 +58,10 @@ public class ProjetoService {
                 .collect(Collectors.toList());
     }
 
+    public CompletableFuture<List<ProjetoDTO>> findAllAsync() {
+        return DatabaseExecutor.supply(this::findAll);
+    }
+
     private void validarProjeto(ProjetoDTO dto) {
         if (dto.getNome() == null || dto.getNome().trim().isEmpty()) {
             throw new IllegalArgumentException("Nome do projeto é obrigatório");
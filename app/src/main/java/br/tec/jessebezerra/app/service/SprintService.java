@@ -3,25 +3,31 @@ package br.tec.jessebezerra.app.service;
 import br.tec.jessebezerra.app.dto.SprintDTO;
 import br.tec.jessebezerra.app.entity.Sprint;
 import br.tec.jessebezerra.app.repository.SprintRepository;
+import br.tec.jessebezerra.app.repository.RepositoryFactory;
 import br.tec.jessebezerra.app.util.DateUtils;
 
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 public class SprintService {
+    // Mesmo limite do campo de duração da tela de sprints
+    private static final int DURACAO_MAXIMA_SEMANAS = 52;
+    
     private final SprintRepository repository;
 
     public SprintService() {
-        this.repository = new SprintRepository();
+        this.repository = RepositoryFactory.sprints();
     }
 
     public SprintDTO create(SprintDTO dto) {
         Sprint sprint = toEntity(dto);
+        validarPeriodo(sprint);
         
         // Validar sobreposição de períodos
-        if (sprint.getDataFim() != null && 
-            repository.existsOverlappingSprint(sprint.getDataInicio(), sprint.getDataFim(), null)) {
+        if (repository.existsOverlappingSprint(sprint.getDataInicio(), sprint.getDataFim(), null)) {
             throw new IllegalArgumentException("Já existe uma sprint cadastrada neste período. " +
                     "Não é possível cadastrar sprints com períodos sobrepostos.");
         }
@@ -32,10 +38,10 @@ public class SprintService {
 
     public SprintDTO update(SprintDTO dto) {
         Sprint sprint = toEntity(dto);
+        validarPeriodo(sprint);
         
         // Validar sobreposição de períodos (excluindo a própria sprint)
-        if (sprint.getDataFim() != null && 
-            repository.existsOverlappingSprint(sprint.getDataInicio(), sprint.getDataFim(), sprint.getId())) {
+        if (repository.existsOverlappingSprint(sprint.getDataInicio(), sprint.getDataFim(), sprint.getId())) {
             throw new IllegalArgumentException("Já existe uma sprint cadastrada neste período. " +
                     "Não é possível cadastrar sprints com períodos sobrepostos.");
         }
@@ -58,13 +64,49 @@ public class SprintService {
                 .collect(Collectors.toList());
     }
 
+    public CompletableFuture<SprintDTO> createAsync(SprintDTO dto) {
+        return DatabaseExecutor.supply(() -> create(dto));
+    }
+
+    public CompletableFuture<SprintDTO> updateAsync(SprintDTO dto) {
+        return DatabaseExecutor.supply(() -> update(dto));
+    }
+
+    public CompletableFuture<Void> deleteAsync(Long id) {
+        return DatabaseExecutor.run(() -> delete(id));
+    }
+
+    public CompletableFuture<List<SprintDTO>> findAllAsync() {
+        return DatabaseExecutor.supply(this::findAll);
+    }
+
+    /**
+     * Exige início e duração válidos e um período dentro de {@link SprintRepository#PERIODO_MAXIMO_DIAS},
+     * limite do qual depende a busca por sobreposição.
+     */
+    private void validarPeriodo(Sprint sprint) {
+        if (sprint.getDataInicio() == null) {
+            throw new IllegalArgumentException("A data de início da sprint é obrigatória.");
+        }
+        if (sprint.getDuracaoSemanas() == null || sprint.getDuracaoSemanas() < 1
+                || sprint.getDuracaoSemanas() > DURACAO_MAXIMA_SEMANAS) {
+            throw new IllegalArgumentException(
+                    "A duração da sprint deve ser de 1 a " + DURACAO_MAXIMA_SEMANAS + " semanas.");
+        }
+        if (ChronoUnit.DAYS.between(sprint.getDataInicio(), sprint.getDataFim()) > SprintRepository.PERIODO_MAXIMO_DIAS) {
+            throw new IllegalArgumentException("Com os feriados, o período da sprint passaria de "
+                    + SprintRepository.PERIODO_MAXIMO_DIAS + " dias corridos. Reduza a duração.");
+        }
+    }
+
     private Sprint toEntity(SprintDTO dto) {
         Sprint sprint = new Sprint();
         sprint.setId(dto.getId());
         sprint.setNome(dto.getNome());
         sprint.setDataInicio(dto.getDataInicio());
         sprint.setDuracaoSemanas(dto.getDuracaoSemanas());
-        sprint.setDataFim(DateUtils.calcularDataFim(dto.getDataInicio(), dto.getDuracaoSemanas()));
+        sprint.setDataFim(dto.getDuracaoSemanas() != null
+                ? DateUtils.calcularDataFim(dto.getDataInicio(), dto.getDuracaoSemanas()) : null);
         return sprint;
     }
 
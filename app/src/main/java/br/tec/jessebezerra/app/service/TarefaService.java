@@ -4,7 +4,6 @@ import br.tec.jessebezerra.app.dto.ItemSprintDTO;
 import br.tec.jessebezerra.app.entity.TipoItem;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Serviço especializado para gerenciar Tarefas e suas SUBs.
@@ -54,36 +53,28 @@ public class TarefaService {
      * Lista todas as Tarefas
      */
     public List<ItemSprintDTO> findAllTarefas() {
-        return itemSprintService.findAll().stream()
-            .filter(item -> item.getTipo() == TipoItem.TAREFA)
-            .collect(Collectors.toList());
+        return itemSprintService.findByTipo(TipoItem.TAREFA);
     }
     
     /**
      * Lista Tarefas de uma Sprint específica
      */
     public List<ItemSprintDTO> findTarefasBySprint(Long sprintId) {
-        return itemSprintService.findBySprintId(sprintId).stream()
-            .filter(item -> item.getTipo() == TipoItem.TAREFA)
-            .collect(Collectors.toList());
+        return itemSprintService.findBySprintIdAndTipo(sprintId, TipoItem.TAREFA);
     }
     
     /**
      * Lista Tarefas de uma Feature específica
      */
     public List<ItemSprintDTO> findTarefasByFeature(Long featureId) {
-        return itemSprintService.findByItemPaiId(featureId).stream()
-            .filter(item -> item.getTipo() == TipoItem.TAREFA)
-            .collect(Collectors.toList());
+        return itemSprintService.findByItemPaiIdAndTipo(featureId, TipoItem.TAREFA);
     }
     
     /**
      * Lista todas as SUBs de uma Tarefa
      */
     public List<ItemSprintDTO> findSubsByTarefa(Long tarefaId) {
-        return itemSprintService.findByItemPaiId(tarefaId).stream()
-            .filter(item -> item.getTipo() == TipoItem.SUB)
-            .collect(Collectors.toList());
+        return itemSprintService.findByItemPaiIdAndTipo(tarefaId, TipoItem.SUB);
     }
     
     /**
@@ -179,16 +170,15 @@ public class TarefaService {
      * Calcula o total de dias alocados em SUBs de uma Tarefa
      */
     public int calculateTotalSubsDuration(Long tarefaId) {
-        return findSubsByTarefa(tarefaId).stream()
-            .mapToInt(sub -> sub.getDuracaoDias() != null ? sub.getDuracaoDias() : 0)
-            .sum();
+        // Os filhos diretos de uma Tarefa são SUBs, medidas em dias
+        return itemSprintService.getSomaDuracaoFilhosDias(tarefaId);
     }
     
     /**
      * Verifica se uma Tarefa tem SUBs vinculadas
      */
     public boolean hasSubTasks(Long tarefaId) {
-        return !findSubsByTarefa(tarefaId).isEmpty();
+        return itemSprintService.countFilhos(tarefaId) > 0;
     }
     
     /**
@@ -4,6 +4,7 @@ import br.tec.jessebezerra.app.dto.ItemSprintDTO;
 import br.tec.jessebezerra.app.dto.MembroDTO;
 import br.tec.jessebezerra.app.dto.SprintDTO;
 import br.tec.jessebezerra.app.entity.TipoItem;
+import br.tec.jessebezerra.app.util.WorkingDayCalendar;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.xssf.usermodel.XSSFCellStyle;
@@ -13,19 +14,12 @@ import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class TimelineExcelService {
     
-    private static final String[] COLORS = {
-        "#FFB6C1", "#FFD700", "#98FB98", "#87CEEB", "#DDA0DD",
-        "#F0E68C", "#E0BBE4", "#FFDAB9", "#B0E0E6", "#FFE4B5"
-    };
-    
     private final TimelineService timelineService;
     
     public TimelineExcelService() {
@@ -35,25 +29,28 @@ public class TimelineExcelService {
     public File exportToExcel(SprintDTO sprint, boolean showFeatures, boolean showHistorias, 
                               boolean showTarefas, boolean showProjeto, boolean showAplicacao,
                               MembroDTO membroFilter) throws IOException {
+        TimelineModel.Filter filter = new TimelineModel.Filter(showFeatures, showHistorias, showTarefas,
+                membroFilter != null ? membroFilter.getId() : null);
+        return exportToExcel(sprint, timelineService.buildTimelineModel(sprint, filter), showProjeto, showAplicacao);
+    }
+    
+    /**
+     * Exporta um modelo já agendado, com as mesmas linhas e períodos exibidos na tela
+     */
+    public File exportToExcel(SprintDTO sprint, TimelineModel model,
+                              boolean showProjeto, boolean showAplicacao) throws IOException {
         
         Workbook workbook = new XSSFWorkbook();
         Sheet sheet = workbook.createSheet("Timeline - " + sprint.getNome());
         
-        // Obter dias úteis da sprint
-        List<LocalDate> workingDays = getWorkingDays(sprint.getDataInicio(), sprint.getDataFim());
-        
-        // Obter itens da timeline
-        List<TimelineService.TimelineItem> timelineItems = timelineService.buildHierarchicalTimeline(sprint.getId());
-        
-        // Aplicar filtros
-        timelineItems = applyFilters(timelineItems, showFeatures, showHistorias, showTarefas, membroFilter);
+        List<LocalDate> workingDays = model.getWorkingDays();
         
         // Criar cabeçalho
         int currentRow = 0;
         currentRow = createHeader(workbook, sheet, sprint, workingDays, showProjeto, showAplicacao);
         
         // Criar linhas de itens
-        createItemRows(workbook, sheet, timelineItems, workingDays, currentRow, showProjeto, showAplicacao);
+        createItemRows(workbook, sheet, model, currentRow, showProjeto, showAplicacao);
         
         // Ajustar larguras das colunas
         adjustColumnWidths(sheet, workingDays.size(), showProjeto, showAplicacao);
@@ -68,54 +65,6 @@ public class TimelineExcelService {
         return tempFile;
     }
     
-    private List<LocalDate> getWorkingDays(LocalDate startDate, LocalDate endDate) {
-        List<LocalDate> workingDays = new ArrayList<>();
-        LocalDate current = startDate;
-        
-        while (!current.isAfter(endDate)) {
-            if (current.getDayOfWeek() != DayOfWeek.SATURDAY && 
-                current.getDayOfWeek() != DayOfWeek.SUNDAY) {
-                workingDays.add(current);
-            }
-            current = current.plusDays(1);
-        }
-        
-        return workingDays;
-    }
-    
-    private List<TimelineService.TimelineItem> applyFilters(
-            List<TimelineService.TimelineItem> items,
-            boolean showFeatures,
-            boolean showHistorias,
-            boolean showTarefas,
-            MembroDTO membroFilter) {
-        
-        return items.stream().filter(timelineItem -> {
-            ItemSprintDTO item = timelineItem.getItem();
-            
-            boolean typeMatch = false;
-            if (item.getTipo() == TipoItem.FEATURE) {
-                typeMatch = showFeatures;
-            } else if (item.getTipo() == TipoItem.HISTORIA) {
-                typeMatch = showHistorias;
-            } else if (item.getTipo() == TipoItem.TAREFA) {
-                typeMatch = showTarefas;
-            } else if (item.getTipo() == TipoItem.SUB) {
-                typeMatch = showHistorias || showTarefas;
-            }
-            
-            if (!typeMatch) {
-                return false;
-            }
-            
-            if (membroFilter != null && item.getMembroId() != null) {
-                return item.getMembroId().equals(membroFilter.getId());
-            }
-            
-            return true;
-        }).collect(Collectors.toList());
-    }
-    
     private int createHeader(Workbook workbook, Sheet sheet, SprintDTO sprint, 
                             List<LocalDate> workingDays, boolean showProjeto, boolean showAplicacao) {
         
@@ -178,7 +127,7 @@ public class TimelineExcelService {
             LocalDate day = workingDays.get(i);
             daysInWeek++;
             
-            boolean isEndOfWeek = day.getDayOfWeek() == DayOfWeek.FRIDAY || i == workingDays.size() - 1;
+            boolean isEndOfWeek = i == workingDays.size() - 1 || !WorkingDayCalendar.isSameWeek(day, workingDays.get(i + 1));
             
             if (isEndOfWeek) {
                 String weekColor = weekColors[(weekNumber - 1) % weekColors.length];
@@ -236,7 +185,7 @@ public class TimelineExcelService {
             LocalDate day = workingDays.get(i);
             daysInWeek++;
             
-            boolean isEndOfWeek = day.getDayOfWeek() == DayOfWeek.FRIDAY || i == workingDays.size() - 1;
+            boolean isEndOfWeek = i == workingDays.size() - 1 || !WorkingDayCalendar.isSameWeek(day, workingDays.get(i + 1));
             
             if (isEndOfWeek) {
                 String weekColor = weekColors[(weekNumber - 1) % weekColors.length];
@@ -260,53 +209,16 @@ public class TimelineExcelService {
         return 3;
     }
     
-    private void createItemRows(Workbook workbook, Sheet sheet, 
-                                List<TimelineService.TimelineItem> timelineItems,
-                                List<LocalDate> workingDays, int startRow,
+    private void createItemRows(Workbook workbook, Sheet sheet, TimelineModel model, int startRow,
                                 boolean showProjeto, boolean showAplicacao) {
         
+        List<LocalDate> workingDays = model.getWorkingDays();
         int currentRow = startRow;
-        int colorIndex = 0;
-        String currentFeatureColor = COLORS[0];
-        
-        // Rastrear alocação de dias por membro (para SUBs)
-        Map<Long, Integer> memberAllocations = new HashMap<>();
         
-        for (TimelineService.TimelineItem timelineItem : timelineItems) {
-            ItemSprintDTO item = timelineItem.getItem();
-            int indentLevel = timelineItem.getIndentLevel();
-            
-            // Calcular startDay e duration baseado no tipo de item
-            int startDay = 0;
-            int duration = timelineService.calculateDurationInDays(item);
-            
-            if (item.getTipo() == br.tec.jessebezerra.app.entity.TipoItem.SUB) {
-                // SUBs: alocação sequencial por membro
-                if (item.getMembroId() != null) {
-                    startDay = memberAllocations.getOrDefault(item.getMembroId(), 0);
-                    memberAllocations.put(item.getMembroId(), startDay + duration);
-                }
-            } else if (item.getTipo() == br.tec.jessebezerra.app.entity.TipoItem.TAREFA) {
-                // Tarefas: usar startDay do TimelineItem
-                startDay = timelineItem.getStartDay();
-            } else if (item.getTipo() == br.tec.jessebezerra.app.entity.TipoItem.HISTORIA) {
-                // Histórias: usar startDay do TimelineItem
-                startDay = timelineItem.getStartDay();
-            } else if (item.getTipo() == br.tec.jessebezerra.app.entity.TipoItem.FEATURE) {
-                // Features: começam no dia 0
-                startDay = 0;
-            }
-            
-            String rowColor;
-            if (indentLevel == 0) {
-                currentFeatureColor = COLORS[colorIndex % COLORS.length];
-                colorIndex++;
-                rowColor = currentFeatureColor;
-            } else if (indentLevel == 1) {
-                rowColor = adjustBrightness(currentFeatureColor, 0.9);
-            } else {
-                rowColor = adjustBrightness(currentFeatureColor, 0.8);
-            }
+        for (TimelineModel.Row modelRow : model.getRows()) {
+            ItemSprintDTO item = modelRow.getItem();
+            int indentLevel = modelRow.getIndentLevel();
+            String rowColor = modelRow.getColor();
             
             Row row = sheet.createRow(currentRow);
             row.setHeightInPoints(25);
@@ -346,14 +258,12 @@ public class TimelineExcelService {
             }
             
             // DIAS
-            int daysAllocated = 0;
             for (int i = 0; i < workingDays.size(); i++) {
                 Cell dayCell = row.createCell(currentCol + i);
                 
-                if (i >= startDay && daysAllocated < duration) {
+                if (modelRow.occupies(i)) {
                     dayCell.setCellValue(workingDays.get(i).getDayOfMonth());
                     dayCell.setCellStyle(createItemCellStyle(workbook, rowColor, true, 10));
-                    daysAllocated++;
                 } else {
                     dayCell.setCellValue("");
                     dayCell.setCellStyle(createItemCellStyle(workbook, "#FFFFFF", false, 10));
@@ -0,0 +1,74 @@
+package br.tec.jessebezerra.app.service;
+
+import br.tec.jessebezerra.app.dto.ItemSprintDTO;
+import br.tec.jessebezerra.app.entity.TipoItem;
+import br.tec.jessebezerra.app.service.TimelineService.TimelineItem;
+import br.tec.jessebezerra.app.util.LongHashMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Monta a lista hierárquica da timeline (Feature → História/Tarefa → SUB, seguida dos itens órfãos)
+ * em tempo O(n log n): uma ordenação por id e uma única passagem que agrupa os itens pelo id do pai.
+ * A emissão em profundidade apenas percorre os grupos, que já estão em ordem de id.
+ */
+class TimelineHierarchyBuilder {
+
+    private static final List<ItemSprintDTO> SEM_FILHOS = Collections.emptyList();
+
+    private final LongHashMap<List<ItemSprintDTO>> filhosPorPai;
+    private final List<ItemSprintDTO> features = new ArrayList<>();
+    private final List<ItemSprintDTO> orfaos = new ArrayList<>();
+
+    TimelineHierarchyBuilder(List<ItemSprintDTO> itens) {
+        List<ItemSprintDTO> ordenados = new ArrayList<>(itens);
+        ordenados.sort(Comparator.comparing(ItemSprintDTO::getId));
+        
+        filhosPorPai = new LongHashMap<>(ordenados.size());
+        for (ItemSprintDTO item : ordenados) {
+            if (item.getItemPaiId() != null) {
+                filhosPorPai.computeIfAbsent(item.getItemPaiId(), id -> new ArrayList<>()).add(item);
+            } else if (item.getTipo() == TipoItem.FEATURE) {
+                features.add(item);
+            } else {
+                orfaos.add(item);
+            }
+        }
+    }
+
+    List<TimelineItem> build() {
+        List<TimelineItem> timelineItems = new ArrayList<>();
+        
+        for (ItemSprintDTO feature : features) {
+            timelineItems.add(new TimelineItem(feature, 0, "FEATURE"));
+            
+            for (ItemSprintDTO child : filhos(feature)) {
+                if (child.getTipo() != TipoItem.HISTORIA && child.getTipo() != TipoItem.TAREFA) {
+                    continue;
+                }
+                timelineItems.add(new TimelineItem(child, 1, child.getTipo().name()));
+                
+                for (ItemSprintDTO sub : filhos(child)) {
+                    if (sub.getTipo() == TipoItem.SUB) {
+                        timelineItems.add(new TimelineItem(sub, 2, "SUB"));
+                    }
+                }
+            }
+        }
+        
+        // Itens sem pai que não são Features entram no fim, no nível 0
+        for (ItemSprintDTO orphan : orfaos) {
+            timelineItems.add(new TimelineItem(orphan, 0, orphan.getTipo().name()));
+        }
+        
+        return timelineItems;
+    }
+
+    private List<ItemSprintDTO> filhos(ItemSprintDTO pai) {
+        List<ItemSprintDTO> filhos = filhosPorPai.get(pai.getId());
+        return filhos != null ? filhos : SEM_FILHOS;
+    }
+}
@@ -0,0 +1,194 @@
+package br.tec.jessebezerra.app.service;
+
+import br.tec.jessebezerra.app.dto.ItemSprintDTO;
+import br.tec.jessebezerra.app.entity.TipoItem;
+import br.tec.jessebezerra.app.util.LongHashMap;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Timeline já calculada de uma sprint: dias úteis e, para cada linha visível, o dia inicial,
+ * a quantidade de dias ocupados, a faixa (membro) e a cor.
+ * Imutável; a tela e a exportação para Excel apenas desenham a partir dela.
+ * Construída por {@link TimelineService#buildTimelineModel} e derivada, a cada edição de um item,
+ * por {@link TimelineService#updateTimelineModel}.
+ */
+public final class TimelineModel {
+
+    private final List<LocalDate> workingDays;
+    private final List<Row> rows;
+    private final Filter filter;
+    // Índices usados nas atualizações incrementais: linha de cada item e linhas (em ordem) de cada membro
+    private final LongHashMap<Integer> rowById;
+    private final Map<Long, int[]> rowsByLane;
+
+    TimelineModel(List<LocalDate> workingDays, List<Row> rows, Filter filter,
+                  LongHashMap<Integer> rowById, Map<Long, int[]> rowsByLane) {
+        this.workingDays = Collections.unmodifiableList(workingDays);
+        this.rows = Collections.unmodifiableList(rows);
+        this.filter = filter;
+        this.rowById = rowById;
+        this.rowsByLane = rowsByLane;
+    }
+
+    public List<LocalDate> getWorkingDays() {
+        return workingDays;
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    public Filter getFilter() {
+        return filter;
+    }
+
+    LongHashMap<Integer> rowById() {
+        return rowById;
+    }
+
+    Map<Long, int[]> rowsByLane() {
+        return rowsByLane;
+    }
+
+    /**
+     * Linha da timeline com o período já agendado.
+     */
+    public static final class Row {
+        private final ItemSprintDTO item;
+        private final int indentLevel;
+        private final String displayType;
+        private final int startDay;
+        private final int span;
+        private final Long laneMembroId;
+        private final String color;
+        
+        Row(ItemSprintDTO item, int indentLevel, String displayType, int startDay, int span,
+            Long laneMembroId, String color) {
+            this.item = item;
+            this.indentLevel = indentLevel;
+            this.displayType = displayType;
+            this.startDay = startDay;
+            this.span = span;
+            this.laneMembroId = laneMembroId;
+            this.color = color;
+        }
+        
+        public ItemSprintDTO getItem() {
+            return item;
+        }
+        
+        public int getIndentLevel() {
+            return indentLevel;
+        }
+        
+        public String getDisplayType() {
+            return displayType;
+        }
+        
+        /**
+         * Índice (em dias úteis) do primeiro dia ocupado.
+         */
+        public int getStartDay() {
+            return startDay;
+        }
+        
+        /**
+         * Quantidade de dias úteis ocupados a partir de {@link #getStartDay()}.
+         */
+        public int getSpan() {
+            return span;
+        }
+        
+        /**
+         * Membro em cuja sequência de trabalho a linha foi agendada (apenas SUBs com membro), ou null.
+         */
+        public Long getLaneMembroId() {
+            return laneMembroId;
+        }
+        
+        /**
+         * Cor da linha em hexadecimal (#RRGGBB), derivada da Feature à qual pertence.
+         */
+        public String getColor() {
+            return color;
+        }
+        
+        public boolean occupies(int dia) {
+            return dia >= startDay && dia < startDay + span;
+        }
+        
+        int endDay() {
+            return startDay + span;
+        }
+        
+        Row withPeriod(int novoInicio, int novoSpan) {
+            return new Row(item, indentLevel, displayType, novoInicio, novoSpan, laneMembroId, color);
+        }
+    }
+
+    /**
+     * Resultado de uma atualização incremental: o novo modelo e os índices das linhas que mudaram.
+     */
+    public static final class Patch {
+        private final TimelineModel model;
+        private final int[] changedRows;
+        
+        Patch(TimelineModel model, int[] changedRows) {
+            this.model = model;
+            this.changedRows = changedRows;
+        }
+        
+        public TimelineModel getModel() {
+            return model;
+        }
+        
+        public int[] getChangedRows() {
+            return changedRows.clone();
+        }
+    }
+
+    /**
+     * Filtros de exibição da timeline, compartilhados pela tela e pela exportação.
+     * SUBs aparecem quando Histórias ou Tarefas estão visíveis; com um membro selecionado,
+     * apenas os itens atribuídos a ele são exibidos.
+     */
+    public static final class Filter {
+        private final boolean showFeatures;
+        private final boolean showHistorias;
+        private final boolean showTarefas;
+        private final Long membroId;
+        
+        public Filter(boolean showFeatures, boolean showHistorias, boolean showTarefas, Long membroId) {
+            this.showFeatures = showFeatures;
+            this.showHistorias = showHistorias;
+            this.showTarefas = showTarefas;
+            this.membroId = membroId;
+        }
+        
+        public static Filter all() {
+            return new Filter(true, true, true, null);
+        }
+        
+        public boolean matches(ItemSprintDTO item) {
+            boolean typeMatch;
+            if (item.getTipo() == TipoItem.FEATURE) {
+                typeMatch = showFeatures;
+            } else if (item.getTipo() == TipoItem.HISTORIA) {
+                typeMatch = showHistorias;
+            } else if (item.getTipo() == TipoItem.TAREFA) {
+                typeMatch = showTarefas;
+            } else {
+                typeMatch = showHistorias || showTarefas;
+            }
+            
+            if (!typeMatch) {
+                return false;
+            }
+            return membroId == null || membroId.equals(item.getMembroId());
+        }
+    }
+}
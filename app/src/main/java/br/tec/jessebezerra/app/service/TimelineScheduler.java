@@ -0,0 +1,284 @@
+package br.tec.jessebezerra.app.service;
+
+import br.tec.jessebezerra.app.dto.ItemSprintDTO;
+import br.tec.jessebezerra.app.entity.TipoItem;
+import br.tec.jessebezerra.app.service.TimelineService.TimelineItem;
+import br.tec.jessebezerra.app.util.LongHashMap;
+import br.tec.jessebezerra.app.util.LongSortedSet;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Agenda as linhas visíveis da timeline e produz o {@link TimelineModel}.
+ * As SUBs com membro são alocadas em sequência na faixa do seu membro, na ordem da lista;
+ * SUBs sem membro e Features começam no dia 0 com a própria duração; Histórias e Tarefas
+ * ocupam do início da primeira SUB visível até o fim da última (0 dias se não houver).
+ * Trabalho O(n): o período de cada pai é acumulado enquanto as SUBs são alocadas.
+ */
+class TimelineScheduler {
+
+    private static final String[] CORES = {
+        "#FFB6C1", "#FFD700", "#98FB98", "#87CEEB", "#DDA0DD",
+        "#F0E68C", "#E0BBE4", "#FFDAB9", "#B0E0E6", "#FFE4B5"
+    };
+    private static final int[] SEM_LINHAS = new int[0];
+
+    private final List<TimelineItem> linhas;
+    private final List<LocalDate> workingDays;
+    private final TimelineModel.Filter filter;
+
+    TimelineScheduler(List<TimelineItem> linhas, List<LocalDate> workingDays, TimelineModel.Filter filter) {
+        this.linhas = linhas;
+        this.workingDays = workingDays;
+        this.filter = filter;
+    }
+
+    TimelineModel build() {
+        int total = linhas.size();
+        int[] inicio = new int[total];
+        int[] dias = new int[total];
+        String[] cores = new String[total];
+        
+        LongHashMap<int[]> fimPorMembro = new LongHashMap<>();
+        Map<Long, List<Integer>> linhasPorMembro = new HashMap<>();
+        // id do pai -> {menor início, maior fim} das SUBs filhas alocadas
+        LongHashMap<int[]> periodoPorPai = new LongHashMap<>();
+        
+        int indiceCor = 0;
+        String corFeature = CORES[0];
+        for (int i = 0; i < total; i++) {
+            TimelineItem linha = linhas.get(i);
+            ItemSprintDTO item = linha.getItem();
+            
+            if (linha.getIndentLevel() == 0) {
+                corFeature = CORES[indiceCor++ % CORES.length];
+                cores[i] = corFeature;
+            } else {
+                cores[i] = ajustarBrilho(corFeature, linha.getIndentLevel() == 1 ? 0.9 : 0.8);
+            }
+            
+            if (isAgrupador(item)) {
+                continue; // Preenchidas ao final, a partir das SUBs filhas
+            }
+            dias[i] = duracaoEmDias(item);
+            
+            if (item.getTipo() == TipoItem.SUB && item.getMembroId() != null) {
+                int[] fim = fimPorMembro.computeIfAbsent(item.getMembroId(), id -> new int[1]);
+                inicio[i] = fim[0];
+                fim[0] += dias[i];
+                linhasPorMembro.computeIfAbsent(item.getMembroId(), id -> new ArrayList<>()).add(i);
+                
+                if (item.getItemPaiId() != null) {
+                    int[] periodo = periodoPorPai.get(item.getItemPaiId());
+                    if (periodo == null) {
+                        periodoPorPai.put(item.getItemPaiId(), new int[]{inicio[i], fim[0]});
+                    } else {
+                        periodo[0] = Math.min(periodo[0], inicio[i]);
+                        periodo[1] = Math.max(periodo[1], fim[0]);
+                    }
+                }
+            }
+        }
+        
+        List<TimelineModel.Row> rows = new ArrayList<>(total);
+        LongHashMap<Integer> linhaPorId = new LongHashMap<>(total);
+        for (int i = 0; i < total; i++) {
+            TimelineItem linha = linhas.get(i);
+            ItemSprintDTO item = linha.getItem();
+            Long faixa = null;
+            
+            if (isAgrupador(item)) {
+                int[] periodo = periodoPorPai.get(item.getId());
+                if (periodo != null) {
+                    inicio[i] = periodo[0];
+                    dias[i] = periodo[1] - periodo[0];
+                }
+            } else if (item.getTipo() == TipoItem.SUB) {
+                faixa = item.getMembroId();
+            }
+            
+            rows.add(new TimelineModel.Row(item, linha.getIndentLevel(), linha.getDisplayType(),
+                    inicio[i], dias[i], faixa, cores[i]));
+            linhaPorId.put(item.getId(), i);
+        }
+        
+        Map<Long, int[]> faixas = new HashMap<>();
+        linhasPorMembro.forEach((membroId, indices) ->
+                faixas.put(membroId, indices.stream().mapToInt(Integer::intValue).toArray()));
+        
+        return new TimelineModel(workingDays, rows, filter, linhaPorId, faixas);
+    }
+
+    /**
+     * Aplica a edição de um item já exibido sem reagendar a timeline inteira.
+     * Apenas as faixas de membro afetadas são realocadas, a partir da linha editada e até a primeira linha
+     * que já está na posição correta; em seguida, só os períodos das Histórias/Tarefas cujas SUBs mudaram
+     * são recalculados. Devolve vazio quando a edição muda a estrutura (tipo, pai, sprint) ou a visibilidade
+     * da linha no filtro do modelo; nesses casos a timeline deve ser reconstruída.
+     */
+    static Optional<TimelineModel.Patch> reschedule(TimelineModel model, ItemSprintDTO alterado) {
+        Integer indice = model.rowById().get(alterado.getId());
+        if (indice == null) {
+            return Optional.empty();
+        }
+        
+        TimelineModel.Row atual = model.getRows().get(indice);
+        ItemSprintDTO anterior = atual.getItem();
+        if (anterior.getTipo() != alterado.getTipo()
+                || !Objects.equals(anterior.getItemPaiId(), alterado.getItemPaiId())
+                || !Objects.equals(anterior.getSprintId(), alterado.getSprintId())
+                || !model.getFilter().matches(alterado)) {
+            return Optional.empty();
+        }
+        
+        List<TimelineModel.Row> rows = new ArrayList<>(model.getRows());
+        Map<Long, int[]> faixas = model.rowsByLane();
+        BitSet alteradas = new BitSet(rows.size());
+        LongSortedSet paisSujos = new LongSortedSet();
+        alteradas.set(indice);
+        
+        if (alterado.getTipo() == TipoItem.SUB) {
+            Long faixaAnterior = atual.getLaneMembroId();
+            Long faixaNova = alterado.getMembroId();
+            if (!Objects.equals(faixaAnterior, faixaNova)) {
+                faixas = new HashMap<>(faixas);
+                if (faixaAnterior != null) {
+                    faixas.put(faixaAnterior, remover(faixas.get(faixaAnterior), indice));
+                }
+                if (faixaNova != null) {
+                    faixas.put(faixaNova, inserir(faixas.getOrDefault(faixaNova, SEM_LINHAS), indice));
+                }
+            }
+            
+            // O início é definido na realocação da faixa nova; sem membro, a SUB fica no dia 0
+            rows.set(indice, new TimelineModel.Row(alterado, atual.getIndentLevel(), atual.getDisplayType(),
+                    faixaNova != null ? atual.getStartDay() : 0, duracaoEmDias(alterado), faixaNova, atual.getColor()));
+            if (faixaAnterior != null && !faixaAnterior.equals(faixaNova)) {
+                realocar(rows, faixas.get(faixaAnterior), indice, -1, alteradas, paisSujos);
+            }
+            if (faixaNova != null) {
+                realocar(rows, faixas.get(faixaNova), indice, indice, alteradas, paisSujos);
+            }
+            if (alterado.getItemPaiId() != null) {
+                paisSujos.add(alterado.getItemPaiId());
+            }
+        } else {
+            // Features mantêm a própria duração; Histórias e Tarefas continuam derivadas das SUBs
+            int span = isAgrupador(alterado) ? atual.getSpan() : duracaoEmDias(alterado);
+            rows.set(indice, new TimelineModel.Row(alterado, atual.getIndentLevel(), atual.getDisplayType(),
+                    atual.getStartDay(), span, null, atual.getColor()));
+        }
+        
+        paisSujos.forEach(paiId -> recalcularPai(rows, model.rowById(), paiId, alteradas));
+        
+        TimelineModel novo = new TimelineModel(model.getWorkingDays(), rows, model.getFilter(), model.rowById(), faixas);
+        return Optional.of(new TimelineModel.Patch(novo, alteradas.stream().toArray()));
+    }
+
+    /**
+     * Realoca em sequência as linhas da faixa a partir da posição informada, parando na primeira linha
+     * (diferente da forçada) que já começa no dia correto: as seguintes também não mudam.
+     */
+    private static void realocar(List<TimelineModel.Row> rows, int[] faixa, int aPartirDe, int forcada,
+                                 BitSet alteradas, LongSortedSet paisSujos) {
+        int posicao = Arrays.binarySearch(faixa, aPartirDe);
+        if (posicao < 0) {
+            posicao = -posicao - 1;
+        }
+        int fim = posicao == 0 ? 0 : rows.get(faixa[posicao - 1]).endDay();
+        
+        for (int k = posicao; k < faixa.length; k++) {
+            int i = faixa[k];
+            TimelineModel.Row row = rows.get(i);
+            if (row.getStartDay() == fim && i != forcada) {
+                break;
+            }
+            if (row.getStartDay() != fim) {
+                rows.set(i, row.withPeriod(fim, row.getSpan()));
+                alteradas.set(i);
+                if (row.getItem().getItemPaiId() != null) {
+                    paisSujos.add(row.getItem().getItemPaiId());
+                }
+            }
+            fim += row.getSpan();
+        }
+    }
+
+    /**
+     * Recalcula o período de uma História/Tarefa visível a partir das SUBs com membro logo abaixo dela
+     */
+    private static void recalcularPai(List<TimelineModel.Row> rows, LongHashMap<Integer> linhaPorId, long paiId,
+                                      BitSet alteradas) {
+        Integer indicePai = linhaPorId.get(paiId);
+        if (indicePai == null || !isAgrupador(rows.get(indicePai).getItem())) {
+            return;
+        }
+        
+        int menorInicio = Integer.MAX_VALUE;
+        int maiorFim = 0;
+        // As SUBs de um pai vêm imediatamente depois dele na lista hierárquica
+        for (int i = indicePai + 1; i < rows.size(); i++) {
+            TimelineModel.Row sub = rows.get(i);
+            if (sub.getIndentLevel() != 2 || !Objects.equals(sub.getItem().getItemPaiId(), paiId)) {
+                break;
+            }
+            if (sub.getLaneMembroId() != null) {
+                menorInicio = Math.min(menorInicio, sub.getStartDay());
+                maiorFim = Math.max(maiorFim, sub.endDay());
+            }
+        }
+        
+        int inicio = menorInicio == Integer.MAX_VALUE ? 0 : menorInicio;
+        int span = menorInicio == Integer.MAX_VALUE ? 0 : maiorFim - menorInicio;
+        TimelineModel.Row pai = rows.get(indicePai);
+        if (pai.getStartDay() != inicio || pai.getSpan() != span) {
+            rows.set(indicePai, pai.withPeriod(inicio, span));
+            alteradas.set(indicePai);
+        }
+    }
+
+    private static int[] inserir(int[] faixa, int indice) {
+        int posicao = -Arrays.binarySearch(faixa, indice) - 1;
+        int[] nova = new int[faixa.length + 1];
+        System.arraycopy(faixa, 0, nova, 0, posicao);
+        nova[posicao] = indice;
+        System.arraycopy(faixa, posicao, nova, posicao + 1, faixa.length - posicao);
+        return nova;
+    }
+
+    private static int[] remover(int[] faixa, int indice) {
+        int posicao = Arrays.binarySearch(faixa, indice);
+        int[] nova = new int[faixa.length - 1];
+        System.arraycopy(faixa, 0, nova, 0, posicao);
+        System.arraycopy(faixa, posicao + 1, nova, posicao, faixa.length - posicao - 1);
+        return nova;
+    }
+
+    private static boolean isAgrupador(ItemSprintDTO item) {
+        return item.getTipo() == TipoItem.HISTORIA || item.getTipo() == TipoItem.TAREFA;
+    }
+
+    static int duracaoEmDias(ItemSprintDTO item) {
+        if (item.getDuracaoDias() != null && item.getDuracaoDias() > 0) {
+            return item.getDuracaoDias();
+        } else if (item.getDuracaoSemanas() != null && item.getDuracaoSemanas() > 0) {
+            return item.getDuracaoSemanas() * 5; // 5 dias úteis por semana
+        }
+        return 0;
+    }
+
+    private static String ajustarBrilho(String hexColor, double fator) {
+        int r = Math.min(255, (int) (Integer.parseInt(hexColor.substring(1, 3), 16) * fator));
+        int g = Math.min(255, (int) (Integer.parseInt(hexColor.substring(3, 5), 16) * fator));
+        int b = Math.min(255, (int) (Integer.parseInt(hexColor.substring(5, 7), 16) * fator));
+        return String.format("#%02X%02X%02X", r, g, b);
+    }
+}
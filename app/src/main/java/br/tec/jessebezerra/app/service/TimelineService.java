@@ -2,12 +2,13 @@ package br.tec.jessebezerra.app.service;
 
 import br.tec.jessebezerra.app.dto.ItemSprintDTO;
 import br.tec.jessebezerra.app.dto.SprintDTO;
-import br.tec.jessebezerra.app.entity.TipoItem;
+import br.tec.jessebezerra.app.repository.ItemSprintRepository;
+import br.tec.jessebezerra.app.repository.RepositoryFactory;
+import br.tec.jessebezerra.app.util.WorkingDayCalendar;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Serviço especializado para gerenciar a Timeline da Sprint.
@@ -16,92 +17,75 @@ import java.util.stream.Collectors;
 public class TimelineService {
     
     private final ItemSprintService itemSprintService;
+    private final ItemSprintRepository itemSprintRepository;
     
     public TimelineService() {
         this.itemSprintService = new ItemSprintService();
+        this.itemSprintRepository = RepositoryFactory.itens();
     }
     
     /**
-     * Calcula os dias úteis (segunda a sexta) de uma sprint
+     * Dias úteis (segunda a sexta, exceto feriados) de uma sprint; lista imutável, memorizada por {@link WorkingDayCalendar}
      */
     public List<LocalDate> calculateWorkingDays(SprintDTO sprint) {
-        List<LocalDate> workingDays = new ArrayList<>();
-        LocalDate current = sprint.getDataInicio();
-        LocalDate end = sprint.getDataFim();
-        
-        while (!current.isAfter(end)) {
-            if (current.getDayOfWeek() != DayOfWeek.SATURDAY && 
-                current.getDayOfWeek() != DayOfWeek.SUNDAY) {
-                workingDays.add(current);
-            }
-            current = current.plusDays(1);
-        }
-        
-        return workingDays;
+        return WorkingDayCalendar.workingDays(sprint.getDataInicio(), sprint.getDataFim());
     }
     
     /**
-     * Organiza os itens da sprint em estrutura hierárquica
+     * Organiza os itens da sprint em estrutura hierárquica (veja {@link TimelineHierarchyBuilder})
      */
     public List<TimelineItem> buildHierarchicalTimeline(Long sprintId) {
-        List<TimelineItem> timelineItems = new ArrayList<>();
         List<ItemSprintDTO> allItems = itemSprintService.findBySprintId(sprintId);
-        
-        // Buscar Features (nível 0)
-        List<ItemSprintDTO> features = allItems.stream()
-            .filter(item -> item.getTipo() == TipoItem.FEATURE)
-            .sorted(Comparator.comparing(ItemSprintDTO::getId))
-            .collect(Collectors.toList());
-        
-        for (ItemSprintDTO feature : features) {
-            timelineItems.add(new TimelineItem(feature, 0, "FEATURE"));
-            
-            // Buscar Histórias e Tarefas filhas (nível 1)
-            List<ItemSprintDTO> children = allItems.stream()
-                .filter(item -> feature.getId().equals(item.getItemPaiId()))
-                .filter(item -> item.getTipo() == TipoItem.HISTORIA || item.getTipo() == TipoItem.TAREFA)
-                .sorted(Comparator.comparing(ItemSprintDTO::getId))
-                .collect(Collectors.toList());
-            
-            for (ItemSprintDTO child : children) {
-                timelineItems.add(new TimelineItem(child, 1, child.getTipo().name()));
-                
-                // Buscar SUBs (nível 2)
-                List<ItemSprintDTO> subs = allItems.stream()
-                    .filter(item -> child.getId().equals(item.getItemPaiId()))
-                    .filter(item -> item.getTipo() == TipoItem.SUB)
-                    .sorted(Comparator.comparing(ItemSprintDTO::getId))
-                    .collect(Collectors.toList());
-                
-                for (ItemSprintDTO sub : subs) {
-                    timelineItems.add(new TimelineItem(sub, 2, "SUB"));
-                }
+        return new TimelineHierarchyBuilder(allItems).build();
+    }
+    
+    /**
+     * Variante assíncrona de {@link #buildHierarchicalTimeline(Long)}, completada na thread do JavaFX
+     */
+    public CompletableFuture<List<TimelineItem>> buildHierarchicalTimelineAsync(Long sprintId) {
+        return DatabaseExecutor.supply(() -> buildHierarchicalTimeline(sprintId));
+    }
+    
+    /**
+     * Agenda a timeline da sprint com os filtros informados (veja {@link TimelineScheduler})
+     */
+    public TimelineModel buildTimelineModel(SprintDTO sprint, TimelineModel.Filter filter) {
+        return buildTimelineModel(sprint, buildHierarchicalTimeline(sprint.getId()), filter);
+    }
+    
+    /**
+     * Agenda uma lista hierárquica já carregada; não acessa o banco
+     */
+    public TimelineModel buildTimelineModel(SprintDTO sprint, List<TimelineItem> hierarchy, TimelineModel.Filter filter) {
+        List<TimelineItem> visiveis = new ArrayList<>(hierarchy.size());
+        for (TimelineItem timelineItem : hierarchy) {
+            if (filter.matches(timelineItem.getItem())) {
+                visiveis.add(timelineItem);
             }
         }
-        
-        // Adicionar itens órfãos (sem pai)
-        List<ItemSprintDTO> orphans = allItems.stream()
-            .filter(item -> item.getItemPaiId() == null && item.getTipo() != TipoItem.FEATURE)
-            .sorted(Comparator.comparing(ItemSprintDTO::getId))
-            .collect(Collectors.toList());
-        
-        for (ItemSprintDTO orphan : orphans) {
-            timelineItems.add(new TimelineItem(orphan, 0, orphan.getTipo().name()));
-        }
-        
-        return timelineItems;
+        return new TimelineScheduler(visiveis, calculateWorkingDays(sprint), filter).build();
+    }
+    
+    /**
+     * Aplica a edição de um item ao modelo, recalculando só as faixas e os pais afetados.
+     * Vazio quando a edição altera a estrutura ou a visibilidade do item: reconstrua o modelo nesse caso.
+     */
+    public Optional<TimelineModel.Patch> updateTimelineModel(TimelineModel model, ItemSprintDTO item) {
+        return TimelineScheduler.reschedule(model, item);
+    }
+    
+    /**
+     * Variante assíncrona de {@link #buildTimelineModel(SprintDTO, TimelineModel.Filter)}, completada na thread do JavaFX
+     */
+    public CompletableFuture<TimelineModel> buildTimelineModelAsync(SprintDTO sprint, TimelineModel.Filter filter) {
+        return DatabaseExecutor.supply(() -> buildTimelineModel(sprint, filter));
     }
     
     /**
      * Calcula a duração em dias de um item
      */
     public int calculateDurationInDays(ItemSprintDTO item) {
-        if (item.getDuracaoDias() != null && item.getDuracaoDias() > 0) {
-            return item.getDuracaoDias();
-        } else if (item.getDuracaoSemanas() != null && item.getDuracaoSemanas() > 0) {
-            return item.getDuracaoSemanas() * 5; // 5 dias úteis por semana
-        }
-        return 0;
+        return TimelineScheduler.duracaoEmDias(item);
     }
     
     /**
@@ -109,24 +93,20 @@ public class TimelineService {
      */
     public void validateItemAllocation(ItemSprintDTO item, SprintDTO sprint) {
         int itemDuration = calculateDurationInDays(item);
-        List<LocalDate> workingDays = calculateWorkingDays(sprint);
+        int workingDays = WorkingDayCalendar.countWorkingDays(sprint.getDataInicio(), sprint.getDataFim());
         
-        if (itemDuration > workingDays.size()) {
+        if (itemDuration > workingDays) {
             throw new IllegalArgumentException(
                 String.format("A duração do item (%d dias) excede os dias úteis da sprint (%d dias).",
-                    itemDuration, workingDays.size()));
+                    itemDuration, workingDays));
         }
     }
     
     /**
-     * Calcula o total de dias alocados na sprint
+     * Calcula o total de dias alocados nos itens raiz da sprint
      */
     public int calculateTotalAllocatedDays(Long sprintId) {
-        List<ItemSprintDTO> items = itemSprintService.findBySprintId(sprintId);
-        return items.stream()
-            .filter(item -> item.getItemPaiId() == null) // Apenas itens raiz
-            .mapToInt(this::calculateDurationInDays)
-            .sum();
+        return itemSprintRepository.getDiasAlocadosRaiz(sprintId);
     }
     
     /**
@@ -138,34 +118,21 @@ public class TimelineService {
             return 0;
         }
         
-        List<ItemSprintDTO> items = itemSprintService.findBySprintId(sprintId);
-        
-        // Debug: listar todas as SUBs do membro
-        List<ItemSprintDTO> subsDoMembro = items.stream()
-            .filter(item -> item.getTipo() == TipoItem.SUB)
-            .filter(item -> membroId.equals(item.getMembroId()))
-            .collect(Collectors.toList());
-        
-        System.out.println("=== DEBUG: Calculando dias para membro ID " + membroId + " ===");
-        int total = 0;
-        for (ItemSprintDTO sub : subsDoMembro) {
-            int dias = calculateDurationInDays(sub);
-            System.out.println("SUB: " + sub.getTitulo() + " - Dias: " + dias + 
-                " (duracaoDias=" + sub.getDuracaoDias() + ", duracaoSemanas=" + sub.getDuracaoSemanas() + ")");
-            total += dias;
-        }
-        System.out.println("TOTAL: " + total + " dias");
-        System.out.println("==============================================");
-        
-        return total;
+        return itemSprintRepository.getDiasAlocadosMembro(sprintId, membroId);
+    }
+    
+    /**
+     * Calcula o total de dias alocados em SUBs para cada membro da sprint, indexado pelo id do membro
+     */
+    public Map<Long, Integer> calculateAllocatedDaysByMember(Long sprintId) {
+        return itemSprintRepository.getDiasAlocadosPorMembro(sprintId);
     }
     
     /**
      * Calcula dias disponíveis na sprint
      */
     public int calculateAvailableDays(SprintDTO sprint) {
-        List<LocalDate> workingDays = calculateWorkingDays(sprint);
-        int totalDays = workingDays.size();
+        int totalDays = WorkingDayCalendar.countWorkingDays(sprint.getDataInicio(), sprint.getDataFim());
         int allocatedDays = calculateTotalAllocatedDays(sprint.getId());
         return Math.max(0, totalDays - allocatedDays);
     }
@@ -185,122 +152,8 @@ public class TimelineService {
             return 0; // Sem membro, começa do dia 0
         }
         
-        List<ItemSprintDTO> allItems = itemSprintService.findBySprintId(sprintId);
-        
-        // Filtrar itens do mesmo membro que vêm antes do item atual
-        int lastEndDay = 0;
-        
-        for (ItemSprintDTO item : allItems) {
-            // Pular o item atual
-            if (item.getId().equals(currentItemId)) {
-                continue;
-            }
-            
-            // Verificar se é do mesmo membro
-            if (item.getMembroId() != null && item.getMembroId().equals(membroId)) {
-                int itemDuration = calculateDurationInDays(item);
-                // Assumir que itens anteriores já foram alocados sequencialmente
-                lastEndDay += itemDuration;
-            }
-        }
-        
-        return lastEndDay;
-    }
-    
-    /**
-     * Calcula o dia inicial de uma História ou Tarefa baseado na primeira SUB filha
-     * Se não houver SUBs, retorna 0
-     */
-    public int calculateParentStartDay(Long parentId, List<ItemSprintDTO> allItems, Map<Long, Integer> memberAllocations) {
-        // Buscar SUBs filhas ordenadas por ID
-        List<ItemSprintDTO> childSubs = allItems.stream()
-            .filter(item -> item.getTipo() == TipoItem.SUB)
-            .filter(item -> parentId.equals(item.getItemPaiId()))
-            .sorted(Comparator.comparing(ItemSprintDTO::getId))
-            .collect(Collectors.toList());
-        
-        if (childSubs.isEmpty()) {
-            return 0; // Sem SUBs, começa do dia 0
-        }
-        
-        // Simular alocação das SUBs para encontrar o menor dia inicial
-        Map<Long, Integer> tempAllocations = new HashMap<>(memberAllocations);
-        int minStartDay = Integer.MAX_VALUE;
-        
-        for (ItemSprintDTO sub : childSubs) {
-            if (sub.getMembroId() != null) {
-                int subStartDay = tempAllocations.getOrDefault(sub.getMembroId(), 0);
-                int subDuration = calculateDurationInDays(sub);
-                
-                // Atualizar alocação temporária
-                tempAllocations.put(sub.getMembroId(), subStartDay + subDuration);
-                
-                // Rastrear menor dia inicial
-                if (subStartDay < minStartDay) {
-                    minStartDay = subStartDay;
-                }
-            }
-        }
-        
-        return minStartDay == Integer.MAX_VALUE ? 0 : minStartDay;
-    }
-    
-    /**
-     * Calcula o dia final de uma História ou Tarefa baseado na última SUB filha
-     * Retorna o número de dias que a História/Tarefa deve ocupar na timeline
-     */
-    public int calculateParentDuration(Long parentId, List<ItemSprintDTO> allItems, Map<Long, Integer> memberAllocations) {
-        // Buscar SUBs filhas ordenadas por ID
-        List<ItemSprintDTO> childSubs = allItems.stream()
-            .filter(item -> item.getTipo() == TipoItem.SUB)
-            .filter(item -> parentId.equals(item.getItemPaiId()))
-            .sorted(Comparator.comparing(ItemSprintDTO::getId))
-            .collect(Collectors.toList());
-        
-        if (childSubs.isEmpty()) {
-            return 0; // Sem SUBs, duração 0
-        }
-        
-        System.out.println("=== DEBUG calculateParentDuration para parent ID " + parentId + " ===");
-        System.out.println("Total de SUBs filhas: " + childSubs.size());
-        
-        // Simular alocação das SUBs para calcular dia inicial e final
-        Map<Long, Integer> tempAllocations = new HashMap<>(memberAllocations);
-        
-        int minStartDay = Integer.MAX_VALUE;
-        int maxEndDay = 0;
-        
-        for (ItemSprintDTO sub : childSubs) {
-            if (sub.getMembroId() != null) {
-                // Calcular dia inicial desta SUB
-                int subStartDay = tempAllocations.getOrDefault(sub.getMembroId(), 0);
-                int subDuration = calculateDurationInDays(sub);
-                int subEndDay = subStartDay + subDuration;
-                
-                System.out.println("  SUB: " + sub.getTitulo() + 
-                    " | Membro: " + sub.getMembroNome() + 
-                    " | StartDay: " + subStartDay + 
-                    " | Duration: " + subDuration + 
-                    " | EndDay: " + subEndDay);
-                
-                // Atualizar alocação temporária
-                tempAllocations.put(sub.getMembroId(), subEndDay);
-                
-                // Rastrear menor dia inicial e maior dia final
-                if (subStartDay < minStartDay) {
-                    minStartDay = subStartDay;
-                }
-                if (subEndDay > maxEndDay) {
-                    maxEndDay = subEndDay;
-                }
-            }
-        }
-        
-        int duration = minStartDay == Integer.MAX_VALUE ? 0 : Math.max(0, maxEndDay - minStartDay);
-        System.out.println("RESULTADO: minStartDay=" + minStartDay + ", maxEndDay=" + maxEndDay + ", duration=" + duration);
-        System.out.println("========================================");
-        
-        return duration;
+        // Soma as durações dos demais itens do mesmo membro, assumindo que foram alocados sequencialmente
+        return itemSprintRepository.getDiasAlocadosMembroExceto(sprintId, membroId, currentItemId);
     }
     
     /**
@@ -1,6 +1,5 @@
 package br.tec.jessebezerra.app.util;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 
 public class DateUtils {
@@ -11,19 +10,6 @@ public class DateUtils {
         }
         
         // Calcular dias úteis: duração em semanas * 5 dias - 1 (último dia é inclusivo)
-        int diasUteis = (duracaoSemanas * 5) - 1;
-        LocalDate dataAtual = dataInicio;
-        int diasAdicionados = 0;
-        
-        while (diasAdicionados < diasUteis) {
-            dataAtual = dataAtual.plusDays(1);
-            
-            if (dataAtual.getDayOfWeek() != DayOfWeek.SATURDAY && 
-                dataAtual.getDayOfWeek() != DayOfWeek.SUNDAY) {
-                diasAdicionados++;
-            }
-        }
-        
-        return dataAtual;
+        return WorkingDayCalendar.addWorkingDays(dataInicio, (duracaoSemanas * 5) - 1);
     }
 }
@@ -0,0 +1,191 @@
+package br.tec.jessebezerra.app.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * Mapa de chaves long primitivas com endereçamento aberto (sondagem linear),
+ * sem boxing das chaves nem objetos de entrada por elemento.
+ * A remoção desloca os elementos seguintes do mesmo agrupamento, dispensando marcadores de exclusão.
+ * Não é thread-safe; valores nulos não são permitidos.
+ */
+public class LongHashMap<V> {
+
+    private static final int CAPACIDADE_MINIMA = 16;
+    private static final float FATOR_CARGA = 0.5f;
+
+    private long[] chaves;
+    private Object[] valores;
+    private int tamanho;
+    private int mascara;
+    private int limite;
+
+    public LongHashMap() {
+        this(CAPACIDADE_MINIMA);
+    }
+
+    public LongHashMap(int capacidadeEsperada) {
+        alocar(capacidadePara(capacidadeEsperada));
+    }
+
+    public int size() {
+        return tamanho;
+    }
+
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long chave) {
+        int posicao = localizar(chave);
+        return posicao >= 0 ? (V) valores[posicao] : null;
+    }
+
+    public boolean containsKey(long chave) {
+        return localizar(chave) >= 0;
+    }
+
+    /**
+     * Associa o valor à chave e devolve o valor anterior, ou null.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long chave, V valor) {
+        if (valor == null) {
+            throw new IllegalArgumentException("Valor não pode ser nulo");
+        }
+        
+        int posicao = indice(chave);
+        while (valores[posicao] != null) {
+            if (chaves[posicao] == chave) {
+                V anterior = (V) valores[posicao];
+                valores[posicao] = valor;
+                return anterior;
+            }
+            posicao = (posicao + 1) & mascara;
+        }
+        
+        chaves[posicao] = chave;
+        valores[posicao] = valor;
+        if (++tamanho > limite) {
+            redimensionar(chaves.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Devolve o valor associado à chave, criando-o com a função informada se ainda não existir.
+     */
+    public V computeIfAbsent(long chave, LongFunction<V> criador) {
+        V valor = get(chave);
+        if (valor == null) {
+            valor = criador.apply(chave);
+            put(chave, valor);
+        }
+        return valor;
+    }
+
+    /**
+     * Remove a chave e devolve o valor que estava associado, ou null.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long chave) {
+        int posicao = localizar(chave);
+        if (posicao < 0) {
+            return null;
+        }
+        
+        V removido = (V) valores[posicao];
+        // Desloca para trás os elementos do agrupamento que não estão mais na posição ideal
+        int vazia = posicao;
+        int atual = (posicao + 1) & mascara;
+        while (valores[atual] != null) {
+            int ideal = indice(chaves[atual]);
+            if (((atual - ideal) & mascara) >= ((atual - vazia) & mascara)) {
+                chaves[vazia] = chaves[atual];
+                valores[vazia] = valores[atual];
+                vazia = atual;
+            }
+            atual = (atual + 1) & mascara;
+        }
+        valores[vazia] = null;
+        tamanho--;
+        return removido;
+    }
+
+    public void clear() {
+        Arrays.fill(valores, null);
+        tamanho = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> acao) {
+        for (Object valor : valores) {
+            if (valor != null) {
+                acao.accept((V) valor);
+            }
+        }
+    }
+
+    /**
+     * Cópia dos valores, sem ordem definida.
+     */
+    public List<V> values() {
+        List<V> lista = new ArrayList<>(tamanho);
+        forEachValue(lista::add);
+        return lista;
+    }
+
+    private int localizar(long chave) {
+        int posicao = indice(chave);
+        while (valores[posicao] != null) {
+            if (chaves[posicao] == chave) {
+                return posicao;
+            }
+            posicao = (posicao + 1) & mascara;
+        }
+        return -1;
+    }
+
+    private int indice(long chave) {
+        // Espalha os bits (ids sequenciais ficariam agrupados) antes de aplicar a máscara
+        long h = chave * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mascara;
+    }
+
+    private void redimensionar(int novaCapacidade) {
+        long[] chavesAntigas = chaves;
+        Object[] valoresAntigos = valores;
+        alocar(novaCapacidade);
+        tamanho = 0;
+        for (int i = 0; i < valoresAntigos.length; i++) {
+            if (valoresAntigos[i] != null) {
+                int posicao = indice(chavesAntigas[i]);
+                while (valores[posicao] != null) {
+                    posicao = (posicao + 1) & mascara;
+                }
+                chaves[posicao] = chavesAntigas[i];
+                valores[posicao] = valoresAntigos[i];
+                tamanho++;
+            }
+        }
+    }
+
+    private void alocar(int capacidade) {
+        chaves = new long[capacidade];
+        valores = new Object[capacidade];
+        mascara = capacidade - 1;
+        limite = (int) (capacidade * FATOR_CARGA);
+    }
+
+    private static int capacidadePara(int esperado) {
+        int capacidade = CAPACIDADE_MINIMA;
+        while (capacidade * FATOR_CARGA < esperado) {
+            capacidade <<= 1;
+        }
+        return capacidade;
+    }
+}
@@ -0,0 +1,109 @@
+package br.tec.jessebezerra.app.util;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Conjunto ordenado de longs primitivos mantido em um array.
+ * Busca por pesquisa binária; inserções de valores crescentes (ids novos) são acrescentadas ao final
+ * sem deslocamento. Adequado a índices secundários de ids, que são lidos em ordem com frequência.
+ * Não é thread-safe.
+ */
+public class LongSortedSet {
+
+    private static final long[] VAZIO = new long[0];
+
+    private long[] valores = VAZIO;
+    private int tamanho;
+
+    public int size() {
+        return tamanho;
+    }
+
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    public long get(int indice) {
+        if (indice < 0 || indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora do intervalo 0.." + (tamanho - 1));
+        }
+        return valores[indice];
+    }
+
+    public boolean contains(long valor) {
+        return Arrays.binarySearch(valores, 0, tamanho, valor) >= 0;
+    }
+
+    /**
+     * Adiciona o valor; devolve false se ele já estava presente.
+     */
+    public boolean add(long valor) {
+        if (tamanho == 0 || valor > valores[tamanho - 1]) {
+            garantirCapacidade();
+            valores[tamanho++] = valor;
+            return true;
+        }
+        
+        int posicao = Arrays.binarySearch(valores, 0, tamanho, valor);
+        if (posicao >= 0) {
+            return false;
+        }
+        
+        int insercao = -posicao - 1;
+        garantirCapacidade();
+        System.arraycopy(valores, insercao, valores, insercao + 1, tamanho - insercao);
+        valores[insercao] = valor;
+        tamanho++;
+        return true;
+    }
+
+    /**
+     * Remove o valor; devolve false se ele não estava presente.
+     */
+    public boolean remove(long valor) {
+        int posicao = Arrays.binarySearch(valores, 0, tamanho, valor);
+        if (posicao < 0) {
+            return false;
+        }
+        
+        System.arraycopy(valores, posicao + 1, valores, posicao, tamanho - posicao - 1);
+        tamanho--;
+        return true;
+    }
+
+    /**
+     * Índice do primeiro valor estritamente maior que o informado (igual a size() se não houver).
+     */
+    public int indexAfter(long valor) {
+        int posicao = Arrays.binarySearch(valores, 0, tamanho, valor);
+        return posicao >= 0 ? posicao + 1 : -posicao - 1;
+    }
+
+    /**
+     * Índice do último valor estritamente menor que o informado (-1 se não houver).
+     */
+    public int indexBefore(long valor) {
+        int posicao = Arrays.binarySearch(valores, 0, tamanho, valor);
+        return (posicao >= 0 ? posicao : -posicao - 1) - 1;
+    }
+
+    /**
+     * Percorre os valores em ordem crescente.
+     */
+    public void forEach(LongConsumer acao) {
+        for (int i = 0; i < tamanho; i++) {
+            acao.accept(valores[i]);
+        }
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(valores, tamanho);
+    }
+
+    private void garantirCapacidade() {
+        if (tamanho == valores.length) {
+            valores = Arrays.copyOf(valores, Math.max(8, tamanho * 2));
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package br.tec.jessebezerra.app.util;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Aritmética de dias úteis (segunda a sexta, exceto feriados) sem percorrer os períodos dia a dia.
+ * Cada data é convertida no seu número de ordem entre todos os dias de semana, contado a partir de uma segunda-feira
+ * de referência, menos a quantidade de feriados anteriores a ela; contagens, somas e a conversão entre índice e data
+ * viram operações aritméticas e pesquisas binárias nesse número.
+ * Os feriados vêm da fonte registrada ({@link #setHolidaySource}), compilados sob demanda em um array ordenado
+ * de dias desde a época, e são recarregados após {@link #invalidate()}. Consultar o calendário antes de registrar
+ * uma fonte é erro: um calendário sem feriados daria datas erradas em silêncio.
+ * As listas de dias úteis de cada período (uma por sprint) são memorizadas e compartilhadas, sem modificação.
+ */
+public final class WorkingDayCalendar {
+
+    // 29/12/1969, a segunda-feira anterior à época (01/01/1970 foi uma quinta-feira)
+    private static final long SEGUNDA_REFERENCIA = -3;
+    private static final int CAPACIDADE_PERIODOS = 64;
+    private static final long[] SEM_FERIADOS = new long[0];
+
+    private static final Object TRAVA = new Object();
+    private static final Map<List<LocalDate>, List<LocalDate>> PERIODOS =
+            new LinkedHashMap<List<LocalDate>, List<LocalDate>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<List<LocalDate>, List<LocalDate>> eldest) {
+                    return size() > CAPACIDADE_PERIODOS;
+                }
+            };
+
+    // Nula até o registro; quem não usa feriados registra uma fonte vazia
+    private static Supplier<long[]> fonteFeriados;
+    // Dias de semana que são feriados, ordenados e sem repetição; null até a próxima compilação
+    private static volatile long[] feriados;
+    private static long versao;
+
+    private WorkingDayCalendar() {
+    }
+
+    /**
+     * Define de onde vêm os dias de feriado (em dias desde a época, em qualquer ordem) e descarta o calendário atual.
+     */
+    public static void setHolidaySource(Supplier<long[]> fonte) {
+        synchronized (TRAVA) {
+            fonteFeriados = fonte;
+            invalidate();
+        }
+    }
+
+    /**
+     * Descarta os feriados compilados e os períodos memorizados; a próxima consulta recarrega da fonte.
+     */
+    public static void invalidate() {
+        synchronized (TRAVA) {
+            versao++;
+            feriados = null;
+            PERIODOS.clear();
+        }
+    }
+
+    /**
+     * Compila os feriados agora, para que a primeira consulta (possivelmente na thread do JavaFX) não acesse o banco.
+     */
+    public static void preload() {
+        feriados();
+    }
+
+    public static boolean isWorkingDay(LocalDate data) {
+        long dia = data.toEpochDay();
+        return Math.floorMod(dia - SEGUNDA_REFERENCIA, 7) < 5 && Arrays.binarySearch(feriados(), dia) < 0;
+    }
+
+    /**
+     * Indica se as datas estão na mesma semana (de segunda a domingo).
+     */
+    public static boolean isSameWeek(LocalDate data, LocalDate outra) {
+        return Math.floorDiv(data.toEpochDay() - SEGUNDA_REFERENCIA, 7)
+                == Math.floorDiv(outra.toEpochDay() - SEGUNDA_REFERENCIA, 7);
+    }
+
+    /**
+     * Quantidade de dias úteis entre as datas, ambas inclusivas (0 se o fim for anterior ao início).
+     */
+    public static int countWorkingDays(LocalDate inicio, LocalDate fim) {
+        if (fim.isBefore(inicio)) {
+            return 0;
+        }
+        long[] feriados = feriados();
+        return (int) (ordem(fim.toEpochDay() + 1, feriados) - ordem(inicio.toEpochDay(), feriados));
+    }
+
+    /**
+     * O n-ésimo dia útil depois da data (a própria data quando n é 0).
+     */
+    public static LocalDate addWorkingDays(LocalDate data, int dias) {
+        if (dias < 0) {
+            throw new IllegalArgumentException("Quantidade de dias úteis não pode ser negativa");
+        }
+        if (dias == 0) {
+            return data;
+        }
+        long[] feriados = feriados();
+        return LocalDate.ofEpochDay(diaDaOrdem(ordem(data.toEpochDay() + 1, feriados) + dias - 1, feriados));
+    }
+
+    /**
+     * Índice do dia útil na sequência de dias úteis iniciada em {@code inicio} (0 para o primeiro).
+     * Para um dia não útil, devolve o índice do próximo dia útil.
+     */
+    public static int indexOf(LocalDate inicio, LocalDate data) {
+        long[] feriados = feriados();
+        return (int) (ordem(data.toEpochDay(), feriados) - ordem(inicio.toEpochDay(), feriados));
+    }
+
+    /**
+     * Data do dia útil de índice informado na sequência iniciada em {@code inicio}; inversa de {@link #indexOf}.
+     */
+    public static LocalDate dateAt(LocalDate inicio, int indice) {
+        long[] feriados = feriados();
+        return LocalDate.ofEpochDay(diaDaOrdem(ordem(inicio.toEpochDay(), feriados) + indice, feriados));
+    }
+
+    /**
+     * Dias úteis do período, ambos os extremos inclusivos. A lista é imutável e memorizada por período.
+     */
+    public static List<LocalDate> workingDays(LocalDate inicio, LocalDate fim) {
+        List<LocalDate> chave = List.of(inicio, fim);
+        long versaoCarga;
+        synchronized (TRAVA) {
+            List<LocalDate> dias = PERIODOS.get(chave);
+            if (dias != null) {
+                return dias;
+            }
+            versaoCarga = versao;
+        }
+        
+        long[] feriados = feriados();
+        int total = countWorkingDays(inicio, fim);
+        List<LocalDate> dias = new ArrayList<>(total);
+        long primeiro = ordem(inicio.toEpochDay(), feriados);
+        for (int i = 0; i < total; i++) {
+            dias.add(LocalDate.ofEpochDay(diaDaOrdem(primeiro + i, feriados)));
+        }
+        dias = Collections.unmodifiableList(dias);
+        
+        synchronized (TRAVA) {
+            // Não memoriza uma lista calculada com feriados que foram alterados durante o cálculo
+            if (versao == versaoCarga) {
+                PERIODOS.put(chave, dias);
+            }
+        }
+        return dias;
+    }
+
+    private static long[] feriados() {
+        long[] atuais = feriados;
+        if (atuais != null) {
+            return atuais;
+        }
+        
+        // A fonte é consultada fora da trava: ela pode acessar o banco e tomar outras travas
+        long versaoCarga;
+        Supplier<long[]> fonte;
+        synchronized (TRAVA) {
+            if (feriados != null) {
+                return feriados;
+            }
+            versaoCarga = versao;
+            fonte = fonteFeriados;
+        }
+        if (fonte == null) {
+            throw new IllegalStateException("Fonte de feriados não registrada: defina o backend em RepositoryFactory "
+                    + "ou inicialize o banco antes de consultar o calendário");
+        }
+        
+        long[] compilados = compilar(fonte.get());
+        synchronized (TRAVA) {
+            if (versao == versaoCarga) {
+                feriados = compilados;
+            }
+        }
+        return compilados;
+    }
+
+    /**
+     * Mantém apenas os dias de semana, ordenados e sem repetição.
+     */
+    private static long[] compilar(long[] dias) {
+        long[] ordenados = dias.clone();
+        Arrays.sort(ordenados);
+        int tamanho = 0;
+        for (long dia : ordenados) {
+            boolean diaDeSemana = Math.floorMod(dia - SEGUNDA_REFERENCIA, 7) < 5;
+            if (diaDeSemana && (tamanho == 0 || ordenados[tamanho - 1] != dia)) {
+                ordenados[tamanho++] = dia;
+            }
+        }
+        return tamanho == 0 ? SEM_FERIADOS : Arrays.copyOf(ordenados, tamanho);
+    }
+
+    /**
+     * Quantidade de dias úteis anteriores ao dia (em dias desde a época), contados desde a segunda de referência.
+     */
+    private static long ordem(long epochDay, long[] feriados) {
+        return ordemDiaDeSemana(epochDay) - feriadosAntes(epochDay, feriados);
+    }
+
+    /**
+     * Dia útil (em dias desde a época) com a ordem informada; inversa de {@link #ordem(long, long[])}.
+     * Parte do dia de semana com essa ordem e avança enquanto houver feriados até ele; o número de passos
+     * é limitado pela quantidade de feriados no caminho.
+     */
+    private static long diaDaOrdem(long ordem, long[] feriados) {
+        long ordemDiaDeSemana = ordem;
+        while (true) {
+            long dia = diaDeSemanaDaOrdem(ordemDiaDeSemana);
+            long proxima = ordem + feriadosAntes(dia + 1, feriados);
+            if (proxima == ordemDiaDeSemana) {
+                return dia;
+            }
+            ordemDiaDeSemana = proxima;
+        }
+    }
+
+    private static long ordemDiaDeSemana(long epochDay) {
+        long dias = epochDay - SEGUNDA_REFERENCIA;
+        return Math.floorDiv(dias, 7) * 5 + Math.min(Math.floorMod(dias, 7), 5);
+    }
+
+    private static long diaDeSemanaDaOrdem(long ordem) {
+        return SEGUNDA_REFERENCIA + Math.floorDiv(ordem, 5) * 7 + Math.floorMod(ordem, 5);
+    }
+
+    /**
+     * Quantidade de feriados anteriores ao dia.
+     */
+    private static int feriadosAntes(long epochDay, long[] feriados) {
+        if (feriados.length == 0) {
+            return 0;
+        }
+        int posicao = Arrays.binarySearch(feriados, epochDay);
+        return posicao >= 0 ? posicao : -posicao - 1;
+    }
+}
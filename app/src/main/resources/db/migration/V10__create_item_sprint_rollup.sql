@@ -0,0 +1,56 @@
+-- Totais dos filhos diretos de cada item, mantidos por triggers
+-- Permite que as validações de capacidade leiam uma única linha em vez de somar os filhos
+CREATE TABLE IF NOT EXISTS item_sprint_rollup (
+    item_pai_id INTEGER PRIMARY KEY,
+    soma_semanas INTEGER NOT NULL DEFAULT 0,
+    soma_dias INTEGER NOT NULL DEFAULT 0,
+    qtd_filhos INTEGER NOT NULL DEFAULT 0
+);
+
+-- Carga inicial a partir dos itens existentes
+INSERT INTO item_sprint_rollup (item_pai_id, soma_semanas, soma_dias, qtd_filhos)
+SELECT item_pai_id, COALESCE(SUM(duracao_semanas), 0), COALESCE(SUM(duracao_dias), 0), COUNT(*)
+FROM item_sprint
+WHERE item_pai_id IS NOT NULL
+GROUP BY item_pai_id;
+
+CREATE TRIGGER IF NOT EXISTS trg_item_sprint_rollup_insert
+AFTER INSERT ON item_sprint
+WHEN NEW.item_pai_id IS NOT NULL
+BEGIN
+    INSERT OR IGNORE INTO item_sprint_rollup (item_pai_id) VALUES (NEW.item_pai_id);
+    UPDATE item_sprint_rollup
+    SET soma_semanas = soma_semanas + COALESCE(NEW.duracao_semanas, 0),
+        soma_dias = soma_dias + COALESCE(NEW.duracao_dias, 0),
+        qtd_filhos = qtd_filhos + 1
+    WHERE item_pai_id = NEW.item_pai_id;
+END;
+
+CREATE TRIGGER IF NOT EXISTS trg_item_sprint_rollup_delete
+AFTER DELETE ON item_sprint
+BEGIN
+    UPDATE item_sprint_rollup
+    SET soma_semanas = soma_semanas - COALESCE(OLD.duracao_semanas, 0),
+        soma_dias = soma_dias - COALESCE(OLD.duracao_dias, 0),
+        qtd_filhos = qtd_filhos - 1
+    WHERE item_pai_id = OLD.item_pai_id;
+    DELETE FROM item_sprint_rollup WHERE item_pai_id = OLD.id;
+END;
+
+-- Atualização: retira a contribuição antiga do pai anterior e soma a nova no pai atual
+CREATE TRIGGER IF NOT EXISTS trg_item_sprint_rollup_update
+AFTER UPDATE OF item_pai_id, duracao_semanas, duracao_dias ON item_sprint
+BEGIN
+    UPDATE item_sprint_rollup
+    SET soma_semanas = soma_semanas - COALESCE(OLD.duracao_semanas, 0),
+        soma_dias = soma_dias - COALESCE(OLD.duracao_dias, 0),
+        qtd_filhos = qtd_filhos - 1
+    WHERE item_pai_id = OLD.item_pai_id;
+    INSERT OR IGNORE INTO item_sprint_rollup (item_pai_id)
+    SELECT NEW.item_pai_id WHERE NEW.item_pai_id IS NOT NULL;
+    UPDATE item_sprint_rollup
+    SET soma_semanas = soma_semanas + COALESCE(NEW.duracao_semanas, 0),
+        soma_dias = soma_dias + COALESCE(NEW.duracao_dias, 0),
+        qtd_filhos = qtd_filhos + 1
+    WHERE item_pai_id = NEW.item_pai_id;
+END;
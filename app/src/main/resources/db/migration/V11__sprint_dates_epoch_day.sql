@@ -0,0 +1,27 @@
+-- Datas da sprint passam a ser armazenadas como dias desde 1970-01-01 (LocalDate.toEpochDay)
+-- Comparações e ordenação viram operações inteiras e o mapeamento dispensa o parse de texto
+-- data_fim passa a ser obrigatória, para que a busca por sobreposição use só o índice de período
+CREATE TABLE sprint_epoch (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    nome TEXT NOT NULL,
+    data_inicio INTEGER NOT NULL,
+    duracao_semanas INTEGER NOT NULL,
+    data_fim INTEGER NOT NULL
+);
+
+-- julianday('1970-01-01') = 2440587.5; sem data de fim, a sprint termina no último dia corrido da sua duração
+INSERT INTO sprint_epoch (id, nome, data_inicio, duracao_semanas, data_fim)
+SELECT id,
+       nome,
+       CAST(julianday(data_inicio) - 2440587.5 AS INTEGER),
+       duracao_semanas,
+       CASE WHEN data_fim IS NULL OR data_fim = ''
+            THEN CAST(julianday(data_inicio) - 2440587.5 AS INTEGER) + duracao_semanas * 7 - 1
+            ELSE CAST(julianday(data_fim) - 2440587.5 AS INTEGER) END
+FROM sprint;
+
+DROP TABLE sprint;
+ALTER TABLE sprint_epoch RENAME TO sprint;
+
+-- Busca por intervalo (sobreposição) e listagem ordenada pela data de início
+CREATE INDEX IF NOT EXISTS idx_sprint_periodo ON sprint(data_inicio, data_fim);
@@ -0,0 +1,11 @@
+-- Feriados e paradas da empresa: dias que não contam como úteis na sprint
+-- Datas em dias desde 1970-01-01 (LocalDate.toEpochDay); um feriado de um dia tem data_inicio = data_fim
+CREATE TABLE IF NOT EXISTS feriado (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    descricao TEXT NOT NULL,
+    data_inicio INTEGER NOT NULL,
+    data_fim INTEGER NOT NULL,
+    CHECK (data_fim >= data_inicio)
+);
+
+CREATE INDEX IF NOT EXISTS idx_feriado_periodo ON feriado(data_inicio, data_fim);
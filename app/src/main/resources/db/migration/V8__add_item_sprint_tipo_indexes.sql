@@ -0,0 +1,4 @@
+-- Índices compostos para as consultas filtradas por tipo
+-- (ex.: Features de uma sprint, SUBs de uma História)
+CREATE INDEX IF NOT EXISTS idx_item_sprint_sprint_tipo ON item_sprint(sprint_id, tipo);
+CREATE INDEX IF NOT EXISTS idx_item_sprint_pai_tipo ON item_sprint(item_pai_id, tipo);
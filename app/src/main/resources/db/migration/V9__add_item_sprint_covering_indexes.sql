@@ -0,0 +1,11 @@
+-- Índices compostos para os caminhos da timeline e da alocação por membro
+-- (sprint_id, tipo, item_pai_id): itens de uma sprint por tipo e montagem da hierarquia
+CREATE INDEX IF NOT EXISTS idx_item_sprint_sprint_tipo_pai ON item_sprint(sprint_id, tipo, item_pai_id);
+
+-- (sprint_id, membro_id, tipo) + durações: cobre a soma de dias alocados por membro sem ler a tabela
+CREATE INDEX IF NOT EXISTS idx_item_sprint_sprint_membro_tipo ON item_sprint(sprint_id, membro_id, tipo, duracao_dias, duracao_semanas);
+
+-- Índices substituídos pelos compostos acima (são prefixos deles)
+DROP INDEX IF EXISTS idx_item_sprint_sprint_tipo;
+DROP INDEX IF EXISTS idx_item_sprint_sprint_id;
+DROP INDEX IF EXISTS idx_item_sprint_item_pai_id;
@@ -0,0 +1,239 @@
+package br.tec.jessebezerra.app.repository;
+
+import br.tec.jessebezerra.app.config.DatabaseConfig;
+import br.tec.jessebezerra.app.dto.PaginaItemDTO;
+import br.tec.jessebezerra.app.entity.StatusItem;
+import br.tec.jessebezerra.app.entity.TipoItem;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Garante que as consultas de leitura de {@link JdbcItemSprintRepository} e a busca por sobreposição de
+ * {@link JdbcSprintRepository} continuam usando os índices, sem varrer as tabelas.
+ * Os planos são os das mesmas strings SQL dos repositórios, sobre um banco povoado e analisado (ANALYZE),
+ * para que o planejador escolha com estatísticas parecidas com as de uso real.
+ */
+class ItemSprintQueryPlanTest {
+
+    private static final int SPRINTS = 40;
+    private static final int MEMBROS = 12;
+    private static final int FEATURES_POR_SPRINT = 4;
+    private static final int FILHOS_POR_FEATURE = 4;
+    private static final int SUBS_POR_FILHO = 5;
+    private static final int PROJETOS = 6;
+
+    @BeforeAll
+    static void prepararBanco() throws SQLException {
+        DatabaseConfig.useInMemoryDatabase("plano-consultas", null);
+        DatabaseConfig.initialize();
+        DatabaseConfig.executeInTransaction(conn -> {
+            povoar(conn);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("ANALYZE");
+            }
+            return null;
+        });
+    }
+
+    @AfterAll
+    static void fechar() {
+        DatabaseConfig.closeConnection();
+    }
+
+    @Test
+    void listagensUsamIndiceDoFiltro() throws SQLException {
+        assertUsaIndice(JdbcItemSprintRepository.sqlListagem(JdbcItemSprintRepository.WHERE_SPRINT),
+                "idx_item_sprint_sprint_membro_tipo (sprint_id=?)", 1L);
+        assertUsaIndice(JdbcItemSprintRepository.sqlListagem(JdbcItemSprintRepository.WHERE_PAI),
+                "idx_item_sprint_pai_tipo (item_pai_id=?)", 1L);
+        assertUsaIndice(JdbcItemSprintRepository.sqlListagem(JdbcItemSprintRepository.WHERE_TIPO),
+                "idx_item_sprint_tipo (tipo=?)", TipoItem.FEATURE.name());
+        assertUsaIndice(JdbcItemSprintRepository.sqlListagem(JdbcItemSprintRepository.WHERE_SPRINT_TIPO),
+                "idx_item_sprint_sprint_tipo_pai (sprint_id=? AND tipo=?)", 1L, TipoItem.HISTORIA.name());
+        assertUsaIndice(JdbcItemSprintRepository.sqlListagem(JdbcItemSprintRepository.WHERE_PAI_TIPO),
+                "idx_item_sprint_pai_tipo (item_pai_id=? AND tipo=?)", 1L, TipoItem.SUB.name());
+    }
+
+    @Test
+    void buscasDeEntidadesUsamIndice() throws SQLException {
+        assertUsaIndice(JdbcItemSprintRepository.FIND_BY_SPRINT_SQL, "(sprint_id=?)", 1L);
+        assertUsaIndice(JdbcItemSprintRepository.FIND_BY_PAI_SQL, "idx_item_sprint_pai_tipo (item_pai_id=?)", 1L);
+    }
+
+    @Test
+    void hierarquiaPercorreFilhosPeloIndiceDoPai() throws SQLException {
+        String subarvore = String.join("\n", assertUsaIndice(
+                JdbcItemSprintRepository.sqlHierarquia(JdbcItemSprintRepository.RAIZ_SUBARVORE),
+                "SEARCH filho USING COVERING INDEX idx_item_sprint_pai_tipo (item_pai_id=?)", 1L));
+        assertTrue(subarvore.contains("SEARCH item_sprint USING INTEGER PRIMARY KEY"), subarvore);
+        
+        String sprint = String.join("\n", assertUsaIndice(
+                JdbcItemSprintRepository.sqlHierarquia(JdbcItemSprintRepository.RAIZES_SPRINT),
+                "SEARCH filho USING COVERING INDEX idx_item_sprint_pai_tipo (item_pai_id=?)", 1L));
+        assertTrue(sprint.contains("idx_item_sprint_sprint_tipo_pai (sprint_id=?"), sprint);
+        assertTrue(sprint.contains("SEARCH i USING INTEGER PRIMARY KEY (rowid=?)"), sprint);
+    }
+
+    @Test
+    void somasDeDiasAlocadosUsamIndiceCobrindoDuracoes() throws SQLException {
+        assertUsaIndice(JdbcItemSprintRepository.DIAS_ALOCADOS_MEMBRO_SQL,
+                "COVERING INDEX idx_item_sprint_sprint_membro_tipo (sprint_id=? AND membro_id=? AND tipo=?)", 1L, 1L);
+        assertUsaIndice(JdbcItemSprintRepository.DIAS_ALOCADOS_MEMBRO_EXCETO_SQL,
+                "COVERING INDEX idx_item_sprint_sprint_membro_tipo (sprint_id=? AND membro_id=?)", 1L, 1L, 1L);
+        assertUsaIndice(JdbcItemSprintRepository.DIAS_ALOCADOS_POR_MEMBRO_SQL,
+                "COVERING INDEX idx_item_sprint_sprint_membro_tipo (sprint_id=?", 1L);
+        assertUsaIndice(JdbcItemSprintRepository.DIAS_ALOCADOS_RAIZ_SQL,
+                "idx_item_sprint_sprint_membro_tipo (sprint_id=?)", 1L);
+    }
+
+    @Test
+    void rollupsLeemPelaChavePrimaria() throws SQLException {
+        for (String sql : List.of(JdbcItemSprintRepository.ROLLUP_SEMANAS_SQL,
+                JdbcItemSprintRepository.ROLLUP_DIAS_SQL, JdbcItemSprintRepository.ROLLUP_QUANTIDADE_SQL)) {
+            assertUsaIndice(sql, "SEARCH item_sprint_rollup USING INTEGER PRIMARY KEY (rowid=?)", 1L);
+        }
+    }
+
+    @Test
+    void sobreposicaoDeSprintBuscaFaixaLimitadaDoIndice() throws SQLException {
+        assertUsaIndice(JdbcSprintRepository.EXISTS_OVERLAPPING_SQL + " LIMIT 1",
+                "COVERING INDEX idx_sprint_periodo (data_inicio>? AND data_inicio<?)", 19_600L, 20_014L, 20_000L);
+    }
+
+    /**
+     * A paginação por chave só é verificada onde um índice pode atendê-la: o cursor por id vira faixa na
+     * chave primária (ou no índice de tipo) e o filtro por tipo usa um índice com tipo. Sem filtro, ordenar por outra coluna exige
+     * ordenar a tabela inteira, o que nenhum índice de item_sprint evita.
+     */
+    @Test
+    void paginaPorChaveUsaChavePrimariaOuIndiceDoTipo() throws SQLException {
+        assertUsaIndice(pagina(null, PaginaItemDTO.Coluna.ID, 10L), "INTEGER PRIMARY KEY (rowid>?)");
+        assertUsaIndice(pagina(TipoItem.SUB, PaginaItemDTO.Coluna.ID, 10L), "idx_item_sprint_tipo (tipo=? AND rowid>?)");
+        assertUsaIndice(pagina(TipoItem.SUB, PaginaItemDTO.Coluna.ID, null), "idx_item_sprint_tipo (tipo=?)");
+        for (PaginaItemDTO.Coluna coluna : PaginaItemDTO.Coluna.values()) {
+            if (coluna != PaginaItemDTO.Coluna.ID) {
+                assertUsaIndice(pagina(TipoItem.SUB, coluna, 10L), "tipo=?)");
+            }
+        }
+    }
+
+    private static String pagina(TipoItem tipo, PaginaItemDTO.Coluna coluna, Long idCursor) {
+        List<Object> parametros = new ArrayList<>();
+        Object valorCursor = coluna == PaginaItemDTO.Coluna.ID ? idCursor : coluna.normalizar(null);
+        PaginaItemDTO pagina = new PaginaItemDTO(coluna, false, valorCursor, idCursor, false, 50);
+        return JdbcItemSprintRepository.sqlPagina(tipo, pagina, false, parametros);
+    }
+
+    /**
+     * Sprints consecutivas de duas semanas, cada uma com Features, Histórias/Tarefas e SUBs distribuídas
+     * entre os membros, além de projetos e aplicações para as junções das listagens.
+     */
+    private static void povoar(Connection conn) throws SQLException {
+        try (PreparedStatement projeto = conn.prepareStatement("INSERT INTO projeto (nome) VALUES (?)");
+             PreparedStatement aplicacao = conn.prepareStatement("INSERT INTO aplicacao (nome) VALUES (?)")) {
+            for (int p = 1; p <= PROJETOS; p++) {
+                projeto.setString(1, "Projeto " + p);
+                projeto.executeUpdate();
+                aplicacao.setString(1, "Aplicação " + p);
+                aplicacao.executeUpdate();
+            }
+        }
+        try (PreparedStatement membro = conn.prepareStatement(
+                "INSERT INTO membro (nome, funcao, ativo) VALUES (?, 'BACKEND', 1)")) {
+            for (int m = 1; m <= MEMBROS; m++) {
+                membro.setString(1, "Membro " + m);
+                membro.executeUpdate();
+            }
+        }
+        
+        long inicio = 20_000;
+        long proximoItem = 1;
+        try (PreparedStatement sprint = conn.prepareStatement(
+                     "INSERT INTO sprint (id, nome, data_inicio, duracao_semanas, data_fim) VALUES (?, ?, ?, 2, ?)");
+             PreparedStatement item = conn.prepareStatement(
+                     "INSERT INTO item_sprint (id, tipo, titulo, duracao_semanas, duracao_dias, status, sprint_id, " +
+                     "membro_id, item_pai_id, projeto_id, aplicacao_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int s = 1; s <= SPRINTS; s++) {
+                long dataInicio = inicio + (s - 1) * 14L;
+                sprint.setLong(1, s);
+                sprint.setString(2, "Sprint " + s);
+                sprint.setLong(3, dataInicio);
+                sprint.setLong(4, dataInicio + 11);
+                sprint.executeUpdate();
+                
+                for (int f = 0; f < FEATURES_POR_SPRINT; f++) {
+                    long feature = proximoItem++;
+                    inserirItem(item, feature, TipoItem.FEATURE, 2, null, s, null, null);
+                    for (int c = 0; c < FILHOS_POR_FEATURE; c++) {
+                        long filho = proximoItem++;
+                        TipoItem tipo = c % 2 == 0 ? TipoItem.HISTORIA : TipoItem.TAREFA;
+                        inserirItem(item, filho, tipo, 1, null, s, (long) (c % MEMBROS + 1), feature);
+                        for (int u = 0; u < SUBS_POR_FILHO; u++) {
+                            long membro = (filho + u) % MEMBROS + 1;
+                            inserirItem(item, proximoItem++, TipoItem.SUB, null, 1, s, membro, filho);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void inserirItem(PreparedStatement item, long id, TipoItem tipo, Integer semanas, Integer dias,
+                                    long sprintId, Long membroId, Long paiId) throws SQLException {
+        item.setLong(1, id);
+        item.setString(2, tipo.name());
+        item.setString(3, tipo.name() + " " + id);
+        item.setObject(4, semanas, Types.INTEGER);
+        item.setObject(5, dias, Types.INTEGER);
+        item.setString(6, StatusItem.values()[(int) (id % StatusItem.values().length)].name());
+        item.setLong(7, sprintId);
+        item.setObject(8, membroId, Types.INTEGER);
+        item.setObject(9, paiId, Types.INTEGER);
+        item.setLong(10, id % PROJETOS + 1);
+        item.setLong(11, (id / PROJETOS) % PROJETOS + 1);
+        item.executeUpdate();
+    }
+
+    /**
+     * Falha se o plano varrer alguma tabela (a varredura da CTE arvore é esperada) ou não citar o índice.
+     */
+    private static List<String> assertUsaIndice(String sql, String indice, Object... parametros) throws SQLException {
+        List<String> plano = planoDaConsulta(sql, parametros);
+        String texto = String.join("\n", plano);
+        
+        assertFalse(plano.stream().anyMatch(linha -> linha.matches("SCAN (?!arvore\\b).*")),
+                "Consulta varre uma tabela:\n" + texto);
+        assertTrue(texto.contains(indice), "Consulta não usa " + indice + ":\n" + texto);
+        return plano;
+    }
+
+    private static List<String> planoDaConsulta(String sql, Object... parametros) throws SQLException {
+        List<String> plano = new ArrayList<>();
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement("EXPLAIN QUERY PLAN " + sql)) {
+            int quantidade = pstmt.getParameterMetaData().getParameterCount();
+            for (int i = 0; i < quantidade; i++) {
+                pstmt.setObject(i + 1, i < parametros.length ? parametros[i] : null);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    plano.add(rs.getString("detail"));
+                }
+            }
+        }
+        return plano;
+    }
+}
@@ -0,0 +1,143 @@
+package br.tec.jessebezerra.app.service;
+
+import br.tec.jessebezerra.app.dto.ItemSprintDTO;
+import br.tec.jessebezerra.app.entity.TipoItem;
+import br.tec.jessebezerra.app.service.TimelineService.TimelineItem;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica a hierarquia montada por {@link TimelineHierarchyBuilder} em listas planas embaralhadas
+ * de cerca de 5 mil e 50 mil itens. A medição de crescimento do tempo é um benchmark, fora do mvn test
+ * (rode com mvn test -Pbenchmark).
+ */
+class TimelineHierarchyBuilderTest {
+
+    // Cada Feature gera 20 itens: ela, 3 filhos (História/Tarefa), 5 SUBs por filho e 1 órfão
+    private static final int FILHOS_POR_FEATURE = 3;
+    private static final int SUBS_POR_FILHO = 5;
+    private static final int ITENS_POR_FEATURE = 1 + FILHOS_POR_FEATURE * (1 + SUBS_POR_FILHO) + 1;
+    private static final int FEATURES_5K = 5_000 / ITENS_POR_FEATURE;
+    private static final int FEATURES_50K = 50_000 / ITENS_POR_FEATURE;
+    /** Razão máxima entre o tempo por item com 50 mil e com 5 mil itens; O(n²) daria cerca de 10. */
+    private static final double RAZAO_MAXIMA = 5.0;
+
+    @Test
+    void montaHierarquiaCom5MilItens() {
+        verificarHierarquia(gerar(FEATURES_5K), FEATURES_5K);
+    }
+
+    @Test
+    void montaHierarquiaCom50MilItens() {
+        verificarHierarquia(gerar(FEATURES_50K), FEATURES_50K);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void tempoCresceDeFormaAproximadamenteLinear() {
+        List<ItemSprintDTO> pequena = gerar(FEATURES_5K);
+        List<ItemSprintDTO> grande = gerar(FEATURES_50K);
+        // Aquecimento do JIT antes das medições
+        for (int i = 0; i < 5; i++) {
+            medir(pequena, 10);
+            medir(grande, 1);
+        }
+        
+        // Cada amostra processa o mesmo total de itens nos dois tamanhos; vale a menor de várias
+        long tempoPequena = Long.MAX_VALUE;
+        long tempoGrande = Long.MAX_VALUE;
+        for (int i = 0; i < 7; i++) {
+            tempoPequena = Math.min(tempoPequena, medir(pequena, 10));
+            tempoGrande = Math.min(tempoGrande, medir(grande, 1));
+        }
+        
+        double razao = (double) tempoGrande / tempoPequena;
+        assertTrue(razao < RAZAO_MAXIMA, String.format(
+                "Tempo por item com 50 mil itens é %.1fx o de 5 mil (máximo %.1fx)", razao, RAZAO_MAXIMA));
+    }
+
+    private static long medir(List<ItemSprintDTO> itens, int repeticoes) {
+        long inicio = System.nanoTime();
+        for (int i = 0; i < repeticoes; i++) {
+            new TimelineHierarchyBuilder(itens).build();
+        }
+        return System.nanoTime() - inicio;
+    }
+
+    /**
+     * Confere que nada se perde nem se repete, que cada item aparece logo abaixo do seu pai na
+     * emissão em profundidade, com um nível a mais, e que os órfãos vêm no fim, no nível 0.
+     */
+    private static void verificarHierarquia(List<ItemSprintDTO> itens, int features) {
+        List<TimelineItem> timeline = new TimelineHierarchyBuilder(itens).build();
+        assertEquals(itens.size(), timeline.size());
+        
+        Set<Long> vistos = new HashSet<>();
+        ItemSprintDTO[] ultimoPorNivel = new ItemSprintDTO[3];
+        int orfaos = 0;
+        for (TimelineItem linha : timeline) {
+            ItemSprintDTO item = linha.getItem();
+            int nivel = linha.getIndentLevel();
+            assertTrue(vistos.add(item.getId()), "Item repetido: " + item.getId());
+            
+            if (nivel == 0) {
+                assertNull(item.getItemPaiId());
+                if (item.getTipo() == TipoItem.FEATURE) {
+                    assertEquals(0, orfaos, "Feature emitida depois dos órfãos: " + item.getId());
+                } else {
+                    orfaos++;
+                }
+            } else {
+                ItemSprintDTO pai = ultimoPorNivel[nivel - 1];
+                assertNotNull(pai, "Item sem pai emitido antes dele: " + item.getId());
+                assertEquals(pai.getId(), item.getItemPaiId(), "Item fora do seu pai: " + item.getId());
+            }
+            ultimoPorNivel[nivel] = item;
+        }
+        assertEquals(features, orfaos);
+    }
+
+    /**
+     * Gera a lista plana com ids sequenciais e a embaralha com semente fixa, como se viesse fora de ordem.
+     */
+    private static List<ItemSprintDTO> gerar(int features) {
+        List<ItemSprintDTO> itens = new ArrayList<>(features * ITENS_POR_FEATURE);
+        long[] proximoId = {1};
+        for (int f = 0; f < features; f++) {
+            ItemSprintDTO feature = novo(proximoId, TipoItem.FEATURE, null, itens);
+            for (int c = 0; c < FILHOS_POR_FEATURE; c++) {
+                TipoItem tipo = c % 2 == 0 ? TipoItem.HISTORIA : TipoItem.TAREFA;
+                ItemSprintDTO filho = novo(proximoId, tipo, feature.getId(), itens);
+                for (int s = 0; s < SUBS_POR_FILHO; s++) {
+                    novo(proximoId, TipoItem.SUB, filho.getId(), itens);
+                }
+            }
+            TipoItem tipoOrfao = f % 3 == 0 ? TipoItem.SUB : f % 3 == 1 ? TipoItem.HISTORIA : TipoItem.TAREFA;
+            novo(proximoId, tipoOrfao, null, itens);
+        }
+        Collections.shuffle(itens, new Random(42));
+        return itens;
+    }
+
+    private static ItemSprintDTO novo(long[] proximoId, TipoItem tipo, Long itemPaiId, List<ItemSprintDTO> itens) {
+        ItemSprintDTO item = new ItemSprintDTO();
+        item.setId(proximoId[0]++);
+        item.setTipo(tipo);
+        item.setTitulo(tipo.name() + " " + item.getId());
+        item.setItemPaiId(itemPaiId);
+        itens.add(item);
+        return item;
+    }
+}